@@ -0,0 +1,52 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Executor shared by all the asynchronous activities, and default execution policy of the activities.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkActivitiesConfig {
+
+  public static final int DEFAULT_POOL_SIZE = 20;
+  public static final int DEFAULT_QUEUE_SIZE = 1_000;
+
+  /**
+   * Maximum number of asynchronous activities executed concurrently.
+   */
+  private int poolSize = DEFAULT_POOL_SIZE;
+
+  /**
+   * Maximum number of asynchronous activity executions waiting for a thread, 0 for none.
+   */
+  private int queueSize = DEFAULT_QUEUE_SIZE;
+
+  /**
+   * Run the activities on virtual threads, only supported from Java 21, platform threads being used otherwise.
+   */
+  private boolean virtualThreads = false;
+
+  /**
+   * What to do with an activity execution submitted while the pool and the queue are full.
+   */
+  private BdkActivityRejectionPolicy rejectionPolicy = BdkActivityRejectionPolicy.CALLER_RUNS;
+
+  /**
+   * Maximum duration of an activity execution in milliseconds, after which it is cancelled, 0 for no limit.
+   */
+  private long maxDurationMillis = 0;
+
+  /**
+   * Maximum number of concurrent executions of a same activity, the following events being ignored, 0 for no limit.
+   */
+  private int maxConcurrentExecutions = 0;
+
+  /**
+   * Maximum number of concurrent executions of a same activity triggered by a same user, 0 for no limit.
+   */
+  private int maxConcurrentExecutionsPerUser = 0;
+}
@@ -0,0 +1,33 @@
+package com.symphony.bdk.core.config.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.apiguardian.api.API;
+
+/**
+ * What to do with an asynchronous activity execution submitted while all the activity threads are busy and the queue
+ * is full.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public enum BdkActivityRejectionPolicy {
+
+  /**
+   * The activity is executed by the thread handling the event, slowing down the events processing.
+   */
+  CALLER_RUNS("callerRuns"),
+
+  /**
+   * The activity execution is dropped and a warning is logged.
+   */
+  DISCARD("discard");
+
+  private final String name;
+
+  BdkActivityRejectionPolicy(String name) {
+    this.name = name;
+  }
+
+  @JsonValue
+  public String getName() {
+    return name;
+  }
+}
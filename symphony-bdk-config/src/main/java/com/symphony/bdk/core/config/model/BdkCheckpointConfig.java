@@ -0,0 +1,28 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Persistence of the datafeed or datahose ack id, so that a restarted bot resumes where it left off.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkCheckpointConfig {
+
+  public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000L;
+
+  private boolean enabled = false;
+
+  /**
+   * Checkpoint file, defaults to a file in the datafeed id file path.
+   */
+  private String path;
+
+  /**
+   * Interval between two writes of the latest checkpoint to the disk.
+   */
+  private long flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+}
@@ -25,6 +25,11 @@ public class BdkClientConfig extends BdkServerConfig {
     this.readTimeout = null;
     this.connectionPoolMax = null;
     this.connectionPoolPerRoute = null;
+    this.connectionMaxIdleTime = null;
+    this.connectionTimeToLive = null;
+    this.connectionValidateAfterInactivity = null;
+    this.http2 = null;
+    this.compression = null;
     this.defaultHeaders = null;
   }
 
@@ -77,6 +82,31 @@ public class BdkClientConfig extends BdkServerConfig {
     return thisOrParent(connectionPoolPerRoute, parentConfig::getConnectionPoolPerRoute);
   }
 
+  @Override
+  public Integer getConnectionMaxIdleTime() {
+    return thisOrParent(connectionMaxIdleTime, parentConfig::getConnectionMaxIdleTime);
+  }
+
+  @Override
+  public Integer getConnectionTimeToLive() {
+    return thisOrParent(connectionTimeToLive, parentConfig::getConnectionTimeToLive);
+  }
+
+  @Override
+  public Integer getConnectionValidateAfterInactivity() {
+    return thisOrParent(connectionValidateAfterInactivity, parentConfig::getConnectionValidateAfterInactivity);
+  }
+
+  @Override
+  public Boolean getHttp2() {
+    return thisOrParent(http2, parentConfig::getHttp2);
+  }
+
+  @Override
+  public Boolean getCompression() {
+    return thisOrParent(compression, parentConfig::getCompression);
+  }
+
   @Override
   public BdkProxyConfig getProxy() {
     return thisOrParent(proxy, parentConfig::getProxy);
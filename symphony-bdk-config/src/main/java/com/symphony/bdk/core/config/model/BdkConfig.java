@@ -27,6 +27,7 @@ public class BdkConfig extends BdkServerConfig {
   private BdkDatafeedConfig datafeed = new BdkDatafeedConfig();
   private BdkDatahoseConfig datahose = new BdkDatahoseConfig();
   private BdkCommonJwtConfig commonJwt = new BdkCommonJwtConfig();
+  private BdkActivitiesConfig activities = new BdkActivitiesConfig();
 
   /**
    * Check if OBO is configured. Checks {@link BdkExtAppConfig#isConfigured()} on field {@link #app}.
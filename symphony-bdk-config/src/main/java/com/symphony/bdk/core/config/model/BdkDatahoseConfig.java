@@ -14,4 +14,33 @@ public class BdkDatahoseConfig {
   private BdkRetryConfig retry = new BdkRetryConfig(BdkRetryConfig.INFINITE_MAX_ATTEMPTS);
   private String tag = "";
   private List<String> eventTypes = null;
+
+  /**
+   * Maximum number of batches being handled while the next one is already read, 0 to read the next batch once the
+   * current one has been handled.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  private int maxUnackedBatches = 0;
+
+  /**
+   * Number of loops concurrently reading the feed, each one with its own ack id.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  private int readers = 1;
+
+  /**
+   * Decodes the read events as a stream, only materializing the payloads of the event types handled by at
+   * least one subscribed listener. The events of other types are dropped.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  private boolean selectiveDecoding = false;
+
+  @API(status = API.Status.EXPERIMENTAL)
+  private BdkDeduplicationConfig deduplication = new BdkDeduplicationConfig();
+
+  @API(status = API.Status.EXPERIMENTAL)
+  private BdkCheckpointConfig checkpoint = new BdkCheckpointConfig();
+
+  @API(status = API.Status.EXPERIMENTAL)
+  private BdkEventDispatchConfig event = new BdkEventDispatchConfig();
 }
@@ -0,0 +1,35 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * De-duplication of the events re-delivered by the datafeed or the datahose, based on their ids.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkDeduplicationConfig {
+
+  public static final int DEFAULT_MAX_SIZE = 10_000;
+  public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+
+  private boolean enabled = false;
+
+  /**
+   * Number of most recent event ids that are exactly remembered.
+   */
+  private int maxSize = DEFAULT_MAX_SIZE;
+
+  /**
+   * Number of event ids additionally remembered by a Bloom filter once they have been evicted from the most recent
+   * ones, 0 to disable the Bloom filter.
+   */
+  private int bloomFilterSize = 0;
+
+  /**
+   * Probability for an event remembered by the Bloom filter only to be wrongly considered as a duplicate.
+   */
+  private double falsePositiveRate = DEFAULT_FALSE_POSITIVE_RATE;
+}
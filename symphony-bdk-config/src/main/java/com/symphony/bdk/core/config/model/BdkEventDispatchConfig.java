@@ -0,0 +1,32 @@
+package com.symphony.bdk.core.config.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apiguardian.api.API;
+
+/**
+ * Dispatch of the real-time events to the application event listeners, only used by the Spring Boot starter.
+ */
+@Getter
+@Setter
+@API(status = API.Status.EXPERIMENTAL)
+public class BdkEventDispatchConfig {
+
+  public static final int DEFAULT_POOL_SIZE = 20;
+  public static final int DEFAULT_QUEUE_SIZE = 1_000;
+
+  /**
+   * Dispatch the events asynchronously, the events of a same stream still being handled in order.
+   */
+  private boolean async = true;
+
+  /**
+   * Maximum number of events dispatched concurrently.
+   */
+  private int poolSize = DEFAULT_POOL_SIZE;
+
+  /**
+   * Maximum number of events waiting to be dispatched, after which reading the feed waits for them to be handled.
+   */
+  private int queueSize = DEFAULT_QUEUE_SIZE;
+}
@@ -24,6 +24,11 @@ public class BdkServerConfig {
   protected Integer readTimeout;
   protected Integer connectionPoolMax;
   protected Integer connectionPoolPerRoute;
+  protected Integer connectionMaxIdleTime;
+  protected Integer connectionTimeToLive;
+  protected Integer connectionValidateAfterInactivity;
+  protected Boolean http2;
+  protected Boolean compression;
   protected Map<String, String> defaultHeaders;
 
   public String getBasePath() {
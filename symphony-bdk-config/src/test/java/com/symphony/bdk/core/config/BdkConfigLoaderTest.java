@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.symphony.bdk.core.config.exception.BdkConfigException;
+import com.symphony.bdk.core.config.model.BdkActivitiesConfig;
+import com.symphony.bdk.core.config.model.BdkActivityRejectionPolicy;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkLoadBalancingConfig;
 import com.symphony.bdk.core.config.model.BdkLoadBalancingMode;
@@ -119,6 +121,28 @@ class BdkConfigLoaderTest {
     assertConfigMatchesValuesFromGlobalConfigFile(config);
   }
 
+  @Test
+  void parseActivitiesField() throws BdkConfigException {
+    final BdkConfig config = BdkConfigLoader.loadFromClasspath("/config/config_activities.yaml");
+    final BdkActivitiesConfig activities = config.getActivities();
+
+    assertThat(activities.getPoolSize()).isEqualTo(50);
+    assertThat(activities.getQueueSize()).isEqualTo(0);
+    assertThat(activities.isVirtualThreads()).isTrue();
+    assertThat(activities.getRejectionPolicy()).isEqualTo(BdkActivityRejectionPolicy.DISCARD);
+  }
+
+  @Test
+  void defaultActivitiesField() throws BdkConfigException {
+    final BdkConfig config = BdkConfigLoader.loadFromClasspath("/config/config_lb.yaml");
+    final BdkActivitiesConfig activities = config.getActivities();
+
+    assertThat(activities.getPoolSize()).isEqualTo(BdkActivitiesConfig.DEFAULT_POOL_SIZE);
+    assertThat(activities.getQueueSize()).isEqualTo(BdkActivitiesConfig.DEFAULT_QUEUE_SIZE);
+    assertThat(activities.isVirtualThreads()).isFalse();
+    assertThat(activities.getRejectionPolicy()).isEqualTo(BdkActivityRejectionPolicy.CALLER_RUNS);
+  }
+
   @Test
   void parseLbAgentField() throws BdkConfigException {
     final BdkConfig config = BdkConfigLoader.loadFromClasspath("/config/config_lb.yaml");
@@ -201,6 +225,9 @@ class BdkConfigLoaderTest {
     assertThat(config.getPod().getReadTimeout()).isEqualTo(30000);
     assertThat(config.getPod().getConnectionPoolMax()).isEqualTo(20);
     assertThat(config.getPod().getConnectionPoolPerRoute()).isEqualTo(10);
+    assertThat(config.getPod().getConnectionMaxIdleTime()).isEqualTo(20000);
+    assertThat(config.getPod().getConnectionTimeToLive()).isNull();
+    assertThat(config.getPod().getHttp2()).isNull();
     assertThat(config.getPod().getDefaultHeaders().get("Connection")).isEqualTo("Keep-Alive");
     assertThat(config.getPod().getDefaultHeaders().get("Keep-Alive")).isEqualTo("close");
 
@@ -212,6 +239,11 @@ class BdkConfigLoaderTest {
     assertThat(config.getAgent().getReadTimeout()).isEqualTo(60000);
     assertThat(config.getAgent().getConnectionPoolMax()).isEqualTo(30);
     assertThat(config.getAgent().getConnectionPoolPerRoute()).isEqualTo(20);
+    assertThat(config.getAgent().getConnectionMaxIdleTime()).isEqualTo(20000);
+    assertThat(config.getAgent().getConnectionTimeToLive()).isEqualTo(300000);
+    assertThat(config.getAgent().getConnectionValidateAfterInactivity()).isEqualTo(1000);
+    assertThat(config.getAgent().getHttp2()).isTrue();
+    assertThat(config.getAgent().getCompression()).isFalse();
     assertThat(config.getAgent().getDefaultHeaders().get("Connection")).isEqualTo("Keep-Alive");
     assertThat(config.getAgent().getDefaultHeaders().get("Keep-Alive")).isEqualTo("timeout=5, max=1000");
 
@@ -0,0 +1,103 @@
+package com.symphony.bdk.core.benchmark;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4User;
+import com.symphony.bdk.http.api.util.ObjectMapperProvider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the (de)serialization of datafeed events and messages by the shared mapper, with and without the Blackbird
+ * module. Run with {@code ./gradlew :symphony-bdk-core:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMapperBenchmark {
+
+  @Param({"false", "true"})
+  public boolean blackbird;
+
+  private V4Event event;
+  private V4Message message;
+  private byte[] eventJson;
+  private byte[] messageJson;
+  private ObjectReader eventReader;
+  private ObjectWriter eventWriter;
+  private ObjectReader messageReader;
+  private ObjectWriter messageWriter;
+
+  @Setup
+  public void setUp() throws IOException {
+    final ObjectMapper mapper = ObjectMapperProvider.createMapper(this.blackbird);
+
+    final V4User user = new V4User().userId(12345L).displayName("John Doe").email("john.doe@symphony.com");
+    this.message = new V4Message()
+        .messageId("Lw1kiWU6dYbX7c8pJQrXpX___oNqxLxWbQ")
+        .timestamp(1_700_000_000_000L)
+        .message("<div data-format=\"PresentationML\" data-version=\"2.0\" class=\"wysiwyg\"><p>Hello "
+            + "<span class=\"entity\" data-entity-id=\"0\">@bot</span></p></div>")
+        .data("{\"0\":{\"id\":[{\"type\":\"com.symphony.user.userId\",\"value\":\"67890\"}],"
+            + "\"type\":\"com.symphony.user.mention\"}}")
+        .user(user)
+        .stream(new V4Stream().streamId("fXSERxn8IDuw3qEd7VvYi3___oNr1QGadA"));
+    this.event = new V4Event()
+        .id("2TvBaU")
+        .messageId(this.message.getMessageId())
+        .timestamp(this.message.getTimestamp())
+        .type("MESSAGESENT")
+        .initiator(new V4Initiator().user(user))
+        .payload(new V4Payload().messageSent(new V4MessageSent().message(this.message)));
+
+    this.eventReader = mapper.readerFor(V4Event.class);
+    this.eventWriter = mapper.writerFor(V4Event.class);
+    this.messageReader = mapper.readerFor(V4Message.class);
+    this.messageWriter = mapper.writerFor(V4Message.class);
+    this.eventJson = this.eventWriter.writeValueAsBytes(this.event);
+    this.messageJson = this.messageWriter.writeValueAsBytes(this.message);
+  }
+
+  @Benchmark
+  public V4Event deserializeEvent() throws IOException {
+    return this.eventReader.readValue(this.eventJson);
+  }
+
+  @Benchmark
+  public byte[] serializeEvent() throws IOException {
+    return this.eventWriter.writeValueAsBytes(this.event);
+  }
+
+  @Benchmark
+  public V4Message deserializeMessage() throws IOException {
+    return this.messageReader.readValue(this.messageJson);
+  }
+
+  @Benchmark
+  public byte[] serializeMessage() throws IOException {
+    return this.messageWriter.writeValueAsBytes(this.message);
+  }
+}
@@ -11,11 +11,14 @@ import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.application.ApplicationService;
 import com.symphony.bdk.core.service.connection.ConnectionService;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.DatafeedVersion;
 import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
 import com.symphony.bdk.core.service.datafeed.impl.DatafeedLoopV1;
 import com.symphony.bdk.core.service.datafeed.impl.DatafeedLoopV2;
 import com.symphony.bdk.core.service.datafeed.impl.DatahoseLoopImpl;
+import com.symphony.bdk.core.service.datafeed.impl.MultiReaderDatahoseLoop;
+import com.symphony.bdk.core.service.datafeed.impl.MultiReaderLoop;
 import com.symphony.bdk.core.service.disclaimer.DisclaimerService;
 import com.symphony.bdk.core.service.health.HealthService;
 import com.symphony.bdk.core.service.message.MessageService;
@@ -75,9 +78,16 @@ class ServiceFactory {
   private final TemplateEngine templateEngine;
   private final BdkConfig config;
   private final RetryWithRecoveryBuilder<?> retryBuilder;
+  private final DatafeedMetrics datafeedMetrics;
 
   public ServiceFactory(ApiClientFactory apiClientFactory, AuthSession authSession, BdkConfig config) {
+    this(apiClientFactory, authSession, config, DatafeedMetrics.NOOP);
+  }
+
+  public ServiceFactory(ApiClientFactory apiClientFactory, AuthSession authSession, BdkConfig config,
+      DatafeedMetrics datafeedMetrics) {
     this.config = config;
+    this.datafeedMetrics = datafeedMetrics;
     this.podClient = apiClientFactory.getPodClient();
     this.agentClient = apiClientFactory.getAgentClient();
     this.datafeedAgentClient = apiClientFactory.getDatafeedAgentClient();
@@ -138,14 +148,36 @@ class ServiceFactory {
    * @return a new {@link DatafeedLoop} instance.
    */
   public DatafeedLoop getDatafeedLoop(UserV2 botInfo) {
+    if (DatafeedVersion.of(config.getDatafeed().getVersion()) == DatafeedVersion.V2
+        && config.getDatafeed().getReaders() > 1) {
+      final MultiReaderLoop datafeedLoop =
+          MultiReaderLoop.datafeed(new DatafeedApi(datafeedAgentClient), authSession, config, botInfo);
+      datafeedLoop.setMetrics(this.datafeedMetrics);
+      return datafeedLoop;
+    }
     if (DatafeedVersion.of(config.getDatafeed().getVersion()) == DatafeedVersion.V2) {
-      return new DatafeedLoopV2(new DatafeedApi(datafeedAgentClient), authSession, config, botInfo);
+      final DatafeedLoopV2 datafeedLoop =
+          new DatafeedLoopV2(new DatafeedApi(datafeedAgentClient), authSession, config, botInfo);
+      datafeedLoop.setMetrics(this.datafeedMetrics);
+      return datafeedLoop;
     }
-    return new DatafeedLoopV1(new DatafeedApi(datafeedAgentClient), authSession, config, botInfo);
+    final DatafeedLoopV1 datafeedLoop =
+        new DatafeedLoopV1(new DatafeedApi(datafeedAgentClient), authSession, config, botInfo);
+    datafeedLoop.setMetrics(this.datafeedMetrics);
+    return datafeedLoop;
   }
 
   public DatahoseLoop getDatahoseLoop(UserV2 botInfo) {
-    return new DatahoseLoopImpl(new DatafeedApi(datahoseAgentClient), authSession, config, botInfo);
+    if (config.getDatahose().getReaders() > 1) {
+      final MultiReaderDatahoseLoop datahoseLoop =
+          MultiReaderLoop.datahose(new DatafeedApi(datahoseAgentClient), authSession, config, botInfo);
+      datahoseLoop.setMetrics(this.datafeedMetrics);
+      return datahoseLoop;
+    }
+    final DatahoseLoopImpl datahoseLoop =
+        new DatahoseLoopImpl(new DatafeedApi(datahoseAgentClient), authSession, config, botInfo);
+    datahoseLoop.setMetrics(this.datafeedMetrics);
+    return datahoseLoop;
   }
 
   /**
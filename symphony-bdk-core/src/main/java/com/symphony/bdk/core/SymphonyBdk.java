@@ -1,5 +1,6 @@
 package com.symphony.bdk.core;
 
+import com.symphony.bdk.core.activity.ActivityExecutor;
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.AuthenticatorFactory;
@@ -15,6 +16,7 @@ import com.symphony.bdk.core.retry.RetryWithRecoveryBuilder;
 import com.symphony.bdk.core.service.application.ApplicationService;
 import com.symphony.bdk.core.service.connection.ConnectionService;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
 import com.symphony.bdk.core.service.disclaimer.DisclaimerService;
 import com.symphony.bdk.core.service.health.HealthService;
@@ -42,7 +44,7 @@ import javax.annotation.Nullable;
  */
 @Slf4j
 @API(status = API.Status.STABLE)
-public class SymphonyBdk {
+public class SymphonyBdk implements AutoCloseable {
 
   private final BdkConfig config;
 
@@ -53,6 +55,7 @@ public class SymphonyBdk {
   private final UserV2 botInfo;
   private final DatafeedLoop datafeedLoop;
   private final DatahoseLoop datahoseLoop;
+  private final ActivityExecutor activityExecutor;
   private final ActivityRegistry activityRegistry;
   private final StreamService streamService;
   private final UserService userService;
@@ -95,9 +98,22 @@ public class SymphonyBdk {
       @Nullable ApiClientFactory apiClientFactory,
       @Nullable AuthenticatorFactory authenticatorFactory
   ) throws AuthInitializationException, AuthUnauthorizedException {
+    this(config, apiClientFactory, authenticatorFactory, null);
+  }
+
+  protected SymphonyBdk(
+      @Nonnull BdkConfig config,
+      @Nullable ApiClientFactory apiClientFactory,
+      @Nullable AuthenticatorFactory authenticatorFactory,
+      @Nullable DatafeedMetrics datafeedMetrics
+  ) throws AuthInitializationException, AuthUnauthorizedException {
 
     this.config = config;
 
+    if (datafeedMetrics == null) {
+      datafeedMetrics = DatafeedMetrics.NOOP;
+    }
+
     if (apiClientFactory == null) {
       apiClientFactory = new ApiClientFactory(this.config);
     }
@@ -114,7 +130,7 @@ public class SymphonyBdk {
     if (config.isBotConfigured()) {
       this.botSession = authenticatorFactory.getBotAuthenticator().authenticateBot();
       // service init
-      serviceFactory = new ServiceFactory(apiClientFactory, this.botSession, config);
+      serviceFactory = new ServiceFactory(apiClientFactory, this.botSession, config, datafeedMetrics);
     } else {
       log.info(
           "Bot (service account) credentials have not been configured. You can however use services in OBO mode if app authentication is configured.");
@@ -141,7 +157,10 @@ public class SymphonyBdk {
     }
 
     // setup activities
-    this.activityRegistry = this.datafeedLoop != null ? new ActivityRegistry(this.botInfo, this.datafeedLoop) : null;
+    this.activityExecutor = this.datafeedLoop != null ? new ActivityExecutor(config.getActivities()) : null;
+    this.activityRegistry =
+        this.datafeedLoop != null ? new ActivityRegistry(this.botInfo, this.datafeedLoop, datafeedMetrics,
+            this.activityExecutor) : null;
 
     // setup extension service
     this.extensionService = new ExtensionService(
@@ -349,6 +368,18 @@ public class SymphonyBdk {
     return this.extensionService;
   }
 
+  /**
+   * Stops the threads executing the asynchronous activities, once the submitted executions have completed. The
+   * datafeed and datahose loops are not stopped.
+   */
+  @Override
+  @API(status = API.Status.EXPERIMENTAL)
+  public void close() {
+    if (this.activityExecutor != null) {
+      this.activityExecutor.close();
+    }
+  }
+
   private <T> T getOrThrowNoBotConfig(T field) {
     return Optional.ofNullable(field).orElseThrow(BotNotConfiguredException::new);
   }
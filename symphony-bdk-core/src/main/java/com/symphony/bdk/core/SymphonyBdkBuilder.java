@@ -5,6 +5,7 @@ import com.symphony.bdk.core.auth.exception.AuthInitializationException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.client.ApiClientFactory;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.util.ServiceLookup;
 import com.symphony.bdk.extension.BdkExtension;
 import com.symphony.bdk.http.api.ApiClientBuilderProvider;
@@ -32,6 +33,7 @@ public class SymphonyBdkBuilder {
   private ApiClientBuilderProvider apiClientBuilderProvider;
   private AuthenticatorFactory authenticatorFactory;
   private ApiClientFactory apiClientFactory;
+  private DatafeedMetrics datafeedMetrics;
   private final List<Class<? extends BdkExtension>> extensions = new ArrayList<>();
 
   /**
@@ -82,6 +84,17 @@ public class SymphonyBdkBuilder {
     return this;
   }
 
+  /**
+   * With custom {@link DatafeedMetrics} instance, used to measure the datafeed, datahose and activities pipeline.
+   *
+   * @param datafeedMetrics a custom {@link DatafeedMetrics} instance.
+   * @return updated builder.
+   */
+  public SymphonyBdkBuilder datafeedMetrics(@Nullable DatafeedMetrics datafeedMetrics) {
+    this.datafeedMetrics = datafeedMetrics;
+    return this;
+  }
+
   /**
    * Registers a {@link BdkExtension}.
    *
@@ -118,7 +131,8 @@ public class SymphonyBdkBuilder {
       this.authenticatorFactory = new AuthenticatorFactory(this.config, this.apiClientFactory);
     }
 
-    final SymphonyBdk bdk = new SymphonyBdk(this.config, this.apiClientFactory, this.authenticatorFactory);
+    final SymphonyBdk bdk = new SymphonyBdk(this.config, this.apiClientFactory, this.authenticatorFactory,
+        this.datafeedMetrics);
     this.extensions.forEach(bdk.extensions()::register);
     return bdk;
   }
@@ -1,10 +1,13 @@
 package com.symphony.bdk.core.activity;
 
+import com.symphony.bdk.core.activity.model.ActivityExecutionPolicy;
 import com.symphony.bdk.core.activity.model.ActivityInfo;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.EventPayload;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.core.service.datafeed.util.DerivedEventData;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 
 import lombok.SneakyThrows;
@@ -13,9 +16,6 @@ import org.apiguardian.api.API;
 
 import java.lang.reflect.ParameterizedType;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
 /**
@@ -26,15 +26,9 @@ import java.util.function.Consumer;
 public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
 
   private ActivityInfo info;
-  private final ExecutorService executorService;
-
-  public AbstractActivity() {
-    ThreadFactory threadFactory = new ThreadFactoryBuilder()
-        .setName("Activity-Async-Thread")
-        .setPriority(Thread.NORM_PRIORITY)
-        .build();
-    executorService = Executors.newCachedThreadPool(threadFactory);
-  }
+  private DatafeedMetrics metrics = DatafeedMetrics.NOOP;
+  private ActivityExecutor executor;
+  private volatile ActivityLimiter limiter;
 
   /**
    * Any kind of activity must provide an {@link ActivityMatcher} in order to detect if it can be applied to a certain
@@ -68,6 +62,28 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
    */
   protected abstract ActivityInfo info();
 
+  /**
+   * Defines the limits enforced around the executions of this activity. By default, the policy configured under the
+   * {@code activities} field of the BDK configuration applies.
+   *
+   * @return the execution policy of this activity, null to use the default one.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  protected ActivityExecutionPolicy executionPolicy() {
+    return null;
+  }
+
+  /**
+   * Called once an execution has been cancelled because it lasted more than the maximum duration of the activity, for
+   * instance to notify the user. This method is called from a BDK thread and must therefore return quickly.
+   *
+   * @param context The activity context object.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  protected void onActivityTimeout(C context) {
+    // nothing is done here by default
+  }
+
   /**
    * Retrieve activity details. Can be used for metrics, reporting or help generation.
    *
@@ -82,6 +98,26 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
     return this.info;
   }
 
+  /**
+   * Sets the {@link DatafeedMetrics} recorder used to measure the activity executions.
+   *
+   * @param metrics the metrics recorder, {@link DatafeedMetrics#NOOP} is used if null.
+   */
+  void setMetrics(DatafeedMetrics metrics) {
+    this.metrics = metrics == null ? DatafeedMetrics.NOOP : metrics;
+  }
+
+  /**
+   * Sets the executor running the activity when {@link #isAsynchronous()} or limited in duration, and providing its
+   * default {@link ActivityExecutionPolicy}.
+   *
+   * @param executor the executor shared by the registered activities, {@link ActivityExecutor#getDefault()} is used if
+   *                 null.
+   */
+  void setExecutor(ActivityExecutor executor) {
+    this.executor = executor;
+  }
+
   protected boolean isAsynchronous() {
     return false;
   }
@@ -113,15 +149,76 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
     // executes matcher with no failure
     final Optional<Boolean> matcherResult = this.executeMatcher(context);
     if (matcherResult.isPresent() && Boolean.TRUE.equals(matcherResult.get())) {
-      if (isAsynchronous()) {
-        executorService.submit(() -> executeActivity(context));
-      } else {
+      this.execute(initiator, context);
+    }
+  }
+
+  private void execute(V4Initiator initiator, C context) {
+    final Long userId = initiator != null && initiator.getUser() != null ? initiator.getUser().getUserId() : null;
+    final ActivityLimiter activityLimiter = this.getLimiter();
+    if (!activityLimiter.tryAcquire(userId)) {
+      log.warn("Activity '{}' skipped, too many concurrent executions", this.getMetricsName());
+      this.metrics.incrementRejectedActivityExecutions(this.getMetricsName());
+      return;
+    }
+
+    final ActivityExecutionPolicy policy = this.getExecutionPolicy();
+    if (!isAsynchronous() && !policy.hasMaxDuration()) {
+      try {
         executeActivity(context);
+      } finally {
+        activityLimiter.release(userId);
       }
+      return;
+    }
+
+    // the data derived from the event remains shared with the listeners when executed in another thread
+    final DerivedEventData derivedData = DerivedEventData.current();
+    final ActivityExecution execution = new ActivityExecution(
+        () -> DerivedEventData.runWith(derivedData, () -> executeActivity(context)),
+        policy.hasMaxDuration() ? policy.maxDuration() : null,
+        () -> this.timeout(context, policy),
+        () -> activityLimiter.release(userId));
+    if (isAsynchronous()) {
+      this.getExecutor().execute(execution);
+    } else {
+      this.getExecutor().executeAndAwait(execution);
     }
   }
 
+  private void timeout(C context, ActivityExecutionPolicy policy) {
+    log.warn("Activity '{}' cancelled, its execution lasted more than {} ms", this.getMetricsName(),
+        policy.maxDuration().toMillis());
+    this.metrics.incrementActivityTimeouts(this.getMetricsName());
+    try {
+      this.onActivityTimeout(context);
+    } catch (Exception ex) {
+      log.warn("Activity timeout callback failed.", ex);
+    }
+  }
+
+  private ActivityExecutor getExecutor() {
+    return this.executor == null ? ActivityExecutor.getDefault() : this.executor;
+  }
+
+  private ActivityExecutionPolicy getExecutionPolicy() {
+    final ActivityExecutionPolicy policy = this.executionPolicy();
+    return policy != null ? policy : this.getExecutor().getDefaultExecutionPolicy();
+  }
+
+  private ActivityLimiter getLimiter() {
+    if (this.limiter == null) {
+      synchronized (this) {
+        if (this.limiter == null) {
+          this.limiter = new ActivityLimiter(this.getExecutionPolicy());
+        }
+      }
+    }
+    return this.limiter;
+  }
+
   private void executeActivity(C context) {
+    final long start = System.nanoTime();
     try {
       log.trace("Before activity execution");
       this.onActivity(context);
@@ -129,9 +226,16 @@ public abstract class AbstractActivity<E, C extends ActivityContext<E>> {
       throw ex; // to allow events to be re-queued in DFv2 loop
     } catch (Exception ex) {
       log.warn("Activity execution failed.", ex);
+    } finally {
+      this.metrics.recordActivityExecution(this.getMetricsName(), System.nanoTime() - start);
     }
   }
 
+  private String getMetricsName() {
+    final ActivityInfo activityInfo = this.getInfo();
+    return activityInfo != null && activityInfo.name() != null ? activityInfo.name() : this.getClass().getName();
+  }
+
   private Optional<Boolean> executeMatcher(C context) {
     try {
       log.trace("Before matcher execution");
@@ -0,0 +1,119 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.service.datafeed.EventException;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A single execution of an activity, cancelled once it has been running for more than the maximum duration of the
+ * activity. The time spent waiting for a thread is not counted, an execution cancelled before starting is not reported
+ * as timed out.
+ * <p>
+ * The completion callback is called exactly once, whether the execution succeeded, failed, timed out or has been
+ * discarded before starting. Once started, it is only called when the activity returns, even if the execution has
+ * been cancelled meanwhile, so that an activity that ignores the interruption is still counted as running.
+ */
+@API(status = API.Status.INTERNAL)
+final class ActivityExecution extends FutureTask<Void> {
+
+  private final AtomicBoolean started;
+  // held while a timeout is reported, so that the waiting thread returns once it has been
+  private final Object timeoutLock = new Object();
+  private final Duration maxDuration;
+  private final Runnable onTimeout;
+  private final Runnable onCompletion;
+
+  /**
+   * @param activity     the activity execution.
+   * @param maxDuration  duration after which the execution is cancelled, null for no limit.
+   * @param onTimeout    called once the execution has been cancelled because it lasted too long.
+   * @param onCompletion called once the execution is over.
+   */
+  ActivityExecution(Runnable activity, Duration maxDuration, Runnable onTimeout, Runnable onCompletion) {
+    this(new AtomicBoolean(), activity, maxDuration, onTimeout, onCompletion);
+  }
+
+  private ActivityExecution(AtomicBoolean started, Runnable activity, Duration maxDuration, Runnable onTimeout,
+      Runnable onCompletion) {
+    super(() -> {
+      // not run if the execution has been discarded meanwhile
+      if (started.compareAndSet(false, true)) {
+        try {
+          activity.run();
+        } finally {
+          onCompletion.run();
+        }
+      }
+    }, null);
+    this.started = started;
+    this.maxDuration = maxDuration;
+    this.onTimeout = onTimeout;
+    this.onCompletion = onCompletion;
+  }
+
+  @Override
+  public void run() {
+    final ScheduledFuture<?> watchdog =
+        this.maxDuration != null ? ActivityExecutor.schedule(this::timeout, this.maxDuration) : null;
+    try {
+      super.run();
+    } finally {
+      if (watchdog != null) {
+        watchdog.cancel(false);
+      }
+      if (this.isCancelled()) {
+        // the execution might have run in the calling thread, which must not stay interrupted
+        Thread.interrupted();
+      }
+    }
+  }
+
+  /**
+   * Waits for the execution to be over, the maximum duration of the activity being enforced once it runs.
+   *
+   * @throws EventException if the activity failed with it, to allow events to be re-queued.
+   */
+  void await() {
+    try {
+      this.get();
+    } catch (CancellationException e) {
+      // timed out or discarded, waits for the timeout to be reported
+      synchronized (this.timeoutLock) {
+        // nothing else to do
+      }
+    } catch (InterruptedException e) {
+      this.cancel(true);
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+    }
+  }
+
+  @Override
+  protected void done() {
+    // otherwise called once the activity returns
+    if (this.started.compareAndSet(false, true)) {
+      this.onCompletion.run();
+    }
+  }
+
+  private void timeout() {
+    synchronized (this.timeoutLock) {
+      if (this.cancel(true)) {
+        this.onTimeout.run();
+      }
+    }
+  }
+}
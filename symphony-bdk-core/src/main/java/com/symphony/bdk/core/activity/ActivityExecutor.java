@@ -0,0 +1,228 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.activity.model.ActivityExecutionPolicy;
+import com.symphony.bdk.core.config.model.BdkActivitiesConfig;
+import com.symphony.bdk.core.config.model.BdkActivityRejectionPolicy;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded executor shared by all the asynchronous activities of an {@link ActivityRegistry}.
+ * <p>
+ * At most {@link BdkActivitiesConfig#getPoolSize()} activities are executed concurrently, the following ones waiting in
+ * a queue of {@link BdkActivitiesConfig#getQueueSize()} executions. Once the queue is full, the
+ * {@link BdkActivitiesConfig#getRejectionPolicy()} applies. The {@link org.slf4j.MDC} context, hence the trace id, of
+ * the thread submitting an activity is propagated to the thread executing it.
+ * <p>
+ * With {@link BdkActivitiesConfig#isVirtualThreads()}, each execution gets its own virtual thread, which waits for one
+ * of the {@link BdkActivitiesConfig#getPoolSize()} permits before running the activity, instead of being pooled.
+ * <p>
+ * The synchronous activities with a maximum duration are not queued: each execution is handed to a thread of its
+ * own, while the calling thread waits for it, so that the calling thread is released once the execution is cancelled.
+ * <p>
+ * It also provides the default {@link ActivityExecutionPolicy} of the activities, built from the same configuration.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class ActivityExecutor implements Executor, AutoCloseable {
+
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+
+  private static final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    final Thread thread = new Thread(runnable, "Activity-Timeout-Thread");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  // null when the activities are executed by virtual threads
+  private final ThreadPoolExecutor executor;
+  // null when the activities are executed by the thread pool
+  private final ThreadFactory virtualThreadFactory;
+  // executes the synchronous activities, never queued
+  private final ThreadPoolExecutor synchronousExecutor;
+  private final int poolSize;
+  private final int maxPendingExecutions;
+  // executions either running or waiting for a thread, and executions running, when using virtual threads
+  private final Semaphore pendingExecutions;
+  private final Semaphore runningExecutions;
+  private final BdkActivityRejectionPolicy rejectionPolicy;
+  private final ActivityExecutionPolicy defaultExecutionPolicy;
+  private volatile boolean closed;
+
+  public ActivityExecutor(BdkActivitiesConfig config) {
+    this.poolSize = config.getPoolSize();
+    this.maxPendingExecutions = config.getPoolSize() + Math.max(config.getQueueSize(), 0);
+    this.pendingExecutions = new Semaphore(this.maxPendingExecutions);
+    this.runningExecutions = new Semaphore(config.getPoolSize(), true);
+    this.virtualThreadFactory =
+        config.isVirtualThreads() ? ThreadFactoryBuilder.virtualThreadFactory("Activity-Async-Thread") : null;
+    if (this.virtualThreadFactory == null) {
+      final BlockingQueue<Runnable> queue =
+          config.getQueueSize() > 0 ? new ArrayBlockingQueue<>(config.getQueueSize()) : new SynchronousQueue<>();
+      this.executor = new ThreadPoolExecutor(config.getPoolSize(), config.getPoolSize(), KEEP_ALIVE_SECONDS,
+          TimeUnit.SECONDS, queue,
+          new ThreadFactoryBuilder()
+              .setName("Activity-Async-Thread")
+              .setPriority(Thread.NORM_PRIORITY)
+              .build());
+      this.executor.allowCoreThreadTimeOut(true);
+    } else {
+      this.executor = null;
+    }
+    this.synchronousExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new SynchronousQueue<>(), this.virtualThreadFactory != null ? this.virtualThreadFactory
+        : new ThreadFactoryBuilder().setName("Activity-Sync-Thread").setPriority(Thread.NORM_PRIORITY).build());
+    this.rejectionPolicy = config.getRejectionPolicy();
+    this.defaultExecutionPolicy = new ActivityExecutionPolicy()
+        .maxDuration(config.getMaxDurationMillis() > 0 ? Duration.ofMillis(config.getMaxDurationMillis()) : null)
+        .maxConcurrentExecutions(config.getMaxConcurrentExecutions())
+        .maxConcurrentExecutionsPerUser(config.getMaxConcurrentExecutionsPerUser());
+  }
+
+  /**
+   * @return the executor used by the activities that are not registered in an {@link ActivityRegistry}, created with
+   * the default configuration.
+   */
+  static ActivityExecutor getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * @return the execution policy of the activities that do not define their own.
+   */
+  public ActivityExecutionPolicy getDefaultExecutionPolicy() {
+    return this.defaultExecutionPolicy;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    this.submit(command);
+  }
+
+  /**
+   * Executes an asynchronous activity, the execution being cancelled if discarded.
+   */
+  void execute(ActivityExecution execution) {
+    if (!this.submit(execution)) {
+      execution.cancel(false);
+    }
+  }
+
+  /**
+   * Executes a synchronous activity in a thread of its own, without waiting for the asynchronous ones, and waits for
+   * it until it completes or is cancelled, so that a hung activity does not block the calling thread.
+   */
+  void executeAndAwait(ActivityExecution execution) {
+    try {
+      this.synchronousExecutor.execute(MDCUtils.wrap(execution));
+    } catch (RejectedExecutionException e) {
+      log.warn("Activity execution discarded, the executor has been closed");
+      execution.cancel(false);
+    }
+    execution.await();
+  }
+
+  static ScheduledFuture<?> schedule(Runnable task, Duration delay) {
+    return watchdog.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @return the number of activity executions waiting for a thread.
+   */
+  public int getQueueSize() {
+    if (this.executor != null) {
+      return this.executor.getQueue().size();
+    }
+    final int pending = this.maxPendingExecutions - this.pendingExecutions.availablePermits();
+    return Math.max(pending - this.getActiveCount(), 0);
+  }
+
+  /**
+   * @return the number of activities being executed.
+   */
+  public int getActiveCount() {
+    if (this.executor != null) {
+      return this.executor.getActiveCount();
+    }
+    return this.poolSize - this.runningExecutions.availablePermits();
+  }
+
+  /**
+   * Stops accepting new activity executions, the submitted ones still being executed.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    if (this.executor != null) {
+      this.executor.shutdown();
+    }
+    this.synchronousExecutor.shutdown();
+  }
+
+  /**
+   * @return false if the command has been discarded.
+   */
+  private boolean submit(Runnable command) {
+    try {
+      if (this.executor != null) {
+        this.executor.execute(MDCUtils.wrap(command));
+      } else {
+        this.startVirtualThread(MDCUtils.wrap(command));
+      }
+      return true;
+    } catch (RejectedExecutionException e) {
+      if (this.closed) {
+        log.warn("Activity execution discarded, the executor has been closed");
+        return false;
+      }
+      if (this.rejectionPolicy == BdkActivityRejectionPolicy.CALLER_RUNS) {
+        command.run();
+        return true;
+      }
+      log.warn("Activity execution discarded, the {} activity threads are busy and the queue is full",
+          this.poolSize);
+      return false;
+    }
+  }
+
+  private void startVirtualThread(Runnable command) {
+    if (this.closed || !this.pendingExecutions.tryAcquire()) {
+      throw new RejectedExecutionException();
+    }
+    try {
+      this.virtualThreadFactory.newThread(() -> {
+        // waiting here is cheap, it does not hold a platform thread
+        this.runningExecutions.acquireUninterruptibly();
+        try {
+          command.run();
+        } finally {
+          this.runningExecutions.release();
+          this.pendingExecutions.release();
+        }
+      }).start();
+    } catch (RuntimeException e) {
+      this.pendingExecutions.release();
+      throw e;
+    }
+  }
+
+  private static class DefaultHolder {
+    private static final ActivityExecutor INSTANCE = new ActivityExecutor(new BdkActivitiesConfig());
+  }
+}
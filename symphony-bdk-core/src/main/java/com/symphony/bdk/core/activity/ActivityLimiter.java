@@ -0,0 +1,76 @@
+package com.symphony.bdk.core.activity;
+
+import com.symphony.bdk.core.activity.model.ActivityExecutionPolicy;
+
+import org.apiguardian.api.API;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the running executions of an activity, overall and per user, to enforce the concurrency limits of its
+ * {@link ActivityExecutionPolicy}.
+ */
+@API(status = API.Status.INTERNAL)
+final class ActivityLimiter {
+
+  private final int maxExecutions;
+  private final int maxExecutionsPerUser;
+  private final AtomicInteger executions = new AtomicInteger();
+  private final Map<Long, Integer> userExecutions = new ConcurrentHashMap<>();
+
+  ActivityLimiter(ActivityExecutionPolicy policy) {
+    this.maxExecutions = policy.maxConcurrentExecutions();
+    this.maxExecutionsPerUser = policy.maxConcurrentExecutionsPerUser();
+  }
+
+  /**
+   * @param userId the id of the user who triggered the execution, null if unknown.
+   * @return true if the execution can start, in which case {@link #release(Long)} must be called once it is over.
+   */
+  boolean tryAcquire(Long userId) {
+    if (this.executions.incrementAndGet() > this.maxExecutions && this.maxExecutions > 0) {
+      this.executions.decrementAndGet();
+      return false;
+    }
+    if (this.isLimitedPerUser(userId)) {
+      final AtomicBoolean acquired = new AtomicBoolean();
+      this.userExecutions.compute(userId, (id, count) -> {
+        final int current = count == null ? 0 : count;
+        if (current >= this.maxExecutionsPerUser) {
+          return count;
+        }
+        acquired.set(true);
+        return current + 1;
+      });
+      if (!acquired.get()) {
+        this.executions.decrementAndGet();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param userId the id of the user who triggered the finished execution, as passed to {@link #tryAcquire(Long)}.
+   */
+  void release(Long userId) {
+    this.executions.decrementAndGet();
+    if (this.isLimitedPerUser(userId)) {
+      this.userExecutions.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+  }
+
+  /**
+   * @return the number of running executions.
+   */
+  int getExecutions() {
+    return this.executions.get();
+  }
+
+  private boolean isLimitedPerUser(Long userId) {
+    return this.maxExecutionsPerUser > 0 && userId != null;
+  }
+}
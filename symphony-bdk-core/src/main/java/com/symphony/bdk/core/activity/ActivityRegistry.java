@@ -4,6 +4,7 @@ import com.symphony.bdk.core.activity.command.CommandActivity;
 import com.symphony.bdk.core.activity.command.SlashCommand;
 import com.symphony.bdk.core.activity.command.HelpCommand;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.gen.api.model.UserV2;
 
 import lombok.extern.slf4j.Slf4j;
@@ -40,9 +41,32 @@ public class ActivityRegistry {
    */
   private final DatafeedLoop datafeedLoop;
 
+  /**
+   * The metrics recorder forwarded to all registered activities
+   */
+  private final DatafeedMetrics metrics;
+
+  /**
+   * The executor shared by all registered asynchronous activities
+   */
+  private final ActivityExecutor executor;
+
   public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop) {
+    this(botSession, datafeedLoop, DatafeedMetrics.NOOP);
+  }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop, DatafeedMetrics metrics) {
+    this(botSession, datafeedLoop, metrics, ActivityExecutor.getDefault());
+  }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  public ActivityRegistry(UserV2 botSession, DatafeedLoop datafeedLoop, DatafeedMetrics metrics,
+      ActivityExecutor executor) {
     this.botSession = botSession;
     this.datafeedLoop = datafeedLoop;
+    this.metrics = metrics;
+    this.executor = executor;
   }
 
   /**
@@ -59,6 +83,14 @@ public class ActivityRegistry {
     return new ArrayList<>(activityList);
   }
 
+  /**
+   * @return the executor running the registered asynchronous activities.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public ActivityExecutor getExecutor() {
+    return this.executor;
+  }
+
   private void preProcessActivity(AbstractActivity<?, ?> activity) {
 
     Optional<AbstractActivity<?, ?>> act = this.activityList.stream()
@@ -79,6 +111,9 @@ public class ActivityRegistry {
       ((CommandActivity<?>) activity).setBotUserId(this.botSession.getId());
     }
 
+    activity.setMetrics(this.metrics);
+    activity.setExecutor(this.executor);
+
     // make the activity to subscribe to its expected real-time event
     activity.bindToRealTimeEventsSource(this.datafeedLoop::subscribe);
   }
@@ -1,7 +1,6 @@
 package com.symphony.bdk.core.activity;
 
-import com.symphony.bdk.http.api.tracing.MDCUtils;
-
+import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
 import java.util.Objects;
@@ -9,6 +8,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
 
+@Slf4j
 @API(status = API.Status.INTERNAL)
 class ThreadFactoryBuilder {
   private String name = null;
@@ -46,7 +46,7 @@ class ThreadFactoryBuilder {
 
     final AtomicLong count = new AtomicLong(0);
     return runnable -> {
-      Thread thread = factory.newThread(MDCUtils.wrap(runnable));
+      Thread thread = factory.newThread(runnable);
       thread.setPriority(priority);
 
       if (name != null) {
@@ -56,4 +56,23 @@ class ThreadFactoryBuilder {
       return thread;
     };
   }
+
+  /**
+   * Looked up by reflection as the BDK is compiled for Java 17.
+   *
+   * @return a factory of virtual threads, null if not supported by the running JVM.
+   */
+  static ThreadFactory virtualThreadFactory(String name) {
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      if (name != null) {
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+      }
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      log.warn("Virtual threads are not supported by this JVM, platform threads are used instead");
+      return null;
+    }
+  }
 }
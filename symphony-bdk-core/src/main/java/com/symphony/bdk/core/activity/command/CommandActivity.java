@@ -5,8 +5,8 @@ import static com.symphony.bdk.core.service.datafeed.util.RealTimeEventsBinder.b
 import com.symphony.bdk.core.activity.AbstractActivity;
 import com.symphony.bdk.core.activity.exception.FatalActivityExecutionException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.core.service.datafeed.util.DerivedEventData;
 import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
-import com.symphony.bdk.core.service.message.util.PresentationMLParser;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4MessageSent;
 
@@ -60,8 +60,7 @@ public abstract class CommandActivity<C extends CommandContext> extends Abstract
    */
   protected void beforeMatcher(C context) {
     try {
-      context.setTextContent(
-          PresentationMLParser.getTextContent(context.getSourceEvent().getMessage().getMessage()));
+      context.setTextContent(DerivedEventData.of(context.getSourceEvent().getMessage()).getTextContent());
     } catch (PresentationMLParserException e) {
       throw new FatalActivityExecutionException(this.getInfo(), "Unable to parse presentationML", e);
     }
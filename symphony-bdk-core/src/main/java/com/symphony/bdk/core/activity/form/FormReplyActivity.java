@@ -4,10 +4,9 @@ import static com.symphony.bdk.core.service.datafeed.util.RealTimeEventsBinder.b
 
 import com.symphony.bdk.core.activity.AbstractActivity;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.core.service.datafeed.util.DerivedEventData;
 import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
@@ -21,8 +20,6 @@ import java.util.function.Consumer;
 public abstract class FormReplyActivity<C extends FormReplyContext>
     extends AbstractActivity<V4SymphonyElementsAction, C> {
 
-  private static final ObjectMapper MAPPER = new JsonMapper();
-
   /** {@inheritDoc} */
   @Override
   protected void bindToRealTimeEventsSource(Consumer<RealTimeEventListener> realTimeEventsSource) {
@@ -40,6 +37,6 @@ public abstract class FormReplyActivity<C extends FormReplyContext>
     // copy formId to context root level
     context.setFormId(context.getSourceEvent().getFormId());
     // setup formValues as a JsonNode
-    context.setFormValues(MAPPER.valueToTree(context.getSourceEvent().getFormValues()));
+    context.setFormValues(DerivedEventData.of(context.getSourceEvent()).getFormValues());
   }
 }
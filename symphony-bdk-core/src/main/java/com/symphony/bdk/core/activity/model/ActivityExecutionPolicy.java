@@ -0,0 +1,35 @@
+package com.symphony.bdk.core.activity.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+
+/**
+ * Limits enforced around the executions of an {@link com.symphony.bdk.core.activity.AbstractActivity}, so that a
+ * misbehaving activity cannot degrade the events processing of the whole bot.
+ */
+@Getter
+@Setter
+@Accessors(fluent = true)
+@API(status = API.Status.EXPERIMENTAL)
+public class ActivityExecutionPolicy {
+
+  /** Maximum duration of an execution, after which it is cancelled (null for no limit) */
+  private Duration maxDuration;
+
+  /** Maximum number of concurrent executions of the activity, the following events being ignored (0 for no limit) */
+  private int maxConcurrentExecutions;
+
+  /** Maximum number of concurrent executions of the activity triggered by a same user (0 for no limit) */
+  private int maxConcurrentExecutionsPerUser;
+
+  /**
+   * @return true if the executions are cancelled after {@link #maxDuration()}.
+   */
+  public boolean hasMaxDuration() {
+    return this.maxDuration != null && !this.maxDuration.isZero() && !this.maxDuration.isNegative();
+  }
+}
@@ -1,12 +1,10 @@
 package com.symphony.bdk.core.activity.parsing;
 
-import static org.apache.commons.lang3.StringUtils.isBlank;
-
+import com.symphony.bdk.core.service.datafeed.util.DerivedEventData;
 import com.symphony.bdk.core.service.message.util.EntityTypeEnum;
 import com.symphony.bdk.gen.api.model.V4Message;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -33,7 +31,6 @@ import javax.xml.parsers.DocumentBuilderFactory;
 public class InputTokenizer {
 
   private static final DocumentBuilder DOCUMENT_BUILDER = initBuilder();
-  private static final ObjectMapper MAPPER = new ObjectMapper();
 
   private static final String DATA_ENTITY_ID = "data-entity-id";
   private static final String TYPE = "type";
@@ -68,8 +65,7 @@ public class InputTokenizer {
   public InputTokenizer(V4Message message) {
     this.document = DOCUMENT_BUILDER.parse(
         new ByteArrayInputStream(message.getMessage().getBytes(StandardCharsets.UTF_8)));
-    String jsonData = isBlank(message.getData()) ? "{}" : message.getData();
-    this.dataNode = MAPPER.readTree(jsonData);
+    this.dataNode = DerivedEventData.of(message).getEntities();
     this.tokens = new ArrayList<>();
     this.buffer = new StringBuilder();
 
@@ -3,12 +3,14 @@ package com.symphony.bdk.core.activity.parsing;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import com.symphony.bdk.core.activity.exception.SlashCommandSyntaxException;
+import com.symphony.bdk.core.service.datafeed.util.DerivedEventData;
 import com.symphony.bdk.gen.api.model.V4Message;
 
 import org.apiguardian.api.API;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -83,7 +85,9 @@ public class SlashCommandPattern {
    * @return the {@link MatchResult} object containing the status (matches or not) and the potential arguments.
    */
   public MatchResult getMatchResult(V4Message message) {
-    final List<Object> inputTokens = new InputTokenizer(message).getTokens();
+    // the message is tokenized once for all the slash commands
+    final List<Object> inputTokens = DerivedEventData.of(message).computeIfAbsent(InputTokenizer.class.getName(),
+        () -> Collections.unmodifiableList(new InputTokenizer(message).getTokens()));
 
     if (!matches(inputTokens)) {
       return new MatchResult(false);
@@ -2,9 +2,9 @@ package com.symphony.bdk.core.auth.jwt;
 
 import com.symphony.bdk.core.auth.exception.AuthInitializationException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.http.api.util.ObjectMapperProvider;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
@@ -59,9 +59,6 @@ public class JwtHelper {
   private static final String BEGIN_CERTIFICATE = "-----BEGIN CERTIFICATE-----";
   private static final String END_CERTIFICATE = "-----END CERTIFICATE-----";
 
-  private static final ObjectMapper mapper = new ObjectMapper();
-
-
   /**
    * Creates a JWT with the provided user name and expiration date, signed with the provided private key.
    *
@@ -119,7 +116,7 @@ public class JwtHelper {
     try {
       final Claims body = Jwts.parser().setSigningKey(x509Certificate.getPublicKey())
         .parseClaimsJws(jwt).getBody();
-      return mapper.convertValue(body.get("user"), UserClaim.class);
+      return ObjectMapperProvider.getMapper().convertValue(body.get("user"), UserClaim.class);
     } catch (JwtException e) {
       throw new AuthInitializationException("Unable to validate JWT", e);
     }
@@ -135,7 +132,7 @@ public class JwtHelper {
    */
   public static Long extractExpirationDate(String jwt) throws JsonProcessingException, AuthUnauthorizedException {
     String claimsObj = extractDecodedClaims(dropBearer(jwt));
-    ObjectNode claims = mapper.readValue(claimsObj, ObjectNode.class);
+    ObjectNode claims = ObjectMapperProvider.getMapper().readValue(claimsObj, ObjectNode.class);
     if(claims.has(Claims.EXPIRATION) && claims.get(Claims.EXPIRATION).isNumber()) {
       return claims.get(Claims.EXPIRATION).asLong();
     }
@@ -212,7 +212,12 @@ public class ApiClientFactory {
         .withReadTimeout(clientConfig.getReadTimeout())
         .withConnectionTimeout(clientConfig.getConnectionTimeout())
         .withConnectionPoolMax(clientConfig.getConnectionPoolMax())
-        .withConnectionPoolPerRoute(clientConfig.getConnectionPoolPerRoute());
+        .withConnectionPoolPerRoute(clientConfig.getConnectionPoolPerRoute())
+        .withConnectionMaxIdleTime(clientConfig.getConnectionMaxIdleTime())
+        .withConnectionTimeToLive(clientConfig.getConnectionTimeToLive())
+        .withConnectionValidateAfterInactivity(clientConfig.getConnectionValidateAfterInactivity())
+        .withHttp2(clientConfig.getHttp2())
+        .withCompression(clientConfig.getCompression());
 
     if (clientConfig.getDefaultHeaders() != null) {
       clientConfig.getDefaultHeaders().forEach(apiClientBuilder::withDefaultHeader);
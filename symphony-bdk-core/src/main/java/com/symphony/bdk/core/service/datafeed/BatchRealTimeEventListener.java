@@ -0,0 +1,47 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+
+/**
+ * Interface definition for a callback to be invoked with all the events received in a single datafeed or datahose read
+ * call, for instance to write them at once in a store.
+ * <p>
+ * Events are received in the order they have been read, after the {@link RealTimeEventListener} ones have been
+ * dispatched. Like with {@link RealTimeEventListener}, throwing an {@link EventException} fails the whole batch of
+ * events that will be re-queued (DFv2 and datahose only). The re-delivered events are then dispatched again to the
+ * {@link RealTimeEventListener}s, unless the de-duplication of the events is enabled.
+ *
+ * @see DatafeedLoop#subscribeBatch(BatchRealTimeEventListener)
+ */
+@FunctionalInterface
+@API(status = API.Status.EXPERIMENTAL)
+public interface BatchRealTimeEventListener {
+
+  /**
+   * Check if the event is accepted to be part of the batch.
+   * By default, the events created by the bot itself are not accepted, like in {@link RealTimeEventListener}.
+   *
+   * @param event   Event to be verified.
+   * @param botInfo General bot info object.
+   * @return The event is accepted or not.
+   */
+  default boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+    return event.getInitiator() != null && event.getInitiator().getUser() != null
+        && event.getInitiator().getUser().getUserId() != null
+        && !event.getInitiator().getUser().getUserId().equals(botInfo.getId());
+  }
+
+  /**
+   * Called with the accepted events of a read call, not called if none has been accepted.
+   *
+   * @param events the accepted events, in the order they have been received.
+   * @throws EventException Throw this exception to fail the whole batch of events and re-queue it. Other exceptions
+   *                        will be caught silently.
+   */
+  void onEvents(List<V4Event> events) throws EventException;
+}
@@ -0,0 +1,22 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import lombok.Value;
+import org.apiguardian.api.API;
+
+/**
+ * Position of a bot in a datafeed or datahose feed: the ack id to be sent on the next read of the feed.
+ */
+@Value
+@API(status = API.Status.EXPERIMENTAL)
+public class DatafeedCheckpoint {
+
+  /**
+   * Id of the feed the ack id belongs to, the datahose tag for datahose feeds.
+   */
+  String feedId;
+
+  /**
+   * Ack id of the last handled batch of events.
+   */
+  String ackId;
+}
@@ -0,0 +1,60 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import org.apiguardian.api.API;
+
+import java.util.Optional;
+
+/**
+ * A store persisting the position of the {@link DatafeedLoop} (datafeed 2 only) and {@link DatahoseLoop} in their
+ * feed, so that a restarted bot resumes reading events where it left off.
+ * <p>
+ * {@link #save(DatafeedCheckpoint)} is called from the loop thread after each handled batch of events: implementations
+ * are expected to return immediately and to persist the checkpoints asynchronously, only the latest one being relevant.
+ * {@link #close()} is called each time the loop stops, the store being reused if the loop is started again.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface DatafeedCheckpointStore extends AutoCloseable {
+
+  /**
+   * No-op implementation, used when no checkpoint store has been configured.
+   */
+  DatafeedCheckpointStore NOOP = new DatafeedCheckpointStore() {
+    @Override
+    public void save(DatafeedCheckpoint checkpoint) {
+    }
+
+    @Override
+    public Optional<DatafeedCheckpoint> load() {
+      return Optional.empty();
+    }
+  };
+
+  /**
+   * Saves the latest checkpoint, replacing the previous one.
+   *
+   * @param checkpoint the checkpoint to be saved.
+   */
+  void save(DatafeedCheckpoint checkpoint);
+
+  /**
+   * Loads the latest saved checkpoint.
+   *
+   * @return the latest checkpoint, empty if none has been saved.
+   */
+  Optional<DatafeedCheckpoint> load();
+
+  /**
+   * Persists the latest saved checkpoint, called when the loop is stopped.
+   */
+  default void flush() {
+  }
+
+  /**
+   * Persists the latest saved checkpoint and releases the resources of the store, called when the loop is stopped.
+   * Saving or loading a checkpoint afterwards acquires them again.
+   */
+  @Override
+  default void close() {
+    this.flush();
+  }
+}
@@ -4,6 +4,7 @@ import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 
 import org.apiguardian.api.API;
+import org.slf4j.LoggerFactory;
 
 /**
  * Interface definition for a loop service to be used for handling the datafeed API.
@@ -38,6 +39,32 @@ public interface DatafeedLoop {
      */
     void unsubscribe(RealTimeEventListener listener);
 
+    /**
+     * The bot subscribes to a {@link BatchRealTimeEventListener}, receiving all the events of each read call at once.
+     * <p>
+     * A batch listener failing with an {@link EventException} re-queues the whole batch: once re-delivered, its events
+     * are dispatched again to the {@link RealTimeEventListener}s, unless the de-duplication of the events is enabled.
+     * <p>
+     * Loops not supporting batch listeners ignore them, logging a warning.
+     *
+     * @param listener a batch event listener to be subscribed
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void subscribeBatch(BatchRealTimeEventListener listener) {
+        LoggerFactory.getLogger(getClass()).warn("Batch listeners are not supported by {}, ignoring {}",
+                getClass().getName(), listener);
+    }
+
+    /**
+     * The bot unsubscribes to a {@link BatchRealTimeEventListener}
+     *
+     * @param listener a batch event listener to be unsubscribed
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void unsubscribeBatch(BatchRealTimeEventListener listener) {
+        // batch listeners are ignored when subscribed
+    }
+
   /**
    * The timestamp of the last successful pulling
    *
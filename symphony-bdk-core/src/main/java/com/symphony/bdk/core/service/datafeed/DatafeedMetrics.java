@@ -0,0 +1,123 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import com.symphony.bdk.core.util.CacheMetrics;
+
+import org.apiguardian.api.API;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Interface definition for a metrics recorder plugged into the {@link DatafeedLoop} and {@link DatahoseLoop} pipelines,
+ * and into the caches fed by them.
+ * <p>
+ * Each callback is invoked synchronously from the loop thread (or from the activity thread), implementations must
+ * therefore be thread-safe and as cheap as possible. All methods do nothing by default, so that implementations only
+ * have to override the measures they are interested in.
+ *
+ * @see #NOOP
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface DatafeedMetrics {
+
+  /**
+   * No-op implementation, used when no metrics recorder has been configured.
+   */
+  DatafeedMetrics NOOP = new DatafeedMetrics() {};
+
+  /**
+   * Called after each successful read call.
+   *
+   * @param eventsCount   number of events received in the batch.
+   * @param durationNanos time spent waiting for the read call to return, in nanoseconds.
+   */
+  default void recordRead(int eventsCount, long durationNanos) {
+  }
+
+  /**
+   * Called for each supported event before it is dispatched to the listeners.
+   *
+   * @param eventType the event type (e.g. MESSAGESENT).
+   * @param lagMillis difference between now and the event timestamp, in milliseconds.
+   */
+  default void recordEventLag(String eventType, long lagMillis) {
+  }
+
+  /**
+   * Called each time an event has been dispatched to a listener, whether it succeeded or not.
+   *
+   * @param eventType     the event type (e.g. MESSAGESENT).
+   * @param listener      the listener the event has been dispatched to.
+   * @param durationNanos time spent in the listener, in nanoseconds.
+   */
+  default void recordDispatch(String eventType, RealTimeEventListener listener, long durationNanos) {
+  }
+
+  /**
+   * Called each time an activity has been executed, whether it succeeded or not.
+   *
+   * @param activityName  the activity name, as provided by its info.
+   * @param durationNanos time spent in the activity, in nanoseconds.
+   */
+  default void recordActivityExecution(String activityName, long durationNanos) {
+  }
+
+  /**
+   * Called each time an activity execution has been cancelled because it lasted more than its maximum duration.
+   *
+   * @param activityName the activity name, as provided by its info.
+   */
+  default void incrementActivityTimeouts(String activityName) {
+  }
+
+  /**
+   * Called each time an activity is not executed because it reached its maximum number of concurrent executions.
+   *
+   * @param activityName the activity name, as provided by its info.
+   */
+  default void incrementRejectedActivityExecutions(String activityName) {
+  }
+
+  /**
+   * Called each time a batch of events has not been acknowledged and will therefore be re-queued.
+   */
+  default void incrementRequeuedBatches() {
+  }
+
+  /**
+   * Called each time an event of an unsupported type is received.
+   *
+   * @param eventType the raw event type, can be null.
+   */
+  default void incrementUnsupportedEvents(String eventType) {
+  }
+
+  /**
+   * Called each time an event is dropped because it has already been handled.
+   *
+   * @param eventType the event type (e.g. MESSAGESENT).
+   */
+  default void incrementDuplicateEvents(String eventType) {
+  }
+
+  /**
+   * Called on each cache lookup.
+   *
+   * @param cacheName the cache name (e.g. users).
+   * @param hit       whether the value has been served from the cache.
+   */
+  default void incrementCacheGets(String cacheName, boolean hit) {
+  }
+
+  /**
+   * Adapts a metrics recorder to the {@link CacheMetrics} callback of a cache.
+   *
+   * @param metrics   the metrics recorder, may be null.
+   * @param cacheName the cache name passed to {@link #incrementCacheGets(String, boolean)}.
+   * @return the cache metrics callback, null if the metrics recorder is null.
+   */
+  @Nullable
+  static CacheMetrics forCache(@Nullable DatafeedMetrics metrics, @Nonnull String cacheName) {
+    return metrics == null ? null : hit -> metrics.incrementCacheGets(cacheName, hit);
+  }
+}
@@ -16,6 +16,8 @@ public interface RealTimeEventListener {
    * Check if the event is accepted to be handled.
    * By default, all the event that is created by the bot itself will not be accepted to be handled by the listener.
    * If you want to handle the self-created events or you want to apply your own filters for the events, you should override this method.
+   * With the selective decoding of a loop enabled, this method is only called for the event types handled by at least
+   * one of the subscribed listeners, see {@link #onMessageSent} for instance.
    *
    * @param event    Event to be verified.
    * @param botInfo  General bot info object.
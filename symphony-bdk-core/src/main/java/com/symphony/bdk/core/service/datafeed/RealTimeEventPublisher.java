@@ -0,0 +1,188 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link Flow.Publisher} of the real-time events read by a {@link DatafeedLoop} or a {@link DatahoseLoop}, to consume
+ * them as a stream with backpressure. With Reactor for instance:
+ * <pre>
+ * Flux&lt;V4Event&gt; events = JdkFlowAdapter.flowPublisherToFlux(new RealTimeEventPublisher(bdk.datafeed()));
+ * </pre>
+ * The loop is started on a dedicated thread when the subscriber first requests events and is stopped when the
+ * subscription is cancelled. Once all the events of a read call have been emitted, the loop waits for the subscriber
+ * to request more before acknowledging them. If the subscription is cancelled while events of a read call are still to
+ * be emitted, the whole batch is not acknowledged and will be re-queued (DFv2 and datahose only).
+ * <p>
+ * When the loop reads and handles one batch at a time, which is the default, the next read call is only issued once the
+ * events have been acknowledged, so that events are only read while there is outstanding demand. A pipelined loop ({@code maxUnackedBatches} greater than 0) keeps reading the next batch while
+ * the current one is waiting for demand, and a loop with several readers has a read call in flight per reader: a few
+ * batches, bounded by the maximum number of unacknowledged batches or by the number of readers, are then read ahead of
+ * the demand, but their events are still emitted only when requested.
+ * <p>
+ * Like {@link RealTimeEventListener}, events created by the bot itself are not published. A publisher only supports a
+ * single subscriber, and the loop must not be started by other means.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class RealTimeEventPublisher implements Flow.Publisher<V4Event> {
+
+  private final DatafeedLoop loop;
+  private final AtomicBoolean subscribed = new AtomicBoolean();
+
+  public RealTimeEventPublisher(DatafeedLoop loop) {
+    this.loop = loop;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void subscribe(Flow.Subscriber<? super V4Event> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    if (!this.subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+      });
+      subscriber.onError(new IllegalStateException("RealTimeEventPublisher only supports a single subscriber"));
+      return;
+    }
+    final EventSubscription subscription = new EventSubscription(subscriber);
+    this.loop.subscribeBatch(subscription);
+    subscriber.onSubscribe(subscription);
+  }
+
+  private class EventSubscription implements Flow.Subscription, BatchRealTimeEventListener {
+
+    private final Flow.Subscriber<? super V4Event> subscriber;
+    private final ExecutorService executor;
+    private long requested;
+    private boolean started;
+    private boolean terminated;
+
+    private EventSubscription(Flow.Subscriber<? super V4Event> subscriber) {
+      this.subscriber = subscriber;
+      this.executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "real-time-event-publisher");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    @Override
+    public void request(long n) {
+      synchronized (this) {
+        if (this.terminated) {
+          return;
+        }
+        if (n <= 0) {
+          this.terminated = true;
+        } else {
+          // saturates at Long.MAX_VALUE, meaning an unbounded demand
+          this.requested = this.requested + n < 0 ? Long.MAX_VALUE : this.requested + n;
+          this.notifyAll();
+          if (this.started) {
+            return;
+          }
+          this.started = true;
+        }
+      }
+
+      if (n <= 0) {
+        this.terminate();
+        this.subscriber.onError(new IllegalArgumentException("Requested events must be positive, got " + n));
+      } else {
+        this.executor.execute(this::run);
+      }
+    }
+
+    @Override
+    public void cancel() {
+      synchronized (this) {
+        if (this.terminated) {
+          return;
+        }
+        this.terminated = true;
+        this.notifyAll();
+      }
+      this.terminate();
+    }
+
+    @Override
+    public synchronized void onEvents(List<V4Event> events) {
+      for (V4Event event : events) {
+        if (!this.awaitDemand()) {
+          // fails the batch so that the events not emitted yet are re-queued
+          throw new EventException("Subscription has been cancelled");
+        }
+        if (this.requested != Long.MAX_VALUE) {
+          this.requested--;
+        }
+        this.subscriber.onNext(event);
+      }
+      // the events are only acknowledged once the subscriber is ready for the next ones, or has cancelled
+      this.awaitDemand();
+    }
+
+    // must be called while holding the subscription lock, returns false if the subscription has been terminated
+    private boolean awaitDemand() {
+      while (this.requested == 0 && !this.terminated) {
+        try {
+          this.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new EventException("Interrupted while waiting for events to be requested", e);
+        }
+      }
+      return !this.terminated;
+    }
+
+    private void run() {
+      try {
+        loop.start();
+        if (this.markTerminated()) {
+          this.subscriber.onComplete();
+        }
+      } catch (Exception e) {
+        if (this.markTerminated()) {
+          this.subscriber.onError(e);
+        } else {
+          log.debug("Loop failed after the subscription has been cancelled", e);
+        }
+      } finally {
+        loop.unsubscribeBatch(this);
+        this.executor.shutdown();
+      }
+    }
+
+    private synchronized boolean markTerminated() {
+      if (this.terminated) {
+        return false;
+      }
+      this.terminated = true;
+      this.notifyAll();
+      return true;
+    }
+
+    private void terminate() {
+      loop.stop();
+      loop.unsubscribeBatch(this);
+      this.executor.shutdown();
+    }
+  }
+}
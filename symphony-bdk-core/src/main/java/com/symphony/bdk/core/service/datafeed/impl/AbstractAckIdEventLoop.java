@@ -1,11 +1,19 @@
 package com.symphony.bdk.core.service.datafeed.impl;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
 import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.config.model.BdkCheckpointConfig;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.service.datafeed.DatafeedCheckpoint;
+import com.symphony.bdk.core.service.datafeed.DatafeedCheckpointStore;
 import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.gen.api.model.UserV2;
 import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.util.TypeReference;
 
 import lombok.AccessLevel;
 import lombok.Generated;
@@ -14,8 +22,44 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
 
+/**
+ * Base class of the loops acknowledging each batch of events with the ack id received along with it.
+ * <p>
+ * By default, the next batch is read once the current one has been handled. When a maximum number of unacknowledged
+ * batches greater than 0 is configured, the loop is pipelined: batches are handled in order by a dedicated dispatcher
+ * thread while the next read is already in flight. The ack id of a batch is only sent once the batch has been
+ * successfully handled, in the order the batches have been received, so that a failed batch is still re-queued. As the
+ * ack id of a handled batch is sent with the next read, it might be delayed by a pending long-polling read when the
+ * feed is idle.
+ * <p>
+ * An ack id only acknowledges the batch it has been received with, not the previous ones: the events of a batch whose
+ * ack id is never sent are delivered again once their visibility timeout expires, whatever the batches acknowledged
+ * afterwards. A failed batch therefore does not prevent the following ones from being acknowledged, in both modes: the
+ * sequential loop has always kept reading and acknowledging after a failed batch, and the pipelined loop sends exactly
+ * the same ack ids, only skipping the ones of the failed batches.
+ * <p>
+ * The checkpoint only holds the ack id of the last handled batch. When the loop is pipelined, the ack ids of the
+ * previous handled batches may not have been sent yet: they are not part of the checkpoint, so these batches are
+ * delivered again after a restart. Resuming from a checkpoint is then at-least-once.
+ */
 @API(status = API.Status.INTERNAL)
 @Slf4j
 public abstract class AbstractAckIdEventLoop extends AbstractDatafeedLoop {
@@ -33,13 +77,38 @@ public abstract class AbstractAckIdEventLoop extends AbstractDatafeedLoop {
   @Getter(AccessLevel.PROTECTED)
   protected String ackId;
 
+  private final int maxUnackedBatches;
+  private final Deque<String> handledAckIds = new ConcurrentLinkedDeque<>();
+  private final AtomicLong ackIdGeneration = new AtomicLong();
+  private Semaphore unackedBatches;
+  private ExecutorService dispatcher;
+  private DatafeedCheckpointStore checkpointStore = DatafeedCheckpointStore.NOOP;
+  // number of events received by the last selective read, including the ones dropped while decoding, -1 if none
+  private int receivedEventsCount = -1;
+
   public AbstractAckIdEventLoop(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo) {
+    this(datafeedApi, authSession, config, botInfo, 0);
+  }
+
+  /**
+   * @param maxUnackedBatches maximum number of batches being handled while the next one is read, 0 to disable the
+   *                          pipelining.
+   */
+  protected AbstractAckIdEventLoop(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config,
+      UserV2 botInfo, int maxUnackedBatches) {
     super(datafeedApi, authSession, config, botInfo);
     this.ackId = INITIAL_ACK_ID;
+    this.maxUnackedBatches = Math.max(0, maxUnackedBatches);
   }
 
   protected Void readAndHandleEvents() throws ApiException {
+    if (this.maxUnackedBatches > 0) {
+      return this.readAndDispatchEvents();
+    }
+
+    final long readStart = System.nanoTime();
     V5EventList v5EventList = readEvents();
+    this.metrics.recordRead(this.countReceivedEvents(v5EventList), System.nanoTime() - readStart);
     try {
 
       StopWatch stopWatch = StopWatch.createStarted();
@@ -50,14 +119,180 @@ public abstract class AbstractAckIdEventLoop extends AbstractDatafeedLoop {
 
       // updates ack id so that on next call DFv2 knows that events have been processed
       this.ackId = v5EventList.getAckId();
+      this.checkpoint(this.ackId);
     } catch (Exception e) {
       // can happen if developer explicitly raised a RequeueEventException in handleV4EventList
       // we also catch all exceptions just to be extra careful and never break the DF loop
       log.warn("Failed to process events, will not update ack id, events will be re-queued", e);
+      this.metrics.incrementRequeuedBatches();
+    }
+    return null;
+  }
+
+  /**
+   * Pipelined version of {@link #readAndHandleEvents()}: reads the next batch with the oldest handled but not yet
+   * acknowledged ack id, then hands it over to the dispatcher thread.
+   */
+  private Void readAndDispatchEvents() throws ApiException {
+    this.startDispatcher();
+
+    // the ack id is only consumed once the read succeeded, so that it is sent again if the read is retried
+    final String handledAckId = this.handledAckIds.peekFirst();
+    if (handledAckId != null) {
+      this.ackId = handledAckId;
+    }
+    final long generation = this.ackIdGeneration.get();
+
+    final long readStart = System.nanoTime();
+    final V5EventList v5EventList = readEvents();
+    this.metrics.recordRead(this.countReceivedEvents(v5EventList), System.nanoTime() - readStart);
+    if (handledAckId != null) {
+      this.handledAckIds.pollFirst();
+    }
+
+    try {
+      this.unackedBatches.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while waiting for batches to be handled, events will be re-queued");
+      return null;
     }
+
+    this.dispatcher.execute(() -> {
+      try {
+        StopWatch stopWatch = StopWatch.createStarted();
+        this.handleV4EventList(v5EventList.getEvents());
+        stopWatch.stop();
+
+        checkProcessingTime(stopWatch);
+
+        // ack ids received before the feed has been recreated are not valid anymore
+        if (generation == this.ackIdGeneration.get()) {
+          this.handledAckIds.offerLast(v5EventList.getAckId());
+          this.checkpoint(v5EventList.getAckId());
+        }
+      } catch (Exception e) {
+        // the following batches are still acknowledged, an ack id does not cover the previous batches
+        log.warn("Failed to process events, will not send ack id, events will be re-queued", e);
+        this.metrics.incrementRequeuedBatches();
+      } finally {
+        this.unackedBatches.release();
+      }
+    });
     return null;
   }
 
+  /**
+   * Sets the {@link DatafeedCheckpointStore} the ack id is saved to after each handled batch of events. When the loop
+   * is pipelined, the batches handled but not acknowledged yet when the bot is stopped are delivered again.
+   *
+   * @param checkpointStore the checkpoint store, {@link DatafeedCheckpointStore#NOOP} is used if null.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void setCheckpointStore(@Nullable DatafeedCheckpointStore checkpointStore) {
+    this.checkpointStore = checkpointStore == null ? DatafeedCheckpointStore.NOOP : checkpointStore;
+  }
+
+  /**
+   * Uses a {@link FileDatafeedCheckpointStore}, if configured.
+   *
+   * @param config          the checkpoint configuration.
+   * @param defaultFileName name of the checkpoint file in the datafeed id file directory, if no path is configured.
+   */
+  protected void setCheckpoint(@Nullable BdkCheckpointConfig config, String defaultFileName) {
+    if (config != null && config.isEnabled()) {
+      final Path file = config.getPath() == null || config.getPath().isEmpty()
+          ? getDefaultCheckpointFile(Paths.get(this.bdkConfig.getDatafeed().getIdFilePath()), defaultFileName)
+          : Paths.get(config.getPath());
+      this.setCheckpointStore(new FileDatafeedCheckpointStore(file, config.getFlushIntervalMillis()));
+    }
+  }
+
+  /**
+   * @return the id of the feed being read, used to check that a saved checkpoint belongs to it.
+   */
+  protected abstract String getFeedId();
+
+  /**
+   * Resumes from the saved checkpoint, if it belongs to the given feed.
+   *
+   * @param feedId the id of the feed to be read.
+   */
+  protected void restoreAckId(String feedId) {
+    this.checkpointStore.load()
+        .filter(checkpoint -> checkpoint.getFeedId().equals(feedId))
+        .ifPresent(checkpoint -> {
+          log.info("Resuming reading events of feed {} from the saved checkpoint", feedId);
+          if (this.maxUnackedBatches > 0) {
+            log.info("Batches handled before the checkpoint but not acknowledged might be delivered again as the loop "
+                + "is pipelined");
+          }
+          this.ackId = checkpoint.getAckId();
+        });
+  }
+
+  /**
+   * Persists the latest checkpoint and releases the checkpoint store, to be called once the loop is stopped.
+   */
+  protected void closeCheckpoint() {
+    this.checkpointStore.close();
+  }
+
+  // the datafeed id file path is either the directory of the id file or the id file itself, as in
+  // OnDiskDatafeedIdRepository
+  static Path getDefaultCheckpointFile(Path idFilePath, String defaultFileName) {
+    return Files.isDirectory(idFilePath)
+        ? idFilePath.resolve(defaultFileName)
+        : idFilePath.resolveSibling(defaultFileName);
+  }
+
+  private void checkpoint(String ackId) {
+    final String feedId = this.getFeedId();
+    if (feedId != null && ackId != null) {
+      this.checkpointStore.save(new DatafeedCheckpoint(feedId, ackId));
+    }
+  }
+
+  /**
+   * Resets the ack id, to be called when the feed is (re)created.
+   */
+  protected void resetAckId() {
+    this.ackIdGeneration.incrementAndGet();
+    this.handledAckIds.clear();
+    this.ackId = INITIAL_ACK_ID;
+  }
+
+  /**
+   * Waits for the batches being handled by the dispatcher thread, if any, to be processed, then releases it.
+   * Ack ids of these batches are not sent, they will therefore be re-queued.
+   */
+  protected void stopDispatcher() {
+    if (this.dispatcher == null) {
+      return;
+    }
+    this.dispatcher.shutdown();
+    try {
+      if (!this.dispatcher.awaitTermination(EVENT_PROCESSING_MAX_DURATION_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("Events are still being processed after {} seconds", EVENT_PROCESSING_MAX_DURATION_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    this.dispatcher = null;
+    this.handledAckIds.clear();
+  }
+
+  private void startDispatcher() {
+    if (this.dispatcher == null) {
+      this.unackedBatches = new Semaphore(this.maxUnackedBatches);
+      this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "datafeed-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
   @Generated // cannot be easily unit tested
   private void checkProcessingTime(StopWatch stopWatch) {
     if (stopWatch.getTime(TimeUnit.SECONDS) > EVENT_PROCESSING_MAX_DURATION_SECONDS) {
@@ -68,5 +303,53 @@ public abstract class AbstractAckIdEventLoop extends AbstractDatafeedLoop {
     }
   }
 
+  private int countReceivedEvents(V5EventList v5EventList) {
+    final int received = this.receivedEventsCount;
+    if (received >= 0) {
+      this.receivedEventsCount = -1;
+      return received;
+    }
+    return v5EventList == null || v5EventList.getEvents() == null ? 0 : v5EventList.getEvents().size();
+  }
+
+  /**
+   * Reads the events with a POST request to the given path, decoding the response as a stream so that the payloads of
+   * the events not handled by any subscribed listener are skipped. The generated {@link DatafeedApi} methods always
+   * decode the whole response, so this call has to be "manually" processed.
+   *
+   * @param path the read events endpoint path, relative to the agent base path.
+   * @param body the read events request body.
+   * @return the events handled by the subscribed listeners.
+   */
+  protected V5EventList readHandledEvents(String path, Object body) throws ApiException {
+    final ApiClient apiClient = this.datafeedApi.getApiClient();
+
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("sessionToken", apiClient.parameterToString(this.authSession.getSessionToken()));
+    headers.put("keyManagerToken", apiClient.parameterToString(this.authSession.getKeyManagerToken()));
+
+    final InputStream content = apiClient.invokeAPI(
+        path,
+        "POST",
+        emptyList(),
+        body,
+        headers,
+        emptyMap(),
+        emptyMap(),
+        apiClient.selectHeaderAccept("application/json"),
+        apiClient.selectHeaderContentType("application/json"),
+        new String[0],
+        new TypeReference<InputStream>() {}
+    ).getData();
+
+    try {
+      return V5EventListDecoder.decode(content, this.handledEventTypes(), count -> this.receivedEventsCount = count);
+    } catch (IOException e) {
+      // not wrapped in an ApiException: RetryWithRecoveryBuilder#isNetworkIssueOrMinorError only retries it when it is
+      // caused by a network exception, such as a SocketTimeoutException, a malformed response is not retried
+      throw new UncheckedIOException("Unable to decode the read events", e);
+    }
+  }
+
   protected abstract V5EventList readEvents() throws ApiException;
 }
@@ -5,10 +5,14 @@ import static com.symphony.bdk.core.retry.RetryWithRecovery.networkIssueMessageE
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
 import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.config.model.BdkDeduplicationConfig;
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
+import com.symphony.bdk.core.service.datafeed.util.DerivedEventData;
 import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.gen.api.model.UserV2;
 import com.symphony.bdk.gen.api.model.V4Event;
@@ -20,9 +24,14 @@ import org.apiguardian.api.API;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -39,10 +48,13 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
   protected final UserV2 botInfo;
   protected final AtomicBoolean started = new AtomicBoolean();
   protected DatafeedApi datafeedApi;
+  protected DatafeedMetrics metrics = DatafeedMetrics.NOOP;
   private long lastPullTimestamp;
+  private EventDeduplicator deduplicator;
 
   // access needs to be thread safe (DF loop is usually running on its own thread)
   private final List<RealTimeEventListener> listeners;
+  private final List<BatchRealTimeEventListener> batchListeners = new CopyOnWriteArrayList<>();
 
   public AbstractDatafeedLoop(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo) {
     this.datafeedApi = datafeedApi;
@@ -72,6 +84,22 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void subscribeBatch(BatchRealTimeEventListener listener) {
+    this.batchListeners.add(listener);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void unsubscribeBatch(BatchRealTimeEventListener listener) {
+    this.batchListeners.remove(listener);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -99,6 +127,33 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
 
   protected abstract void runLoop() throws Throwable;
 
+  /**
+   * Sets the {@link DatafeedMetrics} recorder used to measure the events pipeline.
+   *
+   * @param metrics the metrics recorder, {@link DatafeedMetrics#NOOP} is used if null.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void setMetrics(@Nullable DatafeedMetrics metrics) {
+    this.metrics = metrics == null ? DatafeedMetrics.NOOP : metrics;
+  }
+
+  /**
+   * Enables the de-duplication of the received events, if configured.
+   *
+   * @param config the de-duplication configuration.
+   */
+  protected void setDeduplication(@Nullable BdkDeduplicationConfig config) {
+    this.deduplicator = config != null && config.isEnabled() ? new EventDeduplicator(config) : null;
+  }
+
+  /**
+   * Uses the de-duplication state of another loop, so that an event re-delivered to another reader of the same feed is
+   * also dropped.
+   */
+  void shareDeduplication(AbstractDatafeedLoop other) {
+    this.deduplicator = other.deduplicator;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -113,7 +168,8 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
   }
 
   /**
-   * Handle a received listener by using the subscribed {@link RealTimeEventListener}.
+   * Handle a received listener by using the subscribed {@link RealTimeEventListener} then the subscribed
+   * {@link BatchRealTimeEventListener}.
    *
    * @param events List of Datafeed events to be handled
    * @throws RequeueEventException Raised if a listener fails and the developer wants to explicitly not update the ack id.
@@ -124,37 +180,137 @@ abstract class AbstractDatafeedLoop implements DatafeedLoop {
       return;
     }
 
-    for (V4Event event : events) {
+    // events are only remembered by the de-duplication once the batch listeners have handled them as well
+    final List<V4Event> dispatchedEvents = this.batchListeners.isEmpty() ? null : new ArrayList<>(events.size());
+    // claimed events are released if not handled, a released event being dispatched again when re-delivered
+    final List<V4Event> claimedEvents = this.deduplicator == null ? null : new ArrayList<>(events.size());
 
-      final Optional<RealTimeEventType> eventType = RealTimeEventType.fromV4Event(event);
+    try {
+      for (V4Event event : events) {
 
-      if (!eventType.isPresent()) {
-        log.info("Unsupported event received: {}", event);
-        continue;
+        final Optional<RealTimeEventType> eventType = RealTimeEventType.fromV4Event(event);
+
+        if (!eventType.isPresent()) {
+          log.info("Unsupported event received: {}", event);
+          this.metrics.incrementUnsupportedEvents(event == null ? null : event.getType());
+          continue;
+        }
+
+        if (this.deduplicator != null) {
+          // checked and remembered at once, another reader sharing the de-duplication might receive the same event
+          if (!this.deduplicator.claim(event)) {
+            log.debug("Event {} has already been handled, skipping it", event.getId());
+            this.metrics.incrementDuplicateEvents(event.getType());
+            continue;
+          }
+          claimedEvents.add(event);
+        }
+
+        if (event.getTimestamp() != null) {
+          this.metrics.recordEventLag(event.getType(), Instant.now().toEpochMilli() - event.getTimestamp());
+        }
+
+        this.dispatch(event, eventType.get());
+
+        // only remembered once handled by all listeners, so that an event failing with a RequeueEventException is
+        // dispatched again when re-delivered
+        if (dispatchedEvents != null) {
+          dispatchedEvents.add(event);
+        } else if (this.deduplicator != null) {
+          this.deduplicator.markHandled(event);
+        }
       }
 
-      // dispatch single event using event's ID as traceId. Tested for DatafeedLoopV2 as well, and working.
-      DistributedTracingContext.doWithTraceId(event.getId(), () -> {
-
-        synchronized (this.listeners) {
-          for (RealTimeEventListener listener : this.listeners) {
-
-            if (listener.isAcceptingEvent(event, this.botInfo)) {
-              try {
-                log.debug("Before dispatching '{}' event to listener {}", event.getType(), listener);
-                eventType.get().dispatch(listener, event);
-                log.debug("'{}' event successfully dispatched to listener {}", event.getType(), listener);
-              } catch (EventException e) {
-                // rethrow this explicit exception to not update the ack id in the DFv2 loop
-                throw new RequeueEventException(event, listener, e);
-              } catch (Exception t) {
-                log.debug("An uncaught exception has occurred while dispatching event {} to listener {}",
-                    event.getType(), listener, t);
-              }
+      if (dispatchedEvents != null && !dispatchedEvents.isEmpty()) {
+        this.dispatchBatch(dispatchedEvents);
+        if (this.deduplicator != null) {
+          dispatchedEvents.forEach(this.deduplicator::markHandled);
+        }
+      }
+    } finally {
+      if (claimedEvents != null) {
+        // no-op for the events marked as handled
+        claimedEvents.forEach(this.deduplicator::release);
+      }
+    }
+  }
+
+  private void dispatch(V4Event event, RealTimeEventType eventType) {
+    // data derived from the event, such as its text content, is shared by all the listeners
+    final DerivedEventData derivedData = new DerivedEventData(event);
+    // dispatch single event using event's ID as traceId. Tested for DatafeedLoopV2 as well, and working.
+    DistributedTracingContext.doWithTraceId(event.getId(), () -> DerivedEventData.runWith(derivedData, () -> {
+
+      synchronized (this.listeners) {
+        for (RealTimeEventListener listener : this.listeners) {
+
+          if (listener.isAcceptingEvent(event, this.botInfo)) {
+            final long dispatchStart = System.nanoTime();
+            try {
+              log.debug("Before dispatching '{}' event to listener {}", event.getType(), listener);
+              eventType.dispatch(listener, event);
+              log.debug("'{}' event successfully dispatched to listener {}", event.getType(), listener);
+            } catch (EventException e) {
+              // rethrow this explicit exception to not update the ack id in the DFv2 loop
+              throw new RequeueEventException(event, listener, e);
+            } catch (Exception t) {
+              log.debug("An uncaught exception has occurred while dispatching event {} to listener {}",
+                  event.getType(), listener, t);
+            } finally {
+              this.metrics.recordDispatch(event.getType(), listener, System.nanoTime() - dispatchStart);
             }
           }
         }
-      });
+      }
+    }));
+  }
+
+  /**
+   * Tells which event types are handled by the subscribed listeners, all of them if a batch listener is subscribed.
+   * Unsupported types are considered handled, so that they are still reported when received.
+   *
+   * @return a snapshot of the handled event types, taking the event type name.
+   */
+  protected Predicate<String> handledEventTypes() {
+    if (!this.batchListeners.isEmpty()) {
+      return type -> true;
+    }
+
+    final Set<RealTimeEventType> handledTypes = EnumSet.noneOf(RealTimeEventType.class);
+    synchronized (this.listeners) {
+      for (RealTimeEventListener listener : this.listeners) {
+        for (RealTimeEventType eventType : RealTimeEventType.values()) {
+          if (eventType.isHandledBy(listener)) {
+            handledTypes.add(eventType);
+          }
+        }
+      }
+    }
+    return type -> RealTimeEventType.fromType(type).map(handledTypes::contains).orElse(true);
+  }
+
+  private void dispatchBatch(List<V4Event> events) {
+    for (BatchRealTimeEventListener listener : this.batchListeners) {
+      final List<V4Event> acceptedEvents = new ArrayList<>(events.size());
+      for (V4Event event : events) {
+        if (listener.isAcceptingEvent(event, this.botInfo)) {
+          acceptedEvents.add(event);
+        }
+      }
+      if (acceptedEvents.isEmpty()) {
+        continue;
+      }
+
+      try {
+        log.debug("Before dispatching {} events to batch listener {}", acceptedEvents.size(), listener);
+        listener.onEvents(Collections.unmodifiableList(acceptedEvents));
+      } catch (EventException e) {
+        // rethrow this explicit exception to not update the ack id in the DFv2 loop
+        throw new RequeueEventException(listener, acceptedEvents.size(), e);
+      } catch (Exception e) {
+        log.debug("An uncaught exception has occurred while dispatching {} events to batch listener {}",
+            acceptedEvents.size(), listener, e);
+      }
     }
   }
 
@@ -0,0 +1,86 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size Bloom filter of strings, using double hashing to derive the bit positions.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class BloomFilter {
+
+  private final long[] bits;
+  private final long bitCount;
+  private final int hashCount;
+
+  /**
+   * @param expectedInsertions number of strings expected to be added to the filter.
+   * @param falsePositiveRate  expected false positive rate once the expected number of strings has been added.
+   */
+  BloomFilter(int expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions <= 0) {
+      throw new IllegalArgumentException("Expected insertions must be positive");
+    }
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+    }
+    final double ln2 = Math.log(2);
+    final long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+    this.bits = new long[(int) ((Math.max(optimalBits, Long.SIZE) + Long.SIZE - 1) / Long.SIZE)];
+    this.bitCount = (long) this.bits.length * Long.SIZE;
+    this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / expectedInsertions * ln2));
+  }
+
+  void add(String value) {
+    final long hash1 = hash1(value);
+    final long hash2 = hash2(value);
+    for (int i = 0; i < this.hashCount; i++) {
+      final long index = index(hash1, hash2, i);
+      this.bits[(int) (index >>> 6)] |= 1L << index;
+    }
+  }
+
+  boolean mightContain(String value) {
+    final long hash1 = hash1(value);
+    final long hash2 = hash2(value);
+    for (int i = 0; i < this.hashCount; i++) {
+      final long index = index(hash1, hash2, i);
+      if ((this.bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  void clear() {
+    Arrays.fill(this.bits, 0L);
+  }
+
+  private long index(long hash1, long hash2, int i) {
+    return Long.remainderUnsigned(hash1 + i * hash2, this.bitCount);
+  }
+
+  // FNV-1a, then finalized with the MurmurHash3 mixer
+  private static long hash1(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  // forced to be odd so that all the positions derived from a value are distinct
+  private static long hash2(String value) {
+    return mix(value.hashCode() * 0x9e3779b97f4a7c15L + value.length()) | 1L;
+  }
+
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
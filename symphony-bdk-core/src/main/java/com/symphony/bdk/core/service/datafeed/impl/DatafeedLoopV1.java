@@ -58,6 +58,7 @@ public class DatafeedLoopV1 extends AbstractDatafeedLoop {
   public DatafeedLoopV1(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo,
       DatafeedIdRepository repository) {
     super(datafeedApi, authSession, config, botInfo);
+    this.setDeduplication(config.getDatafeed().getDeduplication());
 
     this.apiClient = datafeedApi.getApiClient();
     this.retryWithRecoveryBuilder = new RetryWithRecoveryBuilder<>()
@@ -106,12 +107,14 @@ public class DatafeedLoopV1 extends AbstractDatafeedLoop {
   }
 
   private Void readAndHandleEvents() throws ApiException {
+    final long readStart = System.nanoTime();
     List<V4Event> events = this.datafeedApi.v4DatafeedIdReadGet(
         datafeedId,
         authSession.getSessionToken(),
         authSession.getKeyManagerToken(),
         null
     );
+    this.metrics.recordRead(events == null ? 0 : events.size(), System.nanoTime() - readStart);
 
     try {
 
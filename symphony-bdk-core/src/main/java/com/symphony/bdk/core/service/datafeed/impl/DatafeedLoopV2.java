@@ -16,9 +16,12 @@ import com.symphony.bdk.http.api.ApiException;
 import lombok.extern.slf4j.Slf4j;
 import org.apiguardian.api.API;
 
+import java.net.HttpURLConnection;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
+
 /**
  * A class for implementing the datafeed v2 loop service.
  * <p>
@@ -54,10 +57,34 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
   private final RetryWithRecovery<V5Datafeed> createDatafeed;
   private final RetryWithRecovery<Void> deleteDatafeed;
 
-  private V5Datafeed datafeed;
+  /**
+   * Reader managing the datafeed when several readers are configured, null if this one does.
+   */
+  private final DatafeedLoopV2 primary;
+  private final boolean selectiveDecoding;
+
+  private volatile V5Datafeed datafeed;
 
   public DatafeedLoopV2(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo) {
-    super(datafeedApi, authSession, config, botInfo);
+    this(datafeedApi, authSession, config, botInfo, null);
+  }
+
+  /**
+   * Creates an additional reader of the datafeed managed by the primary reader: it only reads the datafeed the primary
+   * one has retrieved or created, with its own ack id. It shares the de-duplication state of the primary reader and
+   * does not save checkpoints.
+   */
+  DatafeedLoopV2(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo,
+      @Nullable DatafeedLoopV2 primary) {
+    super(datafeedApi, authSession, config, botInfo, config.getDatafeed().getMaxUnackedBatches());
+    this.primary = primary;
+    this.selectiveDecoding = config.getDatafeed().isSelectiveDecoding();
+    if (primary == null) {
+      this.setDeduplication(config.getDatafeed().getDeduplication());
+      this.setCheckpoint(config.getDatafeed().getCheckpoint(), "datafeed.checkpoint");
+    } else {
+      this.shareDeduplication(primary);
+    }
 
     this.retryWithRecoveryBuilder = new RetryWithRecoveryBuilder<>()
         .basePath(datafeedApi.getApiClient().getBasePath())
@@ -91,23 +118,34 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
 
   @Override
   protected void runLoop() throws Throwable {
-    this.datafeed = this.retrieveDatafeed.execute();
-    if (this.datafeed == null) {
-      this.datafeed = this.createDatafeed.execute();
+    if (this.primary == null) {
+      this.datafeed = this.retrieveDatafeed.execute();
+      if (this.datafeed == null) {
+        this.datafeed = this.createDatafeed.execute();
+      } else {
+        this.restoreAckId(this.datafeed.getId());
+      }
+    } else {
+      this.followPrimary();
     }
 
     log.info("Start reading events from datafeed {}", this.datafeed.getId());
     this.started.set(true);
-    do {
+    try {
+      do {
 
-      this.readDatafeed.execute();
+        this.readDatafeed.execute();
 
-    } while (this.started.get());
+      } while (this.started.get());
+    } finally {
+      this.stopDispatcher();
+      this.closeCheckpoint();
+    }
     log.info("Datafeed loop successfully stopped.");
   }
 
   private V5Datafeed doCreateDatafeed() throws ApiException {
-    this.ackId = INITIAL_ACK_ID;
+    this.resetAckId();
     return this.datafeedApi.createDatafeed(
         this.authSession.getSessionToken(),
         this.authSession.getKeyManagerToken(),
@@ -129,8 +167,22 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
     return datafeedId != null && FANOUT_FEED_PATTERN.matcher(datafeedId).matches();
   }
 
+  @Override
+  protected String getFeedId() {
+    final V5Datafeed current = this.datafeed;
+    return current == null ? null : current.getId();
+  }
+
   @Override
   protected V5EventList readEvents() throws ApiException {
+    if (this.primary != null) {
+      this.followPrimary();
+    }
+    if (this.selectiveDecoding) {
+      final String path = "/v5/datafeeds/" + this.datafeedApi.getApiClient().escapeString(this.datafeed.getId())
+          + "/read";
+      return this.readHandledEvents(path, new AckId().ackId(this.ackId));
+    }
     return this.datafeedApi.readDatafeed(
         this.datafeed.getId(),
         this.authSession.getSessionToken(),
@@ -139,7 +191,24 @@ public class DatafeedLoopV2 extends AbstractAckIdEventLoop {
     );
   }
 
+  private void followPrimary() throws ApiException {
+    final V5Datafeed primaryDatafeed = this.primary.datafeed;
+    if (primaryDatafeed == null) {
+      // retried until the primary reader has recreated the datafeed
+      throw new ApiException(HttpURLConnection.HTTP_UNAVAILABLE, "Datafeed is being recreated by the primary reader");
+    }
+    final V5Datafeed current = this.datafeed;
+    if (current == null || !current.getId().equals(primaryDatafeed.getId())) {
+      this.resetAckId();
+      this.datafeed = primaryDatafeed;
+    }
+  }
+
   private void recreateDatafeed() {
+    if (this.primary != null) {
+      log.info("Datafeed {} cannot be read, waiting for the primary reader to recreate it", this.getFeedId());
+      return;
+    }
     try {
       log.info("Try to delete the stale datafeed");
       this.deleteDatafeed.execute();
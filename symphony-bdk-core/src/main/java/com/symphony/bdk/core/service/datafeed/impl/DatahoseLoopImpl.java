@@ -17,6 +17,8 @@ import org.apiguardian.api.API;
 
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 @Slf4j
 @API(status = API.Status.INTERNAL)
 public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements DatahoseLoop {
@@ -29,9 +31,25 @@ public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements Datahose
   private final String tag;
   private final List<String> filters;
   private final RetryWithRecovery<Object> readEvents;
+  private final boolean selectiveDecoding;
 
   public DatahoseLoopImpl(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo) {
-    super(datafeedApi, authSession, config, botInfo);
+    this(datafeedApi, authSession, config, botInfo, null);
+  }
+
+  /**
+   * Creates an additional reader of the datahose feed read by the primary reader: it shares its de-duplication state
+   * and does not save checkpoints.
+   */
+  DatahoseLoopImpl(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config, UserV2 botInfo,
+      @Nullable DatahoseLoopImpl primary) {
+    super(datafeedApi, authSession, config, botInfo, config.getDatahose().getMaxUnackedBatches());
+    if (primary == null) {
+      this.setDeduplication(config.getDatahose().getDeduplication());
+      this.setCheckpoint(config.getDatahose().getCheckpoint(), "datahose.checkpoint");
+    } else {
+      this.shareDeduplication(primary);
+    }
 
     String untruncatedTag = config.getDatahose().getTag();
     if (StringUtils.isEmpty(untruncatedTag)) {
@@ -40,6 +58,7 @@ public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements Datahose
     this.tag = StringUtils.truncate(untruncatedTag, DATAHOSE_TAG_MAX_LENGTH);
 
     this.filters = config.getDatahose().getEventTypes();
+    this.selectiveDecoding = config.getDatahose().isSelectiveDecoding();
 
     this.readEvents = new RetryWithRecoveryBuilder<>()
         .basePath(datafeedApi.getApiClient().getBasePath())
@@ -54,18 +73,34 @@ public class DatahoseLoopImpl extends AbstractAckIdEventLoop implements Datahose
   @Override
   protected void runLoop() throws Throwable {
     log.info("Start reading events from datahose loop");
+    this.restoreAckId(this.tag);
     this.started.set(true);
 
-    do {
-      this.readEvents.execute();
-    } while (this.started.get());
+    try {
+      do {
+        this.readEvents.execute();
+      } while (this.started.get());
+    } finally {
+      this.stopDispatcher();
+      this.closeCheckpoint();
+    }
 
     log.info("Datahose loop successfully stopped.");
   }
 
+  @Override
+  protected String getFeedId() {
+    // a datahose feed is identified by its tag
+    return this.tag;
+  }
+
   @Override
   protected V5EventList readEvents() throws ApiException {
-    return this.datafeedApi.readEvents(this.authSession.getSessionToken(), this.authSession.getKeyManagerToken(),
-        new V5EventsReadBody().ackId(this.ackId).eventTypes(this.filters).tag(this.tag).type(DATAHOSE));
+    final V5EventsReadBody body =
+        new V5EventsReadBody().ackId(this.ackId).eventTypes(this.filters).tag(this.tag).type(DATAHOSE);
+    if (this.selectiveDecoding) {
+      return this.readHandledEvents("/v5/events/read", body);
+    }
+    return this.datafeedApi.readEvents(this.authSession.getSessionToken(), this.authSession.getKeyManagerToken(), body);
   }
 }
@@ -0,0 +1,122 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.config.model.BdkDeduplicationConfig;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.apiguardian.api.API;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Remembers the ids of the handled events, so that events re-delivered by the datafeed can be dropped.
+ * <p>
+ * The most recent ids are exactly remembered in a bounded LRU set. If enabled, ids evicted from it are still remembered
+ * by two generations of Bloom filters: once the current one is full, the oldest one is cleared and takes over. The
+ * memory footprint is therefore fixed, at the price of events remembered by the Bloom filters only being possibly
+ * considered as duplicates with the configured false positive rate.
+ * <p>
+ * Readers sharing a de-duplicator {@link #claim(V4Event) claim} an event before handling it, so that an event received
+ * by several readers at once is only handled by one of them.
+ */
+@API(status = API.Status.INTERNAL)
+class EventDeduplicator {
+
+  private final int bloomFilterSize;
+  private final Map<String, Boolean> recentIds;
+  // events claimed by a reader, being handled
+  private final Set<String> claimedIds = new HashSet<>();
+  private BloomFilter currentFilter;
+  private BloomFilter previousFilter;
+  private int currentFilterInsertions;
+
+  EventDeduplicator(BdkDeduplicationConfig config) {
+    final int maxSize = Math.max(1, config.getMaxSize());
+    this.bloomFilterSize = Math.max(0, config.getBloomFilterSize());
+    if (this.bloomFilterSize > 0) {
+      this.currentFilter = new BloomFilter(this.bloomFilterSize, config.getFalsePositiveRate());
+      this.previousFilter = new BloomFilter(this.bloomFilterSize, config.getFalsePositiveRate());
+    }
+    this.recentIds = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+        if (size() <= maxSize) {
+          return false;
+        }
+        rememberEvicted(eldest.getKey());
+        return true;
+      }
+    };
+  }
+
+  /**
+   * @param event the received event.
+   * @return true if an event with the same id has already been handled.
+   */
+  synchronized boolean isDuplicate(V4Event event) {
+    final String id = event.getId();
+    if (id == null) {
+      return false;
+    }
+    return this.recentIds.get(id) != null
+        || (this.currentFilter != null && (this.currentFilter.mightContain(id) || this.previousFilter.mightContain(id)));
+  }
+
+  /**
+   * Atomically checks that an event has neither been handled nor claimed by another reader, and claims it if so. A
+   * claimed event is either {@link #markHandled(V4Event) marked as handled} or {@link #release(V4Event) released}.
+   *
+   * @param event the received event.
+   * @return true if the event has been claimed and is to be handled, false if it is a duplicate.
+   */
+  synchronized boolean claim(V4Event event) {
+    if (event.getId() == null) {
+      return true;
+    }
+    return !this.isDuplicate(event) && this.claimedIds.add(event.getId());
+  }
+
+  /**
+   * Releases a claimed event that failed to be handled, so that it is handled again when re-delivered.
+   *
+   * @param event the claimed event.
+   */
+  synchronized void release(V4Event event) {
+    if (event.getId() != null) {
+      this.claimedIds.remove(event.getId());
+    }
+  }
+
+  /**
+   * Remembers an event once it has been successfully handled.
+   *
+   * @param event the handled event.
+   */
+  synchronized void markHandled(V4Event event) {
+    if (event.getId() != null) {
+      this.claimedIds.remove(event.getId());
+      this.recentIds.put(event.getId(), Boolean.TRUE);
+    }
+  }
+
+  synchronized int size() {
+    return this.recentIds.size();
+  }
+
+  private void rememberEvicted(String id) {
+    if (this.currentFilter == null) {
+      return;
+    }
+    if (this.currentFilterInsertions == this.bloomFilterSize) {
+      final BloomFilter filter = this.previousFilter;
+      filter.clear();
+      this.previousFilter = this.currentFilter;
+      this.currentFilter = filter;
+      this.currentFilterInsertions = 0;
+    }
+    this.currentFilter.add(id);
+    this.currentFilterInsertions++;
+  }
+}
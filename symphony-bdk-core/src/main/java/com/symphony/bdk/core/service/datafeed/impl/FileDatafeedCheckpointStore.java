@@ -0,0 +1,224 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedCheckpoint;
+import com.symphony.bdk.core.service.datafeed.DatafeedCheckpointStore;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+/**
+ * The implementation of {@link DatafeedCheckpointStore} persisting the checkpoints in a local append-only file.
+ * <p>
+ * Saving a checkpoint only keeps a reference to it. The latest checkpoint is appended to the file, then synced to the
+ * disk, by a background thread at a fixed interval and when {@link #flush()} is called. Each record is checksummed so
+ * that a record partially written when the process was killed is ignored. The file is compacted to its latest record
+ * once it exceeds a few kilobytes.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class FileDatafeedCheckpointStore implements DatafeedCheckpointStore {
+
+  private static final int MAX_FILE_SIZE = 64 * 1024;
+  private static final char SEPARATOR = '\n';
+
+  private final Path file;
+  private final long flushIntervalMillis;
+  private final AtomicReference<DatafeedCheckpoint> latest = new AtomicReference<>();
+  private DatafeedCheckpoint written;
+  private FileChannel channel;
+  private volatile ScheduledExecutorService scheduler;
+
+  /**
+   * @param file                the checkpoint file, created if it does not exist.
+   * @param flushIntervalMillis interval between two writes of the latest checkpoint.
+   */
+  public FileDatafeedCheckpointStore(Path file, long flushIntervalMillis) {
+    this.file = file;
+    this.flushIntervalMillis = flushIntervalMillis;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void save(DatafeedCheckpoint checkpoint) {
+    this.latest.set(checkpoint);
+    if (this.scheduler == null) {
+      this.startScheduler();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized Optional<DatafeedCheckpoint> load() {
+    final DatafeedCheckpoint pending = this.latest.get();
+    if (pending != null) {
+      return Optional.of(pending);
+    }
+    if (this.written != null) {
+      return Optional.of(this.written);
+    }
+    try {
+      this.open();
+    } catch (IOException e) {
+      log.error("Error occurred when reading checkpoint from {}", this.file, e);
+    }
+    if (this.written != null) {
+      log.info("Retrieved checkpoint from {}: {}", this.file, this.written);
+    }
+    return Optional.ofNullable(this.written);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void flush() {
+    final DatafeedCheckpoint checkpoint = this.latest.get();
+    if (checkpoint == null || checkpoint.equals(this.written)) {
+      return;
+    }
+    try {
+      this.open();
+      if (this.channel.size() > MAX_FILE_SIZE) {
+        this.compact(checkpoint);
+      } else {
+        this.channel.write(encode(checkpoint));
+        this.channel.force(false);
+      }
+      this.written = checkpoint;
+    } catch (IOException e) {
+      log.error("Error occurred when writing checkpoint to {}", this.file, e);
+    }
+  }
+
+  /**
+   * Flushes the latest checkpoint, then releases the file and the background thread. They are acquired again by the next
+   * call to {@link #save(DatafeedCheckpoint)} or {@link #load()}.
+   */
+  @Override
+  public synchronized void close() {
+    if (this.scheduler != null) {
+      // not interrupting a running flush, an interrupted write would close the channel
+      this.scheduler.shutdown();
+      this.scheduler = null;
+    }
+    this.flush();
+    if (this.channel != null) {
+      try {
+        this.channel.close();
+      } catch (IOException e) {
+        log.debug("Error occurred when closing checkpoint file {}", this.file, e);
+      }
+      this.channel = null;
+    }
+  }
+
+  private synchronized void startScheduler() {
+    if (this.scheduler == null) {
+      this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "datafeed-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+      });
+      this.scheduler.scheduleWithFixedDelay(this::scheduledFlush, this.flushIntervalMillis, this.flushIntervalMillis,
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private synchronized void scheduledFlush() {
+    // a flush waiting for the lock while the store was closed must not reopen the file
+    if (this.scheduler != null) {
+      this.flush();
+    }
+  }
+
+  // reads the last valid record and truncates what follows it, so that new records are appended to a valid file
+  private void open() throws IOException {
+    if (this.channel != null) {
+      return;
+    }
+    if (this.file.getParent() != null) {
+      Files.createDirectories(this.file.getParent());
+    }
+    this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+
+    final ByteBuffer content = ByteBuffer.allocate((int) Math.min(this.channel.size(), Integer.MAX_VALUE));
+    while (content.hasRemaining() && this.channel.read(content) >= 0) {
+      // reads the whole file, which is kept small by the compaction
+    }
+    content.flip();
+
+    int validLength = 0;
+    while (content.remaining() >= Integer.BYTES) {
+      final int length = content.getInt();
+      if (length < 0 || content.remaining() < length + Long.BYTES) {
+        break;
+      }
+      final byte[] record = new byte[length];
+      content.get(record);
+      if (content.getLong() != checksum(record)) {
+        break;
+      }
+      this.written = decode(record);
+      validLength = content.position();
+    }
+
+    if (validLength < this.channel.size()) {
+      log.warn("Ignoring corrupted end of checkpoint file {}", this.file);
+      this.channel.truncate(validLength);
+    }
+    this.channel.position(validLength);
+  }
+
+  private void compact(DatafeedCheckpoint checkpoint) throws IOException {
+    final Path compacted = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+    try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      out.write(encode(checkpoint));
+      out.force(false);
+    }
+    this.channel.close();
+    this.channel = null;
+    Files.move(compacted, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    this.channel = FileChannel.open(this.file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+
+  private static ByteBuffer encode(DatafeedCheckpoint checkpoint) {
+    final byte[] record = (checkpoint.getFeedId() + SEPARATOR + checkpoint.getAckId()).getBytes(StandardCharsets.UTF_8);
+    final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + record.length + Long.BYTES);
+    buffer.putInt(record.length).put(record).putLong(checksum(record));
+    buffer.flip();
+    return buffer;
+  }
+
+  private static DatafeedCheckpoint decode(byte[] record) {
+    final String value = new String(record, StandardCharsets.UTF_8);
+    final int separator = value.indexOf(SEPARATOR);
+    return new DatafeedCheckpoint(value.substring(0, separator), value.substring(separator + 1));
+  }
+
+  private static long checksum(byte[] record) {
+    final CRC32 crc = new CRC32();
+    crc.update(record, 0, record.length);
+    return crc.getValue();
+  }
+}
@@ -0,0 +1,19 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+
+/**
+ * A {@link MultiReaderLoop} running several readers of the same datahose feed, created by
+ * {@link MultiReaderLoop#datahose}.
+ */
+@API(status = API.Status.INTERNAL)
+public class MultiReaderDatahoseLoop extends MultiReaderLoop implements DatahoseLoop {
+
+  MultiReaderDatahoseLoop(List<AbstractAckIdEventLoop> readers) {
+    super(readers, "datahose");
+  }
+}
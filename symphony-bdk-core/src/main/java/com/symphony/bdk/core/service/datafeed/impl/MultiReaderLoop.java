@@ -0,0 +1,219 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.auth.exception.AuthUnauthorizedException;
+import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
+import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.DatafeedApi;
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.http.api.ApiException;
+
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * A loop service running several readers of the same datafeed or datahose feed, each one on its own thread with its own
+ * ack id and retry state. Listeners are subscribed to all readers, they are therefore called concurrently and must be
+ * thread-safe.
+ * <p>
+ * The first reader retrieves or creates the datafeed, the other ones are started once it is reading events and then
+ * read the same datafeed. Datahose readers share the same tag, see {@link MultiReaderDatahoseLoop}. The de-duplication
+ * state, if enabled, is shared by all readers while the ack id checkpoint is only saved by the first one.
+ * <p>
+ * {@link #start()} blocks until all readers are stopped. It fails as soon as one of the readers fails, the other ones
+ * being stopped.
+ */
+@API(status = API.Status.INTERNAL)
+public class MultiReaderLoop implements DatafeedLoop {
+
+  private static final long POLLING_MILLIS = 50;
+
+  private final List<AbstractAckIdEventLoop> readers;
+  private final String name;
+  private volatile boolean stopped;
+
+  MultiReaderLoop(List<AbstractAckIdEventLoop> readers, String name) {
+    this.readers = readers;
+    this.name = name;
+  }
+
+  /**
+   * Creates the readers of the datafeed, as many as configured.
+   */
+  public static MultiReaderLoop datafeed(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config,
+      UserV2 botInfo) {
+    final List<AbstractAckIdEventLoop> readers = new ArrayList<>();
+    final DatafeedLoopV2 primary = new DatafeedLoopV2(datafeedApi, authSession, config, botInfo);
+    readers.add(primary);
+    for (int i = 1; i < config.getDatafeed().getReaders(); i++) {
+      readers.add(new DatafeedLoopV2(datafeedApi, authSession, config, botInfo, primary));
+    }
+    return new MultiReaderLoop(readers, "datafeed");
+  }
+
+  /**
+   * Creates the readers of the datahose feed, as many as configured.
+   */
+  public static MultiReaderDatahoseLoop datahose(DatafeedApi datafeedApi, AuthSession authSession, BdkConfig config,
+      UserV2 botInfo) {
+    final List<AbstractAckIdEventLoop> readers = new ArrayList<>();
+    final DatahoseLoopImpl primary = new DatahoseLoopImpl(datafeedApi, authSession, config, botInfo);
+    readers.add(primary);
+    for (int i = 1; i < config.getDatahose().getReaders(); i++) {
+      readers.add(new DatahoseLoopImpl(datafeedApi, authSession, config, botInfo, primary));
+    }
+    return new MultiReaderDatahoseLoop(readers);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void start() throws AuthUnauthorizedException, ApiException {
+    this.stopped = false;
+    final AtomicInteger threadCount = new AtomicInteger();
+    final ExecutorService executor = Executors.newFixedThreadPool(this.readers.size(), runnable -> {
+      final Thread thread = new Thread(runnable, this.name + "-reader-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    final CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+    int running = 0;
+    try {
+      final AbstractAckIdEventLoop primary = this.readers.get(0);
+      final Future<Void> primaryFuture = completionService.submit(() -> {
+        primary.start();
+        return null;
+      });
+      running++;
+
+      // the other readers can only read the feed once the primary one has retrieved or created it
+      while (!primary.started.get() && !primaryFuture.isDone()) {
+        Thread.sleep(POLLING_MILLIS);
+      }
+      if (!primaryFuture.isDone() && !this.stopped) {
+        for (AbstractAckIdEventLoop reader : this.readers.subList(1, this.readers.size())) {
+          completionService.submit(() -> {
+            reader.start();
+            return null;
+          });
+          running++;
+        }
+      }
+
+      // fails as soon as any reader fails
+      while (running > 0) {
+        final Future<Void> completed = completionService.poll(POLLING_MILLIS, TimeUnit.MILLISECONDS);
+        if (completed != null) {
+          completed.get();
+          running--;
+        } else if (this.stopped) {
+          // a reader still starting when the loop has been stopped would otherwise miss it
+          this.stopReaders();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof AuthUnauthorizedException) {
+        throw (AuthUnauthorizedException) cause;
+      }
+      if (cause instanceof ApiException) {
+        throw (ApiException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException(cause);
+    } finally {
+      this.stop();
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void stop() {
+    this.stopped = true;
+    this.stopReaders();
+  }
+
+  private void stopReaders() {
+    this.readers.forEach(AbstractDatafeedLoop::stop);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void subscribe(RealTimeEventListener listener) {
+    this.readers.forEach(reader -> reader.subscribe(listener));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void unsubscribe(RealTimeEventListener listener) {
+    this.readers.forEach(reader -> reader.unsubscribe(listener));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void subscribeBatch(BatchRealTimeEventListener listener) {
+    this.readers.forEach(reader -> reader.subscribeBatch(listener));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void unsubscribeBatch(BatchRealTimeEventListener listener) {
+    this.readers.forEach(reader -> reader.unsubscribeBatch(listener));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long lastPullTimestamp() {
+    return this.readers.stream().mapToLong(AbstractDatafeedLoop::lastPullTimestamp).max().orElse(0);
+  }
+
+  /**
+   * Sets the {@link DatafeedMetrics} recorder on all readers.
+   *
+   * @param metrics the metrics recorder, {@link DatafeedMetrics#NOOP} is used if null.
+   */
+  public void setMetrics(@Nullable DatafeedMetrics metrics) {
+    this.readers.forEach(reader -> reader.setMetrics(metrics));
+  }
+
+  /**
+   * @return the number of readers.
+   */
+  public int getReaderCount() {
+    return this.readers.size();
+  }
+}
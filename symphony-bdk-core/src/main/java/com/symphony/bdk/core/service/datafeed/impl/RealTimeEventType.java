@@ -16,7 +16,10 @@ import org.apiguardian.api.API;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
@@ -82,6 +85,28 @@ enum RealTimeEventType {
     listener.onConnectionRequested(event.getInitiator(), proxy(event.getPayload().getConnectionRequested(), event));
   });
 
+  /**
+   * Event types handled by a listener class, that is the ones whose listener method is overridden.
+   */
+  private static final ClassValue<Set<RealTimeEventType>> HANDLED_TYPES = new ClassValue<>() {
+    @Override
+    protected Set<RealTimeEventType> computeValue(Class<?> type) {
+      final Set<RealTimeEventType> handledTypes = EnumSet.noneOf(RealTimeEventType.class);
+      for (Method method : type.getMethods()) {
+        if (method.getDeclaringClass() == RealTimeEventListener.class) {
+          continue;
+        }
+        for (RealTimeEventType eventType : values()) {
+          // listener methods are named after the event type, e.g. onMessageSent for MESSAGESENT
+          if (method.getName().equalsIgnoreCase("on" + eventType.name())) {
+            handledTypes.add(eventType);
+          }
+        }
+      }
+      return handledTypes;
+    }
+  };
+
   private final BiConsumer<RealTimeEventListener, V4Event> execConsumer;
 
   RealTimeEventType(BiConsumer<RealTimeEventListener, V4Event> consumer) {
@@ -90,17 +115,34 @@ enum RealTimeEventType {
 
   public static Optional<RealTimeEventType> fromV4Event(V4Event event) {
 
-    if (event == null || event.getType() == null) {
+    if (event == null) {
+      return Optional.empty();
+    }
+
+    return fromType(event.getType());
+  }
+
+  public static Optional<RealTimeEventType> fromType(String type) {
+
+    if (type == null) {
       return Optional.empty();
     }
 
     try {
-      return Optional.of(RealTimeEventType.valueOf(event.getType()));
+      return Optional.of(RealTimeEventType.valueOf(type));
     } catch (IllegalArgumentException e) {
       return Optional.empty();
     }
   }
 
+  /**
+   * @return true if the listener overrides the method called for this event type, false if it would only run the
+   * default no-op one.
+   */
+  public boolean isHandledBy(RealTimeEventListener listener) {
+    return HANDLED_TYPES.get(listener.getClass()).contains(this);
+  }
+
   public void dispatch(RealTimeEventListener listener, V4Event event) {
     this.execConsumer.accept(listener, event);
   }
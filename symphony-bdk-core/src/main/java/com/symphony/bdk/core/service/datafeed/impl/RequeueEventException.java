@@ -1,5 +1,6 @@
 package com.symphony.bdk.core.service.datafeed.impl;
 
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.gen.api.model.V4Event;
@@ -15,4 +16,9 @@ public class RequeueEventException extends RuntimeException {
     super(String.format("Listener %s failed to process event %s with type %s, events will be re-queued",
         listener, event.getId(), event.getType()), e);
   }
+
+  public RequeueEventException(BatchRealTimeEventListener listener, int eventsCount, EventException e) {
+    super(String.format("Batch listener %s failed to process %d events, events will be re-queued",
+        listener, eventsCount), e);
+  }
 }
@@ -0,0 +1,168 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.util.ObjectMapperProvider;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Decodes a {@link V5EventList} from the token stream of a read events response, without materializing the payloads of
+ * the events that are not handled. The type of an event is checked before decoding its payload, the payload being
+ * buffered as tokens in the unlikely case it comes first. The other fields of a handled event are decoded as by the
+ * generated API.
+ */
+@API(status = API.Status.INTERNAL)
+final class V5EventListDecoder {
+
+  private V5EventListDecoder() {
+  }
+
+  /**
+   * @param content       the response body, closed once decoded.
+   * @param isHandledType tells if the events of a given type are handled, the other ones are dropped.
+   * @return the decoded events list with the handled events only.
+   * @throws IOException if the response body cannot be read or is not a valid events list.
+   */
+  static V5EventList decode(InputStream content, Predicate<String> isHandledType) throws IOException {
+    return decode(content, isHandledType, count -> {});
+  }
+
+  /**
+   * @param content       the response body, closed once decoded.
+   * @param isHandledType tells if the events of a given type are handled, the other ones are dropped.
+   * @param receivedCount called with the number of events of the response, including the dropped ones.
+   * @return the decoded events list with the handled events only.
+   * @throws IOException if the response body cannot be read or is not a valid events list.
+   */
+  static V5EventList decode(InputStream content, Predicate<String> isHandledType, IntConsumer receivedCount)
+      throws IOException {
+    try (JsonParser parser = ObjectMapperProvider.getMapper().createParser(content)) {
+      final V5EventList eventList = new V5EventList();
+      int received = 0;
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Events list must be a JSON object");
+      }
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        final JsonToken token = parser.nextToken();
+        if ("ackId".equals(field)) {
+          eventList.setAckId(token == JsonToken.VALUE_NULL ? null : parser.getValueAsString());
+        } else if ("events".equals(field) && token == JsonToken.START_ARRAY) {
+          final List<V4Event> events = new ArrayList<>();
+          received = readEvents(parser, isHandledType, events);
+          eventList.setEvents(events);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      receivedCount.accept(received);
+      return eventList;
+    }
+  }
+
+  // returns the number of events read, including the ones not handled
+  private static int readEvents(JsonParser parser, Predicate<String> isHandledType, List<V4Event> events)
+      throws IOException {
+    int received = 0;
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (token != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        continue;
+      }
+      received++;
+      final V4Event event = readEvent(parser, isHandledType);
+      if (event != null) {
+        events.add(event);
+      }
+    }
+    return received;
+  }
+
+  private static V4Event readEvent(JsonParser parser, Predicate<String> isHandledType) throws IOException {
+    final V4Event event = new V4Event();
+    TokenBuffer bufferedPayload = null;
+    // fields without a dedicated decoding, such as the ones added by later versions of the API
+    TokenBuffer otherFields = null;
+    Boolean handled = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      final JsonToken token = parser.nextToken();
+      if (token == JsonToken.VALUE_NULL) {
+        continue;
+      }
+
+      switch (field) {
+        case "id":
+          event.setId(parser.getValueAsString());
+          break;
+        case "messageId":
+          event.setMessageId(parser.getValueAsString());
+          break;
+        case "timestamp":
+          event.setTimestamp(parser.getValueAsLong());
+          break;
+        case "type":
+          event.setType(parser.getValueAsString());
+          handled = isHandledType.test(event.getType());
+          break;
+        case "initiator":
+          event.setInitiator(parser.readValueAs(V4Initiator.class));
+          break;
+        case "payload":
+          if (handled == null) {
+            // the type is not known yet, the payload is kept as tokens until it is
+            bufferedPayload = new TokenBuffer(parser);
+            bufferedPayload.copyCurrentStructure(parser);
+          } else if (handled) {
+            event.setPayload(parser.readValueAs(V4Payload.class));
+          } else {
+            parser.skipChildren();
+          }
+          break;
+        default:
+          if (otherFields == null) {
+            otherFields = new TokenBuffer(parser);
+            otherFields.writeStartObject();
+          }
+          otherFields.writeFieldName(field);
+          otherFields.copyCurrentStructure(parser);
+      }
+    }
+
+    if (handled == null) {
+      handled = isHandledType.test(event.getType());
+    }
+    if (!handled) {
+      return null;
+    }
+    if (bufferedPayload != null) {
+      try (JsonParser payloadParser = bufferedPayload.asParser(parser.getCodec())) {
+        event.setPayload(payloadParser.readValueAs(V4Payload.class));
+      }
+    }
+    if (otherFields != null) {
+      otherFields.writeEndObject();
+      try (JsonParser fieldsParser = otherFields.asParser(parser.getCodec())) {
+        ObjectMapperProvider.getMapper().readerForUpdating(event).readValue(fieldsParser);
+      }
+    }
+    return event;
+  }
+}
@@ -0,0 +1,272 @@
+package com.symphony.bdk.core.service.datafeed.util;
+
+import com.symphony.bdk.core.service.message.exception.MessageParserException;
+import com.symphony.bdk.core.service.message.exception.PresentationMLParserException;
+import com.symphony.bdk.core.service.message.util.EntityTypeEnum;
+import com.symphony.bdk.core.service.message.util.PresentationMLParser;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+import com.symphony.bdk.http.api.util.ObjectMapperProvider;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Data derived from a real-time event, such as the text content or the mentions of a message, computed lazily once and
+ * shared by all the listeners and activities the event is dispatched to, so that the parsing cost does not grow with
+ * their number.
+ * <p>
+ * The data of the event being dispatched is retrieved with {@link #of(V4Message)} or
+ * {@link #of(V4SymphonyElementsAction)}. Outside the dispatch, they return a new instance that is not shared.
+ * <p>
+ * The returned lists and maps are shared and unmodifiable. As a {@link JsonNode} cannot be made read-only, each call
+ * to {@link #getEntities()} or {@link #getFormValues()} returns a copy of the tree parsed once, that the caller may
+ * modify without affecting the other listeners and activities.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class DerivedEventData {
+
+  private static final ThreadLocal<DerivedEventData> CURRENT = new ThreadLocal<>();
+
+  // form values are converted with a mapper keeping the null values, unlike the shared one
+  private static final ObjectMapper FORM_MAPPER = new JsonMapper();
+
+  private static final String TEXT_CONTENT = "bdk.textContent";
+  private static final String ENTITIES = "bdk.entities";
+  private static final String MENTIONS = "bdk.mentions";
+  private static final String EMOJIS = "bdk.emojis";
+  private static final String FORM_VALUES = "bdk.formValues";
+
+  private final V4Message message;
+  private final Object formValues;
+  private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+  /**
+   * @param event the event whose data is derived.
+   */
+  public DerivedEventData(V4Event event) {
+    this(
+        event.getPayload() != null && event.getPayload().getMessageSent() != null
+            ? event.getPayload().getMessageSent().getMessage() : null,
+        event.getPayload() != null && event.getPayload().getSymphonyElementsAction() != null
+            ? event.getPayload().getSymphonyElementsAction().getFormValues() : null);
+  }
+
+  private DerivedEventData(V4Message message, Object formValues) {
+    this.message = message;
+    this.formValues = formValues;
+  }
+
+  /**
+   * Makes the data available to the code executed by the runnable, in the current thread.
+   *
+   * @param data     the data of the event being dispatched, null for none.
+   * @param runnable the dispatch of the event.
+   */
+  @API(status = API.Status.INTERNAL)
+  public static void runWith(DerivedEventData data, Runnable runnable) {
+    final DerivedEventData previous = CURRENT.get();
+    CURRENT.set(data);
+    try {
+      runnable.run();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  /**
+   * @return the data of the event being dispatched in the current thread, null if none.
+   */
+  public static DerivedEventData current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * @param message a message, typically the one of a received MESSAGESENT event.
+   * @return the data of the event being dispatched if it is the one of the message, a new instance otherwise.
+   */
+  public static DerivedEventData of(V4Message message) {
+    final DerivedEventData current = CURRENT.get();
+    if (current != null && message != null && current.message == message) {
+      return current;
+    }
+    return new DerivedEventData(message, null);
+  }
+
+  /**
+   * @param action a form submission, typically the one of a received SYMPHONYELEMENTSACTION event.
+   * @return the data of the event being dispatched if it is the one of the form submission, a new instance otherwise.
+   */
+  public static DerivedEventData of(V4SymphonyElementsAction action) {
+    final DerivedEventData current = CURRENT.get();
+    final Object actionFormValues = action.getFormValues();
+    if (current != null && actionFormValues != null && current.formValues == actionFormValues) {
+      return current;
+    }
+    return new DerivedEventData(null, actionFormValues);
+  }
+
+  /**
+   * @return the trimmed text content of the message.
+   * @throws PresentationMLParserException if the message PresentationML cannot be parsed.
+   */
+  public String getTextContent() throws PresentationMLParserException {
+    final Object textContent = this.values.get(TEXT_CONTENT);
+    if (textContent != null) {
+      return (String) textContent;
+    }
+    return (String) this.memoize(TEXT_CONTENT, PresentationMLParser.getTextContent(this.message.getMessage()));
+  }
+
+  /**
+   * @return a copy of the entities of the message indexed by their id, as found in its data, an empty node if none.
+   * @throws MessageParserException if the message data cannot be parsed.
+   */
+  public JsonNode getEntities() throws MessageParserException {
+    return this.getSharedEntities().deepCopy();
+  }
+
+  private JsonNode getSharedEntities() throws MessageParserException {
+    final Object entities = this.values.get(ENTITIES);
+    if (entities != null) {
+      return (JsonNode) entities;
+    }
+    final String data = this.message.getData();
+    if (data == null || data.isEmpty()) {
+      return (JsonNode) this.memoize(ENTITIES, JsonNodeFactory.instance.objectNode());
+    }
+    try {
+      return (JsonNode) this.memoize(ENTITIES, ObjectMapperProvider.getMapper().readTree(data));
+    } catch (JsonProcessingException e) {
+      throw new MessageParserException("Failed to extract payload from message data", e);
+    }
+  }
+
+  /**
+   * @return the ids of the users mentioned in the message.
+   * @throws MessageParserException if the message data cannot be parsed.
+   */
+  @SuppressWarnings("unchecked")
+  public List<Long> getMentions() throws MessageParserException {
+    final Object mentions = this.values.get(MENTIONS);
+    if (mentions != null) {
+      return (List<Long>) mentions;
+    }
+    return (List<Long>) this.memoize(MENTIONS, Collections.unmodifiableList(
+        this.getTags(EntityTypeEnum.MENTION).stream().map(Long::parseLong).collect(Collectors.toList())));
+  }
+
+  /**
+   * @return the text of the hashtags contained in the message.
+   * @throws MessageParserException if the message data cannot be parsed.
+   */
+  public List<String> getHashtags() throws MessageParserException {
+    return this.getTags(EntityTypeEnum.HASHTAG);
+  }
+
+  /**
+   * @return the text of the cashtags contained in the message.
+   * @throws MessageParserException if the message data cannot be parsed.
+   */
+  public List<String> getCashtags() throws MessageParserException {
+    return this.getTags(EntityTypeEnum.CASHTAG);
+  }
+
+  /**
+   * @return the unicode of the emojis contained in the message, indexed by their annotation.
+   * @throws MessageParserException if the message data cannot be parsed.
+   */
+  @SuppressWarnings("unchecked")
+  public Map<String, String> getEmojis() throws MessageParserException {
+    final Object emojis = this.values.get(EMOJIS);
+    if (emojis != null) {
+      return (Map<String, String>) emojis;
+    }
+    final Map<String, String> emojisMap = new HashMap<>();
+    for (JsonNode node : this.getSharedEntities()) {
+      if (isType(EntityTypeEnum.EMOJI, node) && !node.findPath("annotation").isMissingNode() &&
+          !node.findPath("unicode").isMissingNode()) {
+        emojisMap.put(node.findPath("annotation").asText(), node.findPath("unicode").asText());
+      }
+    }
+    return (Map<String, String>) this.memoize(EMOJIS, Collections.unmodifiableMap(emojisMap));
+  }
+
+  /**
+   * @return a copy of the values of the submitted form as a tree, null if the form has no values.
+   */
+  public JsonNode getFormValues() {
+    if (this.formValues == null) {
+      return null;
+    }
+    Object formValuesTree = this.values.get(FORM_VALUES);
+    if (formValuesTree == null) {
+      formValuesTree = this.memoize(FORM_VALUES, FORM_MAPPER.valueToTree(this.formValues));
+    }
+    return ((JsonNode) formValuesTree).deepCopy();
+  }
+
+  /**
+   * Returns the value derived from the event for the given key, computing it if absent. Allows any listener or
+   * activity to share its own derived data.
+   *
+   * @param key      the value key, for instance the name of the class computing it. Keys starting with {@code bdk.}
+   *                 are reserved.
+   * @param supplier computes the value, cannot return null.
+   * @param <T>      the value type.
+   * @return the shared value.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T computeIfAbsent(String key, Supplier<T> supplier) {
+    final Object value = this.values.get(key);
+    if (value != null) {
+      return (T) value;
+    }
+    return (T) this.memoize(key, supplier.get());
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<String> getTags(EntityTypeEnum type) throws MessageParserException {
+    final Object cached = this.values.get(type.getValue());
+    if (cached != null) {
+      return (List<String>) cached;
+    }
+    final List<String> tags = new ArrayList<>();
+    for (JsonNode node : this.getSharedEntities()) {
+      if (isType(type, node) && !node.findPath("value").isMissingNode()) {
+        tags.add(node.findPath("value").asText());
+      }
+    }
+    return (List<String>) this.memoize(type.getValue(), Collections.unmodifiableList(tags));
+  }
+
+  /**
+   * As the computations are idempotent, the value computed first is kept when two threads compute it concurrently.
+   */
+  private Object memoize(String key, Object value) {
+    final Object previous = this.values.putIfAbsent(key, value);
+    return previous == null ? value : previous;
+  }
+
+  private static boolean isType(EntityTypeEnum type, JsonNode node) {
+    return type.getValue().equals(node.get("type").asText());
+  }
+}
@@ -36,15 +36,26 @@ import com.symphony.bdk.gen.api.model.V4Stream;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBodyPart;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.Pair;
 import com.symphony.bdk.http.api.util.ApiUtils;
 import com.symphony.bdk.http.api.util.TypeReference;
 import com.symphony.bdk.template.api.TemplateEngine;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
 import org.apiguardian.api.API;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -370,6 +381,7 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
     return doSendFormData("/v4/message/blast", form, new TypeReference<V4MessageBlastResponse>() {});
   }
 
+  // built for each attempt, so that replayable attachments are read again when the sending is retried
   private Map<String, Object> getForm(Message message) {
     final Map<String, Object> form = new HashMap<>();
     form.put("message", message.getContent());
@@ -383,7 +395,9 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
 
   private static ApiClientBodyPart[] toApiClientBodyParts(List<Attachment> attachments) {
     return attachments.stream()
-        .map(a -> new ApiClientBodyPart(a.getContent(), a.getFilename()))
+        .map(a -> a.getPath() != null
+            ? new ApiClientBodyPart(a.getPath(), a.getFilename())
+            : new ApiClientBodyPart(a.getContent(), a.getFilename()))
         .toArray(ApiClientBodyPart[]::new);
   }
 
@@ -425,6 +439,97 @@ public class MessageService implements OboMessageService, OboService<OboMessageS
             authSession.getSessionToken(), authSession.getKeyManagerToken()));
   }
 
+  /**
+   * Downloads the attachment body by the stream ID, message ID and attachment ID, as a stream of decoded bytes.
+   * <p>
+   * The attachment is read from the HTTP response and decoded from base 64 as the returned stream is consumed, so that
+   * it is never fully held in memory. The returned stream must be closed to release the underlying connection.
+   *
+   * @param streamId     the stream ID where to look for the attachment
+   * @param messageId    the ID of the message containing the attachment
+   * @param attachmentId the ID of the attachment
+   * @return the decoded attachment content
+   * @see <a href="https://developers.symphony.com/restapi/reference#attachment">Attachment</a>
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public InputStream getAttachmentStream(@Nonnull String streamId, @Nonnull String messageId,
+      @Nonnull String attachmentId) {
+    final InputStream content = executeAndRetry("getAttachmentStream", attachmentsApi.getApiClient().getBasePath(),
+        () -> doGetAttachmentStream(streamId, messageId, attachmentId));
+    return Base64.getMimeDecoder().wrap(content);
+  }
+
+  /**
+   * Downloads the attachment by the stream ID, message ID and attachment ID into a file, replacing it if it exists.
+   * The attachment is decoded and written as it is received.
+   *
+   * @param streamId     the stream ID where to look for the attachment
+   * @param messageId    the ID of the message containing the attachment
+   * @param attachmentId the ID of the attachment
+   * @param target       the file to write the decoded attachment to
+   * @throws IOException if the attachment cannot be read or written
+   * @see <a href="https://developers.symphony.com/restapi/reference#attachment">Attachment</a>
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void downloadAttachment(@Nonnull String streamId, @Nonnull String messageId, @Nonnull String attachmentId,
+      @Nonnull Path target) throws IOException {
+    try (InputStream content = getAttachmentStream(streamId, messageId, attachmentId)) {
+      Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Downloads the attachment by the stream ID, message ID and attachment ID into a channel, which is left open.
+   * The attachment is decoded and written as it is received.
+   *
+   * @param streamId     the stream ID where to look for the attachment
+   * @param messageId    the ID of the message containing the attachment
+   * @param attachmentId the ID of the attachment
+   * @param target       the channel to write the decoded attachment to
+   * @throws IOException if the attachment cannot be read or written
+   * @see <a href="https://developers.symphony.com/restapi/reference#attachment">Attachment</a>
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public void downloadAttachment(@Nonnull String streamId, @Nonnull String messageId, @Nonnull String attachmentId,
+      @Nonnull WritableByteChannel target) throws IOException {
+    try (InputStream content = getAttachmentStream(streamId, messageId, attachmentId)) {
+      IOUtils.copy(content, Channels.newOutputStream(target));
+    }
+  }
+
+  /**
+   * The generated {@link AttachmentsApi#v1StreamSidAttachmentGet(String, String, String, String, String)} reads the
+   * whole response body into a byte array, so we have to "manually" process this call to get it as a stream.
+   */
+  private InputStream doGetAttachmentStream(String streamId, String messageId, String attachmentId)
+      throws ApiException {
+    final ApiClient apiClient = this.attachmentsApi.getApiClient();
+    final String path =
+        "/v1/stream/" + apiClient.escapeString(toUrlSafeIdIfNeeded(streamId)) + "/attachment";
+
+    final List<Pair> queryParams = new ArrayList<>();
+    queryParams.addAll(apiClient.parameterToPairs("", "file", attachmentId));
+    queryParams.addAll(apiClient.parameterToPairs("", "messageId", messageId));
+
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("sessionToken", apiClient.parameterToString(this.authSession.getSessionToken()));
+    headers.put("keyManagerToken", apiClient.parameterToString(this.authSession.getKeyManagerToken()));
+
+    return apiClient.invokeAPI(
+        path,
+        "GET",
+        queryParams,
+        null,
+        headers,
+        emptyMap(),
+        emptyMap(),
+        apiClient.selectHeaderAccept(new String[] {"application/octet-stream"}),
+        apiClient.selectHeaderContentType(new String[0]),
+        new String[0],
+        new TypeReference<InputStream>() {}
+    ).getData();
+  }
+
   /**
    * Imports a list of messages to Symphony
    *
@@ -5,24 +5,122 @@ import com.symphony.bdk.core.service.message.exception.MessageCreationException;
 import lombok.Getter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
 
 /**
  * Attachment model to be used in {@link com.symphony.bdk.core.service.message.model.Message.MessageBuilder}
  * to attach a file to a {@link Message}
+ * <p>
+ * An attachment created from an {@link InputStream} can only be sent once: if the message sending is retried, the
+ * stream has already been consumed. Attachments created from a {@link Path} or from a stream {@link Supplier} are
+ * replayable, their content is read again from the source for each attempt.
  */
-@Getter
 @API(status = API.Status.STABLE)
 public class Attachment {
 
   private final InputStream content;
+  private final Supplier<InputStream> contentSupplier;
+
+  /**
+   * File the attachment is read from, null if it is not backed by a file.
+   */
+  @Getter
+  @API(status = API.Status.EXPERIMENTAL)
+  private final Path path;
+
+  @Getter
   private final String filename;
 
   public Attachment(InputStream content, String filename) {
-    this.content = content;
+    this(content, null, null, filename);
+  }
+
+  /**
+   * Creates a replayable attachment, read from the given supplier each time it is sent.
+   *
+   * @param contentSupplier supplies a new stream on each call.
+   * @param filename        filename of the attachment.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public Attachment(Supplier<InputStream> contentSupplier, String filename) {
+    this(null, contentSupplier, null, filename);
+  }
+
+  /**
+   * Creates a replayable attachment from a file, streamed from the disk each time it is sent.
+   *
+   * @param path the file to attach, its name is used as the attachment filename.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public Attachment(Path path) {
+    this(path, path.getFileName().toString());
+  }
+
+  /**
+   * Creates a replayable attachment from a file, streamed from the disk each time it is sent.
+   *
+   * @param path     the file to attach.
+   * @param filename filename of the attachment.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public Attachment(Path path, String filename) {
+    this(null, null, path, filename);
+  }
+
+  private Attachment(InputStream content, Supplier<InputStream> contentSupplier, Path path, String filename) {
     if (filename.split("\\.").length < 2 ) {
       throw new MessageCreationException("Invalid attachment's filename, extension is missing.");
     }
+    this.content = content;
+    this.contentSupplier = contentSupplier;
+    this.path = path;
     this.filename = filename;
   }
+
+  /**
+   * Returns the attachment content. For replayable attachments, a new stream is opened on each call and must be closed
+   * by the caller.
+   *
+   * @return the attachment content.
+   */
+  public InputStream getContent() {
+    if (this.path != null) {
+      try {
+        return Files.newInputStream(this.path);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to read attachment " + this.path, e);
+      }
+    }
+    if (this.contentSupplier != null) {
+      return this.contentSupplier.get();
+    }
+    return this.content;
+  }
+
+  /**
+   * @return the supplier opening a new stream for each attempt, null if the attachment is not replayable.
+   */
+  @Nullable
+  @API(status = API.Status.EXPERIMENTAL)
+  public Supplier<InputStream> getContentSupplier() {
+    if (this.path != null) {
+      return this::getContent;
+    }
+    return this.contentSupplier;
+  }
+
+  /**
+   * @return true if the attachment can be sent more than once, typically when the message sending is retried.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public boolean isReplayable() {
+    return this.path != null || this.contentSupplier != null;
+  }
 }
@@ -19,8 +19,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.apiguardian.api.API;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 
@@ -160,6 +162,41 @@ public class Message {
       return this;
     }
 
+    /**
+     * Add a file attachment to the message. The file is streamed from the disk and read again if the sending is
+     * retried.
+     * @param file File to attach, its name is used as the attachment filename.
+     * @return  this builder with the data configured.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public MessageBuilder addAttachment(@Nonnull Path file) {
+      this.attachments.add(new Attachment(file));
+      return this;
+    }
+
+    /**
+     * Add an attachment to the message, whose content is read again from the supplier if the sending is retried.
+     * @param content Supplies a new stream of the attachment content on each call.
+     * @param filename Filename of the attachment.
+     * @return  this builder with the data configured.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public MessageBuilder addAttachment(@Nonnull Supplier<InputStream> content, @Nonnull String filename) {
+      this.attachments.add(new Attachment(content, filename));
+      return this;
+    }
+
+    /**
+     * Add attachment to the message.
+     * @param attachment Attachment to add.
+     * @return  this builder with the data configured.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public MessageBuilder addAttachment(@Nonnull Attachment attachment) {
+      this.attachments.add(attachment);
+      return this;
+    }
+
     /**
      * Add attachment (with preview) to the message.
      * @param attachment Input stream of the attachment content.
@@ -0,0 +1,153 @@
+package com.symphony.bdk.core.service.stream;
+
+import java.util.Arrays;
+
+/**
+ * Minimal open addressing hash set of primitive longs, avoiding the boxing and per-entry node overhead of a
+ * {@code HashSet<Long>}. Collisions are resolved by linear probing and removals use backward shifting, so no tombstone
+ * is ever left in the table.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class LongHashSet {
+
+  private static final long EMPTY = 0L;
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private long[] table;
+  private int size;
+  // 0 is the empty slot marker, it is therefore tracked separately
+  private boolean containsEmpty;
+
+  LongHashSet() {
+    this(16);
+  }
+
+  LongHashSet(int expectedSize) {
+    this.table = new long[capacityFor(expectedSize)];
+  }
+
+  boolean contains(long value) {
+    if (value == EMPTY) {
+      return this.containsEmpty;
+    }
+    final int mask = this.table.length - 1;
+    for (int i = index(value, mask); this.table[i] != EMPTY; i = (i + 1) & mask) {
+      if (this.table[i] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  boolean add(long value) {
+    if (value == EMPTY) {
+      if (this.containsEmpty) {
+        return false;
+      }
+      this.containsEmpty = true;
+      this.size++;
+      return true;
+    }
+    final int mask = this.table.length - 1;
+    int i = index(value, mask);
+    while (this.table[i] != EMPTY) {
+      if (this.table[i] == value) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    this.table[i] = value;
+    this.size++;
+    if (this.size > this.table.length * LOAD_FACTOR) {
+      this.rehash(this.table.length << 1);
+    }
+    return true;
+  }
+
+  boolean remove(long value) {
+    if (value == EMPTY) {
+      if (!this.containsEmpty) {
+        return false;
+      }
+      this.containsEmpty = false;
+      this.size--;
+      return true;
+    }
+    final int mask = this.table.length - 1;
+    int i = index(value, mask);
+    while (this.table[i] != value) {
+      if (this.table[i] == EMPTY) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    this.table[i] = EMPTY;
+    this.size--;
+
+    // shift back the following entries of the cluster that could not be stored at their ideal slot
+    int gap = i;
+    for (int j = (i + 1) & mask; this.table[j] != EMPTY; j = (j + 1) & mask) {
+      final int ideal = index(this.table[j], mask);
+      if (((j - ideal) & mask) >= ((j - gap) & mask)) {
+        this.table[gap] = this.table[j];
+        this.table[j] = EMPTY;
+        gap = j;
+      }
+    }
+    return true;
+  }
+
+  int size() {
+    return this.size;
+  }
+
+  void clear() {
+    Arrays.fill(this.table, EMPTY);
+    this.containsEmpty = false;
+    this.size = 0;
+  }
+
+  long[] toArray() {
+    final long[] values = new long[this.size];
+    int n = 0;
+    if (this.containsEmpty) {
+      values[n++] = EMPTY;
+    }
+    for (long value : this.table) {
+      if (value != EMPTY) {
+        values[n++] = value;
+      }
+    }
+    return values;
+  }
+
+  private void rehash(int capacity) {
+    final long[] previous = this.table;
+    this.table = new long[capacity];
+    final int mask = capacity - 1;
+    for (long value : previous) {
+      if (value != EMPTY) {
+        int i = index(value, mask);
+        while (this.table[i] != EMPTY) {
+          i = (i + 1) & mask;
+        }
+        this.table[i] = value;
+      }
+    }
+  }
+
+  private static int index(long value, int mask) {
+    // spreads the bits of the id so that sequential ids do not form clusters
+    final long hash = value * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int capacity = 16;
+    while (capacity * LOAD_FACTOR < expectedSize) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+}
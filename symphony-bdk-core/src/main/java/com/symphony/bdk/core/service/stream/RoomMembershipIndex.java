@@ -0,0 +1,310 @@
+package com.symphony.bdk.core.service.stream;
+
+import static com.symphony.bdk.core.util.IdUtil.toUrlSafeIdIfNeeded;
+
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V2MemberInfo;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4RoomMemberDemotedFromOwner;
+import com.symphony.bdk.gen.api.model.V4RoomMemberPromotedToOwner;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4User;
+import com.symphony.bdk.gen.api.model.V4UserJoinedRoom;
+import com.symphony.bdk.gen.api.model.V4UserLeftRoom;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.annotation.Nonnull;
+
+/**
+ * In-memory index of the members and owners of streams, to be used when membership is checked over and over.
+ * <p>
+ * The members of a stream are fetched with {@link StreamService#listAllStreamMembers(String)} the first time the stream
+ * is looked up. Once subscribed to the datafeed, the index is then kept current from the USERJOINEDROOM, USERLEFTROOM,
+ * ROOMMEMBERPROMOTEDTOOWNER and ROOMMEMBERDEMOTEDFROMOWNER events, so that subsequent checks do not trigger any call.
+ * The members are fetched without blocking the events of the stream, which are applied once the fetch is over.
+ * <pre>
+ * RoomMembershipIndex memberships = new RoomMembershipIndex(bdk.streams());
+ * bdk.datafeed().subscribe(memberships);
+ *
+ * if (memberships.isOwner(streamId, userId)) {
+ *   // ...
+ * }
+ * </pre>
+ * Events for streams that have not been looked up yet are ignored, the index only holds the streams it has been asked
+ * about, up to a maximum number after which the least recently looked up ones are discarded.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class RoomMembershipIndex implements RealTimeEventListener {
+
+  /**
+   * Default maximum number of indexed streams.
+   */
+  public static final int DEFAULT_MAX_SIZE = 1_000;
+
+  private final StreamService streamService;
+  // guarded by itself, in access order to discard the least recently looked up streams
+  private final Map<String, Membership> memberships;
+
+  public RoomMembershipIndex(@Nonnull StreamService streamService) {
+    this(streamService, DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * @param streamService the stream service used to fetch the members of a stream.
+   * @param maxSize       maximum number of indexed streams.
+   */
+  public RoomMembershipIndex(@Nonnull StreamService streamService, int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Index max size must be strictly positive, got " + maxSize);
+    }
+    this.streamService = streamService;
+    this.memberships = new LinkedHashMap<String, Membership>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Membership> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * @param streamId the stream id.
+   * @param userId   the user id.
+   * @return true if the user is a member of the stream.
+   */
+  public boolean isMember(@Nonnull String streamId, long userId) {
+    final Membership membership = this.membership(streamId);
+    synchronized (membership) {
+      return membership.members.contains(userId);
+    }
+  }
+
+  /**
+   * @param streamId the stream id.
+   * @param userId   the user id.
+   * @return true if the user is an owner of the stream.
+   */
+  public boolean isOwner(@Nonnull String streamId, long userId) {
+    final Membership membership = this.membership(streamId);
+    synchronized (membership) {
+      return membership.owners.contains(userId);
+    }
+  }
+
+  /**
+   * @param streamId the stream id.
+   * @return the ids of the stream members, in no particular order.
+   */
+  public long[] getMembers(@Nonnull String streamId) {
+    final Membership membership = this.membership(streamId);
+    synchronized (membership) {
+      return membership.members.toArray();
+    }
+  }
+
+  /**
+   * @param streamId the stream id.
+   * @return the ids of the stream owners, in no particular order.
+   */
+  public long[] getOwners(@Nonnull String streamId) {
+    final Membership membership = this.membership(streamId);
+    synchronized (membership) {
+      return membership.owners.toArray();
+    }
+  }
+
+  /**
+   * Discards a stream from the index, its members will be fetched again on next lookup.
+   *
+   * @param streamId the stream id.
+   */
+  public void invalidate(@Nonnull String streamId) {
+    synchronized (this.memberships) {
+      this.memberships.remove(toUrlSafeIdIfNeeded(streamId));
+    }
+  }
+
+  /**
+   * Discards all streams from the index.
+   */
+  public void invalidateAll() {
+    synchronized (this.memberships) {
+      this.memberships.clear();
+    }
+  }
+
+  /**
+   * @return the number of streams currently indexed, including the ones being fetched.
+   */
+  public int size() {
+    synchronized (this.memberships) {
+      return this.memberships.size();
+    }
+  }
+
+  /**
+   * Events initiated by the bot itself also have to be taken into account to keep the index consistent.
+   */
+  @Override
+  public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+    return true;
+  }
+
+  @Override
+  public void onUserJoinedRoom(V4Initiator initiator, V4UserJoinedRoom event) {
+    this.update(event.getStream(), event.getAffectedUser(), (membership, userId) -> membership.members.add(userId));
+  }
+
+  @Override
+  public void onUserLeftRoom(V4Initiator initiator, V4UserLeftRoom event) {
+    this.update(event.getStream(), event.getAffectedUser(), (membership, userId) -> {
+      membership.members.remove(userId);
+      membership.owners.remove(userId);
+    });
+  }
+
+  @Override
+  public void onRoomMemberPromotedToOwner(V4Initiator initiator, V4RoomMemberPromotedToOwner event) {
+    this.update(event.getStream(), event.getAffectedUser(), (membership, userId) -> {
+      membership.members.add(userId);
+      membership.owners.add(userId);
+    });
+  }
+
+  @Override
+  public void onRoomMemberDemotedFromOwner(V4Initiator initiator, V4RoomMemberDemotedFromOwner event) {
+    this.update(event.getStream(), event.getAffectedUser(), (membership, userId) -> membership.owners.remove(userId));
+  }
+
+  private Membership membership(String streamId) {
+    final String id = toUrlSafeIdIfNeeded(streamId);
+    final Membership membership;
+    synchronized (this.memberships) {
+      membership = this.memberships.computeIfAbsent(id, key -> new Membership());
+    }
+
+    final CompletableFuture<Void> loading;
+    final boolean loader;
+    synchronized (membership) {
+      if (membership.loaded) {
+        return membership;
+      }
+      loader = membership.loading == null;
+      if (loader) {
+        membership.loading = new CompletableFuture<>();
+      }
+      loading = membership.loading;
+    }
+
+    if (loader) {
+      this.load(id, membership, loading);
+    } else {
+      await(loading);
+    }
+    return membership;
+  }
+
+  // the members are fetched outside the membership lock, so that the events of the stream are not blocked meanwhile
+  private void load(String streamId, Membership membership, CompletableFuture<Void> loading) {
+    log.debug("Loading members of stream {}", streamId);
+    final LongHashSet members = new LongHashSet();
+    final LongHashSet owners = new LongHashSet(4);
+    try {
+      final Iterator<V2MemberInfo> iterator = this.streamService.listAllStreamMembers(streamId).iterator();
+      while (iterator.hasNext()) {
+        final V2MemberInfo member = iterator.next();
+        if (member.getUser() == null || member.getUser().getUserId() == null) {
+          continue;
+        }
+        final long userId = member.getUser().getUserId();
+        members.add(userId);
+        if (Boolean.TRUE.equals(member.getIsOwner())) {
+          owners.add(userId);
+        }
+      }
+    } catch (RuntimeException e) {
+      // lets the next lookup retry
+      synchronized (membership) {
+        membership.loading = null;
+        membership.pendingUpdates.clear();
+      }
+      synchronized (this.memberships) {
+        this.memberships.remove(streamId, membership);
+      }
+      loading.completeExceptionally(e);
+      throw e;
+    }
+
+    synchronized (membership) {
+      membership.members = members;
+      membership.owners = owners;
+      // the events received during the fetch are more recent than or as recent as the fetched members
+      membership.pendingUpdates.forEach(Runnable::run);
+      membership.pendingUpdates.clear();
+      membership.loaded = true;
+      membership.loading = null;
+    }
+    loading.complete(null);
+  }
+
+  private void update(V4Stream stream, V4User user, MembershipUpdate update) {
+    if (stream == null || stream.getStreamId() == null || user == null || user.getUserId() == null) {
+      return;
+    }
+    final Membership membership;
+    synchronized (this.memberships) {
+      membership = this.memberships.get(toUrlSafeIdIfNeeded(stream.getStreamId()));
+    }
+    if (membership == null) {
+      return;
+    }
+    final long userId = user.getUserId();
+    synchronized (membership) {
+      if (membership.loaded) {
+        update.apply(membership, userId);
+      } else if (membership.loading != null) {
+        membership.pendingUpdates.add(() -> update.apply(membership, userId));
+      }
+    }
+  }
+
+  private static void await(CompletableFuture<Void> loading) {
+    try {
+      loading.join();
+    } catch (CompletionException e) {
+      // rethrow the failure of the loading caller as is
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @FunctionalInterface
+  private interface MembershipUpdate {
+    void apply(Membership membership, long userId);
+  }
+
+  private static final class Membership {
+
+    // replaced by the fetched members once loaded
+    private LongHashSet members = new LongHashSet();
+    private LongHashSet owners = new LongHashSet(4);
+    // events received while the members are being fetched
+    private final List<Runnable> pendingUpdates = new ArrayList<>();
+    private boolean loaded;
+    private CompletableFuture<Void> loading;
+  }
+}
@@ -0,0 +1,228 @@
+package com.symphony.bdk.core.service.stream;
+
+import static com.symphony.bdk.core.util.IdUtil.toUrlSafeIdIfNeeded;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.core.util.CacheStats;
+import com.symphony.bdk.core.util.ExpiringCache;
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V1IMDetail;
+import com.symphony.bdk.gen.api.model.V2StreamAttributes;
+import com.symphony.bdk.gen.api.model.V3RoomDetail;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4RoomCreated;
+import com.symphony.bdk.gen.api.model.V4RoomDeactivated;
+import com.symphony.bdk.gen.api.model.V4RoomReactivated;
+import com.symphony.bdk.gen.api.model.V4RoomUpdated;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.http.api.util.ObjectMapperProvider;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Caching facade on top of the {@link StreamService}, to be used when the same streams are looked up over and over
+ * (typically to know whether a stream is an IM or a room, its name or whether it is external).
+ * <p>
+ * Streams ({@link V2StreamAttributes}), rooms ({@link V3RoomDetail}) and IMs ({@link V1IMDetail}) are fetched on first
+ * access and kept in bounded caches with a time-to-live. Once subscribed to the datafeed, the cache is kept consistent
+ * with the room events: updated and created rooms are discarded, deactivated and reactivated rooms are replaced by an
+ * updated copy. Concurrent lookups of a same missing stream share a single call.
+ * <pre>
+ * StreamCache streamCache = new StreamCache(bdk.streams());
+ * bdk.datafeed().subscribe(streamCache);
+ * </pre>
+ * Returned objects are shared between callers and must not be modified.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class StreamCache implements RealTimeEventListener {
+
+  /**
+   * Default maximum number of entries held by each cache.
+   */
+  public static final int DEFAULT_MAX_SIZE = 10_000;
+
+  /**
+   * Default time-to-live of a cached stream.
+   */
+  public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+  private final StreamService streamService;
+  private final ExpiringCache<String, V2StreamAttributes> streams;
+  private final ExpiringCache<String, V3RoomDetail> rooms;
+  private final ExpiringCache<String, V1IMDetail> instantMessages;
+
+  public StreamCache(@Nonnull StreamService streamService) {
+    this(streamService, DEFAULT_MAX_SIZE, DEFAULT_TTL);
+  }
+
+  /**
+   * @param streamService the stream service used on cache miss.
+   * @param maxSize       maximum number of entries held by each cache.
+   * @param ttl           time-to-live of a cached stream.
+   */
+  public StreamCache(@Nonnull StreamService streamService, int maxSize, @Nonnull Duration ttl) {
+    this.streamService = streamService;
+    this.streams = newCache(maxSize, ttl);
+    this.rooms = newCache(maxSize, ttl);
+    this.instantMessages = newCache(maxSize, ttl);
+  }
+
+  /**
+   * Returns the stream information, calling {@link StreamService#getStream(String)} if not cached.
+   *
+   * @param streamId the stream id.
+   * @return the stream information.
+   */
+  public V2StreamAttributes getStream(@Nonnull String streamId) {
+    return this.streams.get(toUrlSafeIdIfNeeded(streamId),
+        id -> Optional.of(this.streamService.getStream(id))).orElse(null);
+  }
+
+  /**
+   * Returns the room information, calling {@link StreamService#getRoomInfo(String)} if not cached.
+   *
+   * @param roomId the room id.
+   * @return the room information.
+   */
+  public V3RoomDetail getRoomInfo(@Nonnull String roomId) {
+    return this.rooms.get(toUrlSafeIdIfNeeded(roomId),
+        id -> Optional.of(this.streamService.getRoomInfo(id))).orElse(null);
+  }
+
+  /**
+   * Returns the IM information, calling {@link StreamService#getInstantMessageInfo(String)} if not cached.
+   *
+   * @param imId the IM id.
+   * @return the IM information.
+   */
+  public V1IMDetail getInstantMessageInfo(@Nonnull String imId) {
+    return this.instantMessages.get(toUrlSafeIdIfNeeded(imId),
+        id -> Optional.of(this.streamService.getInstantMessageInfo(id))).orElse(null);
+  }
+
+  /**
+   * Discards a stream from the caches.
+   *
+   * @param streamId the stream id.
+   */
+  public void invalidate(@Nonnull String streamId) {
+    final String id = toUrlSafeIdIfNeeded(streamId);
+    this.streams.invalidate(id);
+    this.rooms.invalidate(id);
+    this.instantMessages.invalidate(id);
+  }
+
+  /**
+   * Discards all streams from the caches.
+   */
+  public void invalidateAll() {
+    this.streams.invalidateAll();
+    this.rooms.invalidateAll();
+    this.instantMessages.invalidateAll();
+  }
+
+  /**
+   * @return the statistics of the {@link V2StreamAttributes} cache.
+   */
+  public CacheStats streamStats() {
+    return this.streams.stats();
+  }
+
+  /**
+   * @return the statistics of the {@link V3RoomDetail} cache.
+   */
+  public CacheStats roomStats() {
+    return this.rooms.stats();
+  }
+
+  /**
+   * @return the statistics of the {@link V1IMDetail} cache.
+   */
+  public CacheStats instantMessageStats() {
+    return this.instantMessages.stats();
+  }
+
+  /**
+   * Sets the {@link DatafeedMetrics} recorder notified of each lookup, the caches being named {@code streams},
+   * {@code rooms} and {@code ims}.
+   *
+   * @param metrics the metrics recorder, {@link DatafeedMetrics#NOOP} is used if null.
+   */
+  public void setMetrics(@Nullable DatafeedMetrics metrics) {
+    this.streams.setMetrics(DatafeedMetrics.forCache(metrics, "streams"));
+    this.rooms.setMetrics(DatafeedMetrics.forCache(metrics, "rooms"));
+    this.instantMessages.setMetrics(DatafeedMetrics.forCache(metrics, "ims"));
+  }
+
+  /**
+   * Events initiated by the bot itself also have to be taken into account to keep the cache consistent.
+   */
+  @Override
+  public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+    return true;
+  }
+
+  @Override
+  public void onRoomCreated(V4Initiator initiator, V4RoomCreated event) {
+    // a previous lookup may have failed before the room got visible
+    this.invalidate(event.getStream());
+  }
+
+  @Override
+  public void onRoomUpdated(V4Initiator initiator, V4RoomUpdated event) {
+    this.invalidate(event.getStream());
+  }
+
+  @Override
+  public void onRoomDeactivated(V4Initiator initiator, V4RoomDeactivated event) {
+    this.updateActive(event.getStream(), false);
+  }
+
+  @Override
+  public void onRoomReactivated(V4Initiator initiator, V4RoomReactivated event) {
+    this.updateActive(event.getStream(), true);
+  }
+
+  private void invalidate(V4Stream stream) {
+    if (stream != null && stream.getStreamId() != null) {
+      log.debug("Room {} has changed, discarding it from the cache", stream.getStreamId());
+      this.invalidate(stream.getStreamId());
+    }
+  }
+
+  private void updateActive(V4Stream stream, boolean active) {
+    if (stream == null || stream.getStreamId() == null) {
+      return;
+    }
+    final String id = toUrlSafeIdIfNeeded(stream.getStreamId());
+    // cached objects are shared with the callers, hence updated on a copy
+    this.streams.update(id, attributes -> copy(attributes, V2StreamAttributes.class).active(active));
+    this.rooms.update(id, room -> {
+      if (room.getRoomSystemInfo() == null) {
+        return room;
+      }
+      final V3RoomDetail updated = copy(room, V3RoomDetail.class);
+      updated.getRoomSystemInfo().setActive(active);
+      return updated;
+    });
+  }
+
+  private static <T> T copy(T value, Class<T> type) {
+    return ObjectMapperProvider.getMapper().convertValue(value, type);
+  }
+
+  private static <V> ExpiringCache<String, V> newCache(int maxSize, Duration ttl) {
+    // failed lookups are not cached and entries are kept fresh by the datafeed events, hence no refresh-ahead
+    return new ExpiringCache<>(maxSize, ttl, Duration.ZERO);
+  }
+}
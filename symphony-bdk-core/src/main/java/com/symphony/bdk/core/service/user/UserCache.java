@@ -0,0 +1,288 @@
+package com.symphony.bdk.core.service.user;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.core.util.CacheStats;
+import com.symphony.bdk.core.util.ExpiringCache;
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V2UserDetail;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4RoomMemberDemotedFromOwner;
+import com.symphony.bdk.gen.api.model.V4RoomMemberPromotedToOwner;
+import com.symphony.bdk.gen.api.model.V4User;
+import com.symphony.bdk.gen.api.model.V4UserJoinedRoom;
+import com.symphony.bdk.gen.api.model.V4UserLeftRoom;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Caching facade on top of the {@link UserService}, to be used when the same users are looked up over and over
+ * (typically to render display names or emails in replies).
+ * <p>
+ * Users ({@link UserV2}) and user details ({@link V2UserDetail}) are kept in two bounded caches with a time-to-live.
+ * Users that do not exist are remembered for a shorter period, and entries read when close to their expiry are
+ * reloaded in the background by a few threads owned by the cache, which must therefore be closed once not used anymore.
+ * Concurrent lookups of a same missing user share a single call. Cache statistics are available through
+ * {@link #userStats()} and {@link #detailStats()}, and lookups can be measured through {@link #setMetrics}.
+ * <p>
+ * The cache can also be subscribed to the datafeed: it then discards the users whose display name or email address
+ * received in a message sent or room membership event differs from the cached one.
+ * <pre>
+ * UserCache userCache = new UserCache(bdk.users());
+ * bdk.datafeed().subscribe(userCache);
+ * </pre>
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class UserCache implements RealTimeEventListener, AutoCloseable {
+
+  /**
+   * Default maximum number of users held by each cache.
+   */
+  public static final int DEFAULT_MAX_SIZE = 10_000;
+
+  /**
+   * Default time-to-live of a found user.
+   */
+  public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+  /**
+   * Default time-to-live of a not found user.
+   */
+  public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofMinutes(5);
+
+  /**
+   * Default age after which a read user is reloaded in the background.
+   */
+  public static final Duration DEFAULT_REFRESH_AHEAD = Duration.ofMinutes(45);
+
+  private static final int REFRESH_THREADS = 2;
+  private static final int REFRESH_QUEUE_SIZE = 1_000;
+
+  private final UserService userService;
+  private final ThreadPoolExecutor refreshExecutor;
+  private final ExpiringCache<Long, UserV2> users;
+  private final ExpiringCache<Long, V2UserDetail> details;
+
+  public UserCache(@Nonnull UserService userService) {
+    this(userService, DEFAULT_MAX_SIZE, DEFAULT_TTL, DEFAULT_NEGATIVE_TTL, DEFAULT_REFRESH_AHEAD);
+  }
+
+  /**
+   * @param userService  the user service used on cache miss.
+   * @param maxSize      maximum number of users held by each cache.
+   * @param ttl          time-to-live of a found user.
+   * @param negativeTtl  time-to-live of a not found user, {@link Duration#ZERO} to disable negative caching.
+   * @param refreshAhead age after which a read user is reloaded in the background, {@link Duration#ZERO} to disable.
+   */
+  public UserCache(@Nonnull UserService userService, int maxSize, @Nonnull Duration ttl,
+      @Nonnull Duration negativeTtl, @Nonnull Duration refreshAhead) {
+    this.userService = userService;
+    // refreshes exceeding the queue are rejected, the entries are then reloaded once expired
+    final AtomicLong count = new AtomicLong();
+    this.refreshExecutor = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 60L, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(REFRESH_QUEUE_SIZE), runnable -> {
+      final Thread thread = new Thread(runnable, "UserCache-Refresh-" + count.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.refreshExecutor.allowCoreThreadTimeOut(true);
+    this.users = new ExpiringCache<>(maxSize, ttl, negativeTtl, refreshAhead, this.refreshExecutor);
+    this.details = new ExpiringCache<>(maxSize, ttl, negativeTtl, refreshAhead, this.refreshExecutor);
+  }
+
+  /**
+   * Returns a user by its id, calling {@link UserService#listUsersByIds(List)} if not cached.
+   *
+   * @param userId the user id.
+   * @return the user, or an empty {@link Optional} if not found.
+   */
+  public Optional<UserV2> getUser(@Nonnull Long userId) {
+    return this.users.get(userId, id -> this.loadUsers(listOf(id)).values().stream().findFirst());
+  }
+
+  /**
+   * Returns users by their ids, the ones that are not cached are fetched with a single
+   * {@link UserService#listUsersByIds(List)} call.
+   *
+   * @param uidList the user ids.
+   * @return the found users, in the order of the given ids.
+   */
+  public List<UserV2> listUsersByIds(@Nonnull List<Long> uidList) {
+    final Map<Long, UserV2> found = this.users.getAll(uidList, this::loadUsers);
+    final List<UserV2> result = new ArrayList<>(found.size());
+    for (Long userId : uidList) {
+      final UserV2 user = found.get(userId);
+      if (user != null) {
+        result.add(user);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the details of a user, calling {@link UserService#getUserDetail(Long)} if not cached.
+   *
+   * @param userId the user id.
+   * @return the user details, or an empty {@link Optional} if the user has not been found.
+   */
+  public Optional<V2UserDetail> getUserDetail(@Nonnull Long userId) {
+    return this.details.get(userId, this::loadDetail);
+  }
+
+  /**
+   * Discards a user from the caches, to be called when the user is known to have been updated.
+   *
+   * @param userId the user id.
+   */
+  public void invalidate(@Nonnull Long userId) {
+    this.users.invalidate(userId);
+    this.details.invalidate(userId);
+  }
+
+  /**
+   * Discards all users from the caches.
+   */
+  public void invalidateAll() {
+    this.users.invalidateAll();
+    this.details.invalidateAll();
+  }
+
+  /**
+   * @return the statistics of the {@link UserV2} cache.
+   */
+  public CacheStats userStats() {
+    return this.users.stats();
+  }
+
+  /**
+   * @return the statistics of the {@link V2UserDetail} cache.
+   */
+  public CacheStats detailStats() {
+    return this.details.stats();
+  }
+
+  /**
+   * Sets the {@link DatafeedMetrics} recorder notified of each lookup, the caches being named {@code users} and
+   * {@code user-details}.
+   *
+   * @param metrics the metrics recorder, {@link DatafeedMetrics#NOOP} is used if null.
+   */
+  public void setMetrics(@Nullable DatafeedMetrics metrics) {
+    this.users.setMetrics(DatafeedMetrics.forCache(metrics, "users"));
+    this.details.setMetrics(DatafeedMetrics.forCache(metrics, "user-details"));
+  }
+
+  /**
+   * Stops the background refresh threads, entries are then only reloaded once expired.
+   */
+  @Override
+  public void close() {
+    this.refreshExecutor.shutdownNow();
+  }
+
+  /**
+   * Events initiated by the bot itself also carry user information worth checking.
+   */
+  @Override
+  public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+    return true;
+  }
+
+  @Override
+  public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+    this.invalidateIfOutdated(initiator);
+  }
+
+  @Override
+  public void onUserJoinedRoom(V4Initiator initiator, V4UserJoinedRoom event) {
+    this.invalidateIfOutdated(initiator);
+    this.invalidateIfOutdated(event.getAffectedUser());
+  }
+
+  @Override
+  public void onUserLeftRoom(V4Initiator initiator, V4UserLeftRoom event) {
+    this.invalidateIfOutdated(initiator);
+    this.invalidateIfOutdated(event.getAffectedUser());
+  }
+
+  @Override
+  public void onRoomMemberPromotedToOwner(V4Initiator initiator, V4RoomMemberPromotedToOwner event) {
+    this.invalidateIfOutdated(initiator);
+    this.invalidateIfOutdated(event.getAffectedUser());
+  }
+
+  @Override
+  public void onRoomMemberDemotedFromOwner(V4Initiator initiator, V4RoomMemberDemotedFromOwner event) {
+    this.invalidateIfOutdated(initiator);
+    this.invalidateIfOutdated(event.getAffectedUser());
+  }
+
+  private void invalidateIfOutdated(V4Initiator initiator) {
+    if (initiator != null) {
+      this.invalidateIfOutdated(initiator.getUser());
+    }
+  }
+
+  private void invalidateIfOutdated(V4User eventUser) {
+    if (eventUser == null || eventUser.getUserId() == null) {
+      return;
+    }
+    this.users.getIfPresent(eventUser.getUserId())
+        .filter(cached -> isOutdated(cached, eventUser))
+        .ifPresent(cached -> {
+          log.debug("User {} has been updated, discarding it from the cache", eventUser.getUserId());
+          this.invalidate(eventUser.getUserId());
+        });
+  }
+
+  private static boolean isOutdated(UserV2 cached, V4User eventUser) {
+    return (eventUser.getDisplayName() != null && !Objects.equals(eventUser.getDisplayName(), cached.getDisplayName()))
+        || (eventUser.getEmail() != null && !Objects.equals(eventUser.getEmail(), cached.getEmailAddress()));
+  }
+
+  private Map<Long, UserV2> loadUsers(List<Long> userIds) {
+    final Map<Long, UserV2> usersById = new HashMap<>();
+    final List<UserV2> found = this.userService.listUsersByIds(userIds);
+    if (found != null) {
+      found.stream().filter(user -> user.getId() != null).forEach(user -> usersById.put(user.getId(), user));
+    }
+    return usersById;
+  }
+
+  private Optional<V2UserDetail> loadDetail(Long userId) {
+    try {
+      return Optional.ofNullable(this.userService.getUserDetail(userId));
+    } catch (ApiRuntimeException e) {
+      if (e.getCode() == 404) {
+        return Optional.empty();
+      }
+      throw e;
+    }
+  }
+
+  private static List<Long> listOf(Long userId) {
+    final List<Long> list = new ArrayList<>(1);
+    list.add(userId);
+    return list;
+  }
+}
@@ -0,0 +1,249 @@
+package com.symphony.bdk.core.service.user;
+
+import com.symphony.bdk.gen.api.model.UserV2;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Batching facade on top of the {@link UserService}, to be used when users are looked up one by one from many
+ * concurrent threads (typically from real-time event listeners).
+ * <p>
+ * Lookups received within a short time window are coalesced into a single
+ * {@link UserService#listUsersByIds(List)} (or {@link UserService#listUsersByEmails(List)}) call. A batch is sent as
+ * soon as the window expires or as soon as it reaches the maximum batch size. Identical keys within a batch are looked
+ * up once, and each caller gets its own future completed with the matching user, or with an empty {@link Optional} if
+ * the user has not been found. Cancelling or completing a returned future does not affect the other callers.
+ * <p>
+ * Example:
+ * <pre>
+ * UserLoader loader = new UserLoader(bdk.users());
+ * loader.loadById(userId).thenAccept(user -&gt; user.ifPresent(u -&gt; log.info(u.getDisplayName())));
+ * </pre>
+ * The loader holds its own threads, it must be closed once not used anymore.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class UserLoader implements AutoCloseable {
+
+  /**
+   * Default time window during which lookups are collected before being sent.
+   */
+  public static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(10);
+
+  /**
+   * Default maximum number of keys sent in a single call.
+   */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+  private static final int DEFAULT_THREADS = 4;
+
+  private final ScheduledExecutorService executor;
+  private final Batcher<Long> byId;
+  private final Batcher<String> byEmail;
+
+  public UserLoader(@Nonnull UserService userService) {
+    this(userService, DEFAULT_BATCH_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+  }
+
+  public UserLoader(@Nonnull UserService userService, @Nonnull Duration batchWindow, int maxBatchSize) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Max batch size must be strictly positive, got " + maxBatchSize);
+    }
+    final AtomicLong count = new AtomicLong();
+    final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(DEFAULT_THREADS, runnable -> {
+      final Thread thread = new Thread(runnable, "UserLoader-" + count.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.setRemoveOnCancelPolicy(true);
+    this.executor = scheduler;
+
+    this.byId = new Batcher<>("ids", batchWindow, maxBatchSize, userService::listUsersByIds, UserV2::getId,
+        Function.identity());
+    this.byEmail = new Batcher<>("emails", batchWindow, maxBatchSize, userService::listUsersByEmails,
+        UserV2::getEmailAddress, email -> email.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Looks up a user by its id.
+   *
+   * @param userId the user id.
+   * @return a future completed with the user, or with an empty {@link Optional} if not found, failed with an
+   * {@link IllegalStateException} if the loader has been closed.
+   */
+  public CompletableFuture<Optional<UserV2>> loadById(@Nonnull Long userId) {
+    return this.byId.load(userId);
+  }
+
+  /**
+   * Looks up a user by its email address (case-insensitive).
+   *
+   * @param email the user email address.
+   * @return a future completed with the user, or with an empty {@link Optional} if not found, failed with an
+   * {@link IllegalStateException} if the loader has been closed.
+   */
+  public CompletableFuture<Optional<UserV2>> loadByEmail(@Nonnull String email) {
+    return this.byEmail.load(email);
+  }
+
+  /**
+   * Sends pending lookups right away, without waiting for the batch window to expire.
+   */
+  public void flush() {
+    this.byId.flush();
+    this.byEmail.flush();
+  }
+
+  /**
+   * Sends pending lookups and releases the loader threads once they have been processed. Lookups are then rejected.
+   */
+  @Override
+  public void close() {
+    this.flush();
+    this.executor.shutdown();
+  }
+
+  /**
+   * Collects keys of a given type and dispatches them in batches.
+   *
+   * @param <K> key type (user id or email)
+   */
+  private final class Batcher<K> {
+
+    private final String name;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Function<List<K>, List<UserV2>> loader;
+    private final Function<UserV2, K> keyExtractor;
+    private final Function<K, K> keyNormalizer;
+
+    private Map<K, CompletableFuture<Optional<UserV2>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private Batcher(String name, Duration window, int maxBatchSize, Function<List<K>, List<UserV2>> loader,
+        Function<UserV2, K> keyExtractor, Function<K, K> keyNormalizer) {
+      this.name = name;
+      this.window = window;
+      this.maxBatchSize = maxBatchSize;
+      this.loader = loader;
+      this.keyExtractor = keyExtractor;
+      this.keyNormalizer = keyNormalizer;
+    }
+
+    CompletableFuture<Optional<UserV2>> load(K rawKey) {
+      final K key = this.keyNormalizer.apply(rawKey);
+      final CompletableFuture<Optional<UserV2>> future;
+      Map<K, CompletableFuture<Optional<UserV2>>> batch = null;
+
+      synchronized (this) {
+        if (executor.isShutdown()) {
+          return CompletableFuture.failedFuture(new IllegalStateException("UserLoader has been closed"));
+        }
+        final CompletableFuture<Optional<UserV2>> existing = this.pending.get(key);
+        if (existing != null) {
+          return existing.thenApply(Function.identity());
+        }
+
+        future = new CompletableFuture<>();
+        this.pending.put(key, future);
+
+        if (this.pending.size() >= this.maxBatchSize) {
+          batch = this.drain();
+        } else if (this.scheduledFlush == null) {
+          try {
+            this.scheduledFlush =
+                executor.schedule(this::dispatchPending, this.window.toNanos(), TimeUnit.NANOSECONDS);
+          } catch (RejectedExecutionException e) {
+            // closed in the meantime, the submission of the batch fails its futures
+            batch = this.drain();
+          }
+        }
+      }
+
+      if (batch != null) {
+        this.submit(batch);
+      }
+      // the shared future is only completed by the dispatch, each caller getting a dependent copy
+      return future.thenApply(Function.identity());
+    }
+
+    void flush() {
+      final Map<K, CompletableFuture<Optional<UserV2>>> batch;
+      synchronized (this) {
+        batch = this.drain();
+      }
+      this.submit(batch);
+    }
+
+    // runs on a loader thread, which might not accept new tasks anymore if the loader is being closed
+    private void dispatchPending() {
+      final Map<K, CompletableFuture<Optional<UserV2>>> batch;
+      synchronized (this) {
+        batch = this.drain();
+      }
+      if (!batch.isEmpty()) {
+        this.dispatch(batch);
+      }
+    }
+
+    // must be called while holding the lock
+    private Map<K, CompletableFuture<Optional<UserV2>>> drain() {
+      if (this.scheduledFlush != null) {
+        this.scheduledFlush.cancel(false);
+        this.scheduledFlush = null;
+      }
+      final Map<K, CompletableFuture<Optional<UserV2>>> batch = this.pending;
+      this.pending = new LinkedHashMap<>();
+      return batch;
+    }
+
+    private void submit(Map<K, CompletableFuture<Optional<UserV2>>> batch) {
+      if (!batch.isEmpty()) {
+        try {
+          executor.execute(() -> this.dispatch(batch));
+        } catch (RejectedExecutionException e) {
+          batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+      }
+    }
+
+    private void dispatch(Map<K, CompletableFuture<Optional<UserV2>>> batch) {
+      log.debug("Looking up {} users by {}", batch.size(), this.name);
+      try {
+        final List<UserV2> users = this.loader.apply(new ArrayList<>(batch.keySet()));
+        final Map<K, UserV2> usersByKey = new HashMap<>();
+        for (UserV2 user : users == null ? Collections.<UserV2>emptyList() : users) {
+          final K key = this.keyExtractor.apply(user);
+          if (key != null) {
+            usersByKey.put(this.keyNormalizer.apply(key), user);
+          }
+        }
+        batch.forEach((key, future) -> future.complete(Optional.ofNullable(usersByKey.get(key))));
+      } catch (Exception e) {
+        log.debug("Failed to look up users by {}", this.name, e);
+        batch.values().forEach(future -> future.completeExceptionally(e));
+      }
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.symphony.bdk.core.util;
+
+import org.apiguardian.api.API;
+
+/**
+ * Callback notified of the lookups made on an {@link ExpiringCache}, to feed them to a metrics registry.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+@FunctionalInterface
+public interface CacheMetrics {
+
+  /**
+   * Metrics callback that records nothing.
+   */
+  CacheMetrics NOOP = hit -> {};
+
+  /**
+   * Called on each cache lookup.
+   *
+   * @param hit whether the value has been served from the cache.
+   */
+  void recordGet(boolean hit);
+}
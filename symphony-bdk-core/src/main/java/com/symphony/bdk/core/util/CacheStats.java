@@ -0,0 +1,37 @@
+package com.symphony.bdk.core.util;
+
+import lombok.Value;
+import org.apiguardian.api.API;
+
+/**
+ * Snapshot of the statistics of an {@link ExpiringCache}.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+@Value
+public class CacheStats {
+
+  /**
+   * number of lookups served from the cache, including the not found keys
+   */
+  long hitCount;
+  /**
+   * number of lookups that required a load
+   */
+  long missCount;
+  /**
+   * number of entries evicted because the cache was full
+   */
+  long evictionCount;
+  /**
+   * number of entries currently held
+   */
+  int size;
+
+  /**
+   * @return the ratio of lookups served from the cache, 1 if no lookup has been made yet.
+   */
+  public double hitRate() {
+    final long requests = this.hitCount + this.missCount;
+    return requests == 0 ? 1.0 : (double) this.hitCount / requests;
+  }
+}
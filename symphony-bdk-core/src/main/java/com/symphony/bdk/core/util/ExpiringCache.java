@@ -0,0 +1,442 @@
+package com.symphony.bdk.core.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Bounded in-memory cache whose entries expire after a fixed time-to-live.
+ * <p>
+ * The cache evicts the least recently used entry once it reaches its maximum size. Keys for which the loader did not
+ * return any value are cached as well (negative caching) with their own, usually shorter, time-to-live. When a
+ * refresh-ahead delay is configured, an entry read after that delay is returned right away and reloaded in the
+ * background, so that frequently read entries never expire.
+ * <p>
+ * Concurrent lookups of a same missing key share a single load: the first caller loads the value while the other ones
+ * wait for its result. A key invalidated while it is being loaded or refreshed is not stored back with the value
+ * loaded before the invalidation.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+@Slf4j
+@API(status = API.Status.INTERNAL)
+public class ExpiringCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlNanos;
+  private final long negativeTtlNanos;
+  private final long refreshAheadNanos;
+  private final Executor refreshExecutor;
+  private final LongSupplier clock;
+
+  private final Map<K, Entry<V>> entries;
+  private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+  private final Map<K, CompletableFuture<Optional<V>>> loading = new ConcurrentHashMap<>();
+
+  // invalidation generations, guarded by the entries lock, and only kept per key while the key is being loaded
+  private final Map<K, Long> invalidations = new HashMap<>();
+  private long generation;
+  private long allInvalidatedAt;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private volatile CacheMetrics metrics = CacheMetrics.NOOP;
+
+  /**
+   * Builds a cache without refresh-ahead.
+   *
+   * @param maxSize     maximum number of entries, including negative ones.
+   * @param ttl         time-to-live of the found values.
+   * @param negativeTtl time-to-live of the not found keys, {@link Duration#ZERO} to disable negative caching.
+   */
+  public ExpiringCache(int maxSize, @Nonnull Duration ttl, @Nonnull Duration negativeTtl) {
+    this(maxSize, ttl, negativeTtl, Duration.ZERO, null, System::nanoTime);
+  }
+
+  /**
+   * @param maxSize         maximum number of entries, including negative ones.
+   * @param ttl             time-to-live of the found values.
+   * @param negativeTtl     time-to-live of the not found keys, {@link Duration#ZERO} to disable negative caching.
+   * @param refreshAhead    age after which a read entry is reloaded in the background, {@link Duration#ZERO} to disable.
+   * @param refreshExecutor executor running the background reloads.
+   */
+  public ExpiringCache(int maxSize, @Nonnull Duration ttl, @Nonnull Duration negativeTtl,
+      @Nonnull Duration refreshAhead, @Nonnull Executor refreshExecutor) {
+    this(maxSize, ttl, negativeTtl, refreshAhead, refreshExecutor, System::nanoTime);
+  }
+
+  ExpiringCache(int maxSize, Duration ttl, Duration negativeTtl, Duration refreshAhead, Executor refreshExecutor,
+      LongSupplier clock) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Cache max size must be strictly positive, got " + maxSize);
+    }
+    this.maxSize = maxSize;
+    this.ttlNanos = ttl.toNanos();
+    this.negativeTtlNanos = negativeTtl.toNanos();
+    this.refreshAheadNanos = refreshAhead.toNanos();
+    if (this.refreshAheadNanos > 0 && refreshExecutor == null) {
+      throw new IllegalArgumentException("A refresh executor is required when refresh-ahead is enabled");
+    }
+    this.refreshExecutor = refreshExecutor;
+    this.clock = clock;
+    this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        final boolean evict = size() > ExpiringCache.this.maxSize;
+        if (evict) {
+          ExpiringCache.this.evictions.increment();
+        }
+        return evict;
+      }
+    };
+  }
+
+  /**
+   * Returns the value associated to the key, loading it if it is not cached or has expired.
+   *
+   * @param key    the key to look up.
+   * @param loader called on cache miss, returns an empty {@link Optional} if the key does not exist.
+   * @return the value, or an empty {@link Optional} if the key does not exist.
+   */
+  public Optional<V> get(@Nonnull K key, @Nonnull Function<K, Optional<V>> loader) {
+    final Entry<V> entry = this.lookup(key, loader);
+    if (entry != null) {
+      return Optional.ofNullable(entry.value);
+    }
+
+    final CompletableFuture<Optional<V>> load = new CompletableFuture<>();
+    final CompletableFuture<Optional<V>> inFlight = this.loading.putIfAbsent(key, load);
+    if (inFlight != null) {
+      return await(inFlight);
+    }
+    final long startedAt = this.generation();
+    try {
+      final Entry<V> loaded = this.peek(key);
+      final Optional<V> value;
+      if (loaded != null) {
+        // loaded by a previous caller in between the lookup and the claim
+        value = Optional.ofNullable(loaded.value);
+      } else {
+        value = loader.apply(key);
+        this.store(key, value.orElse(null), startedAt);
+      }
+      load.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      load.completeExceptionally(e);
+      throw e;
+    } finally {
+      this.loading.remove(key, load);
+      this.release(key);
+    }
+  }
+
+  /**
+   * Returns the values associated to the keys, loading the missing ones with a single call.
+   *
+   * @param keys   the keys to look up.
+   * @param loader called with the keys that are not cached, returns the found values by key.
+   * @return the found values by key, keys that do not exist are not part of the result.
+   */
+  public Map<K, V> getAll(@Nonnull Collection<K> keys, @Nonnull Function<List<K>, Map<K, V>> loader) {
+    final Map<K, V> result = new HashMap<>();
+    final List<K> missing = new ArrayList<>();
+    for (K key : keys) {
+      final Entry<V> entry = this.lookup(key, k -> Optional.ofNullable(loader.apply(listOf(k)).get(k)));
+      if (entry == null) {
+        missing.add(key);
+      } else if (entry.value != null) {
+        result.put(key, entry.value);
+      }
+    }
+
+    if (missing.isEmpty()) {
+      return result;
+    }
+
+    // keys already being loaded by another caller are awaited rather than loaded a second time
+    final Map<K, CompletableFuture<Optional<V>>> owned = new LinkedHashMap<>();
+    final Map<K, CompletableFuture<Optional<V>>> awaited = new HashMap<>();
+    for (K key : missing) {
+      final CompletableFuture<Optional<V>> load = new CompletableFuture<>();
+      final CompletableFuture<Optional<V>> inFlight = this.loading.putIfAbsent(key, load);
+      if (inFlight != null) {
+        awaited.put(key, inFlight);
+        continue;
+      }
+      final Entry<V> loaded = this.peek(key);
+      if (loaded == null) {
+        owned.put(key, load);
+      } else {
+        // loaded by a previous caller in between the lookup and the claim
+        load.complete(Optional.ofNullable(loaded.value));
+        this.loading.remove(key, load);
+        awaited.put(key, load);
+      }
+    }
+
+    if (!owned.isEmpty()) {
+      final long startedAt = this.generation();
+      try {
+        final Map<K, V> loaded = loader.apply(new ArrayList<>(owned.keySet()));
+        owned.forEach((key, load) -> {
+          final V value = loaded.get(key);
+          this.store(key, value, startedAt);
+          load.complete(Optional.ofNullable(value));
+          if (value != null) {
+            result.put(key, value);
+          }
+        });
+      } catch (RuntimeException | Error e) {
+        owned.values().forEach(load -> load.completeExceptionally(e));
+        throw e;
+      } finally {
+        owned.forEach((key, load) -> {
+          this.loading.remove(key, load);
+          this.release(key);
+        });
+      }
+    }
+    awaited.forEach((key, load) -> await(load).ifPresent(value -> result.put(key, value)));
+    return result;
+  }
+
+  /**
+   * Returns the cached value without loading it nor updating the statistics.
+   *
+   * @param key the key to look up.
+   * @return the value if it is cached and has not expired, an empty {@link Optional} otherwise.
+   */
+  public Optional<V> getIfPresent(@Nonnull K key) {
+    final Entry<V> entry = this.peek(key);
+    return entry == null ? Optional.empty() : Optional.ofNullable(entry.value);
+  }
+
+  /**
+   * Stores a value, replacing the current one if any.
+   *
+   * @param key   the key.
+   * @param value the value, null to cache the key as not found.
+   */
+  public void put(@Nonnull K key, V value) {
+    this.store(key, value);
+  }
+
+  /**
+   * Replaces the cached value with an updated one, if the key is cached and has not expired. The entry keeps its
+   * expiry, and the update function is called while holding the cache lock so it must be fast.
+   *
+   * @param key    the key.
+   * @param update returns the new value from the current one, that must not be modified.
+   */
+  public void update(@Nonnull K key, @Nonnull UnaryOperator<V> update) {
+    synchronized (this.entries) {
+      final Entry<V> entry = this.entries.get(key);
+      if (entry != null && entry.value != null && !entry.isExpired(this.clock.getAsLong())) {
+        this.entries.put(key, new Entry<>(update.apply(entry.value), entry.loadedAt, entry.expiresAt));
+      }
+    }
+  }
+
+  /**
+   * Discards the entry associated to the key, if any. A load or refresh of the key in progress is not stored.
+   *
+   * @param key the key to invalidate.
+   */
+  public void invalidate(@Nonnull K key) {
+    synchronized (this.entries) {
+      this.entries.remove(key);
+      if (this.loading.containsKey(key) || this.refreshing.contains(key)) {
+        this.invalidations.put(key, ++this.generation);
+      }
+    }
+  }
+
+  /**
+   * Discards all entries. The loads and refreshes in progress are not stored.
+   */
+  public void invalidateAll() {
+    synchronized (this.entries) {
+      this.entries.clear();
+      this.invalidations.clear();
+      this.allInvalidatedAt = ++this.generation;
+    }
+  }
+
+  /**
+   * @return the number of entries currently held, including the expired ones that have not been evicted yet.
+   */
+  public int size() {
+    synchronized (this.entries) {
+      return this.entries.size();
+    }
+  }
+
+  /**
+   * Sets the {@link CacheMetrics} callback notified of each lookup.
+   *
+   * @param metrics the metrics callback, {@link CacheMetrics#NOOP} is used if null.
+   */
+  public void setMetrics(@Nullable CacheMetrics metrics) {
+    this.metrics = metrics == null ? CacheMetrics.NOOP : metrics;
+  }
+
+  /**
+   * @return a snapshot of the cache statistics.
+   */
+  public CacheStats stats() {
+    return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum(), this.size());
+  }
+
+  private Entry<V> lookup(K key, Function<K, Optional<V>> loader) {
+    final long now = this.clock.getAsLong();
+    final Entry<V> entry;
+    synchronized (this.entries) {
+      entry = this.entries.get(key);
+    }
+
+    if (entry == null || entry.isExpired(now)) {
+      this.misses.increment();
+      this.metrics.recordGet(false);
+      return null;
+    }
+
+    this.hits.increment();
+    this.metrics.recordGet(true);
+    if (this.refreshAheadNanos > 0 && entry.value != null && now - entry.loadedAt >= this.refreshAheadNanos
+        && this.refreshing.add(key)) {
+      this.refresh(key, loader);
+    }
+    return entry;
+  }
+
+  private Entry<V> peek(K key) {
+    synchronized (this.entries) {
+      final Entry<V> entry = this.entries.get(key);
+      return entry == null || entry.isExpired(this.clock.getAsLong()) ? null : entry;
+    }
+  }
+
+  private void refresh(K key, Function<K, Optional<V>> loader) {
+    try {
+      this.refreshExecutor.execute(() -> {
+        final long startedAt = this.generation();
+        try {
+          this.store(key, loader.apply(key).orElse(null), startedAt);
+        } catch (Exception e) {
+          log.debug("Failed to refresh cache entry {}, current value is kept until it expires", key, e);
+        } finally {
+          this.refreshing.remove(key);
+          this.release(key);
+        }
+      });
+    } catch (Exception e) {
+      log.debug("Failed to schedule the refresh of cache entry {}", key, e);
+      this.refreshing.remove(key);
+      this.release(key);
+    }
+  }
+
+  private long generation() {
+    synchronized (this.entries) {
+      return this.generation;
+    }
+  }
+
+  /**
+   * Stores a loaded value, unless the key has been invalidated since the load started.
+   */
+  private void store(K key, V value, long startedAt) {
+    synchronized (this.entries) {
+      if (Math.max(this.allInvalidatedAt, this.invalidations.getOrDefault(key, 0L)) > startedAt) {
+        log.debug("Cache entry {} has been invalidated while being loaded, the loaded value is not stored", key);
+        return;
+      }
+      this.store(key, value);
+    }
+  }
+
+  /**
+   * Forgets the invalidation generation of the key once it is no longer being loaded nor refreshed.
+   */
+  private void release(K key) {
+    synchronized (this.entries) {
+      if (!this.loading.containsKey(key) && !this.refreshing.contains(key)) {
+        this.invalidations.remove(key);
+      }
+    }
+  }
+
+  private void store(K key, V value) {
+    final long ttl = value == null ? this.negativeTtlNanos : this.ttlNanos;
+    synchronized (this.entries) {
+      if (ttl <= 0) {
+        this.entries.remove(key);
+      } else {
+        final long now = this.clock.getAsLong();
+        this.entries.put(key, new Entry<>(value, now, now + ttl));
+      }
+    }
+  }
+
+  private static <V> Optional<V> await(CompletableFuture<Optional<V>> load) {
+    try {
+      return load.join();
+    } catch (CompletionException e) {
+      // rethrow the failure of the loading caller as is
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static <K> List<K> listOf(K key) {
+    final List<K> list = new ArrayList<>(1);
+    list.add(key);
+    return list;
+  }
+
+  private static final class Entry<V> {
+
+    private final V value;
+    private final long loadedAt;
+    private final long expiresAt;
+
+    private Entry(V value, long loadedAt, long expiresAt) {
+      this.value = value;
+      this.loadedAt = loadedAt;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired(long now) {
+      return now - this.expiresAt >= 0;
+    }
+  }
+}
@@ -22,8 +22,10 @@ import com.symphony.bdk.core.config.model.BdkExtAppConfig;
 import com.symphony.bdk.core.service.application.ApplicationService;
 import com.symphony.bdk.core.service.connection.ConnectionService;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
 import com.symphony.bdk.core.service.datafeed.impl.DatafeedLoopV1;
 import com.symphony.bdk.core.service.datafeed.impl.DatafeedLoopV2;
+import com.symphony.bdk.core.service.datafeed.impl.MultiReaderLoop;
 import com.symphony.bdk.core.service.health.HealthService;
 import com.symphony.bdk.core.service.message.MessageService;
 import com.symphony.bdk.core.service.presence.PresenceService;
@@ -134,6 +136,13 @@ public class ServiceFactoryTest {
     DatafeedLoop datafeedServiceV2 = this.serviceFactory.getDatafeedLoop(botInfo);
     assertNotNull(datafeedServiceV2);
     assertEquals(datafeedServiceV2.getClass(), DatafeedLoopV2.class);
+
+    datafeedConfig.setReaders(2);
+    this.serviceFactory = new ServiceFactory(this.apiClientFactory, mAuthSession, config);
+    DatafeedLoop multiReaderDatafeed = this.serviceFactory.getDatafeedLoop(botInfo);
+    assertEquals(MultiReaderLoop.class, multiReaderDatafeed.getClass());
+    assertEquals(2, ((MultiReaderLoop) multiReaderDatafeed).getReaderCount());
+    assertFalse(multiReaderDatafeed instanceof DatahoseLoop);
   }
 
   @Test
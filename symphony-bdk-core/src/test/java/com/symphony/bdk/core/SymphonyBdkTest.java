@@ -1,6 +1,7 @@
 package com.symphony.bdk.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -36,6 +37,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class SymphonyBdkTest {
 
@@ -119,6 +121,15 @@ public class SymphonyBdkTest {
     assertNotNull(registry);
   }
 
+  @Test
+  void closeTest() {
+    this.symphonyBdk.close();
+
+    final AtomicBoolean executed = new AtomicBoolean();
+    this.symphonyBdk.activities().getExecutor().execute(() -> executed.set(true));
+    assertFalse(executed.get());
+  }
+
   @Test
   void getMessageServiceTest() {
     MessageService messageService = this.symphonyBdk.messages();
@@ -1,18 +1,33 @@
 package com.symphony.bdk.core.activity;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 import com.symphony.bdk.core.activity.form.TestFormReplyActivity;
+import com.symphony.bdk.core.activity.model.ActivityExecutionPolicy;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.EventPayload;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4Stream;
 import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+import com.symphony.bdk.gen.api.model.V4User;
 
 import lombok.experimental.Delegate;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Test class for the {@link AbstractActivity}.
@@ -91,6 +106,199 @@ class AbstractActivityTest {
         () -> act.processEvent(new V4Initiator(), new V4SymphonyElementsActionEvent(new V4SymphonyElementsAction())));
   }
 
+  @Test
+  void shouldRecordActivityExecution() {
+
+    final DatafeedMetrics metrics = mock(DatafeedMetrics.class);
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setMetrics(metrics);
+    act.setOnActivity(c -> {
+      throw new RuntimeException("Error while executing onActivity.");
+    });
+
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+
+    verify(metrics).recordActivityExecution(eq(TestFormReplyActivity.class.getName()), anyLong());
+  }
+
+  @Test
+  void shouldCancelSynchronousActivityAfterMaxDuration() throws InterruptedException {
+
+    final DatafeedMetrics metrics = mock(DatafeedMetrics.class);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final AtomicBoolean timedOut = new AtomicBoolean();
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setMetrics(metrics);
+    act.setExecutionPolicy(new ActivityExecutionPolicy().maxDuration(Duration.ofMillis(100)));
+    act.setOnActivityTimeout(c -> timedOut.set(true));
+    act.setOnActivity(c -> sleep(interrupted));
+
+    final long start = System.nanoTime();
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(timedOut).isTrue();
+    verify(metrics).incrementActivityTimeouts(TestFormReplyActivity.class.getName());
+  }
+
+  @Test
+  void shouldCancelAsynchronousActivityAfterMaxDuration() throws InterruptedException {
+
+    final DatafeedMetrics metrics = mock(DatafeedMetrics.class);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setMetrics(metrics);
+    act.setAsynchronous(true);
+    act.setExecutionPolicy(new ActivityExecutionPolicy().maxDuration(Duration.ofMillis(100)));
+    act.setOnActivity(c -> sleep(interrupted));
+
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    verify(metrics, timeout(5000)).incrementActivityTimeouts(TestFormReplyActivity.class.getName());
+  }
+
+  @Test
+  void shouldKeepCancelledActivityCountedUntilItReturns() throws InterruptedException {
+
+    final DatafeedMetrics metrics = mock(DatafeedMetrics.class);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch returned = new CountDownLatch(1);
+    final AtomicInteger executions = new AtomicInteger();
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setMetrics(metrics);
+    act.setAsynchronous(true);
+    act.setExecutionPolicy(
+        new ActivityExecutionPolicy().maxDuration(Duration.ofMillis(100)).maxConcurrentExecutions(1));
+    act.setOnActivity(c -> {
+      if (executions.incrementAndGet() == 1) {
+        // ignores the interruption
+        awaitUninterruptibly(release);
+        returned.countDown();
+      }
+    });
+
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+    verify(metrics, timeout(5000)).incrementActivityTimeouts(TestFormReplyActivity.class.getName());
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+
+    verify(metrics).incrementRejectedActivityExecutions(TestFormReplyActivity.class.getName());
+    assertThat(executions).hasValue(1);
+
+    release.countDown();
+    assertThat(returned.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldFailOnActivityExecutionErrorWithMaxDuration() {
+
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setExecutionPolicy(new ActivityExecutionPolicy().maxDuration(Duration.ofSeconds(5)));
+    act.setOnActivity(c -> {
+      throw new EventException("Error while executing onActivity.");
+    });
+
+    assertThrows(EventException.class,
+        () -> act.processEvent(new V4Initiator(), new V4SymphonyElementsActionEvent(new V4SymphonyElementsAction())));
+  }
+
+  @Test
+  void shouldSkipActivityAboveMaxConcurrentExecutions() {
+
+    final DatafeedMetrics metrics = mock(DatafeedMetrics.class);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger executions = new AtomicInteger();
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setMetrics(metrics);
+    act.setAsynchronous(true);
+    act.setExecutionPolicy(new ActivityExecutionPolicy().maxConcurrentExecutions(1));
+    act.setOnActivity(c -> {
+      executions.incrementAndGet();
+      await(release);
+    });
+
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+    release.countDown();
+
+    verify(metrics).incrementRejectedActivityExecutions(TestFormReplyActivity.class.getName());
+    verify(metrics, timeout(5000)).recordActivityExecution(eq(TestFormReplyActivity.class.getName()), anyLong());
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  void shouldSkipActivityAboveMaxConcurrentExecutionsPerUser() throws InterruptedException {
+
+    final DatafeedMetrics metrics = mock(DatafeedMetrics.class);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch executed = new CountDownLatch(2);
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setMetrics(metrics);
+    act.setAsynchronous(true);
+    act.setExecutionPolicy(new ActivityExecutionPolicy().maxConcurrentExecutionsPerUser(1));
+    act.setOnActivity(c -> {
+      executed.countDown();
+      await(release);
+    });
+
+    act.processEvent(initiator(1L), new V4SymphonyElementsAction());
+    act.processEvent(initiator(1L), new V4SymphonyElementsAction());
+    act.processEvent(initiator(2L), new V4SymphonyElementsAction());
+
+    assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+    verify(metrics).incrementRejectedActivityExecutions(TestFormReplyActivity.class.getName());
+    release.countDown();
+  }
+
+  @Test
+  void shouldNotLimitActivityByDefault() {
+
+    final DatafeedMetrics metrics = mock(DatafeedMetrics.class);
+    final TestFormReplyActivity act = new TestFormReplyActivity();
+    act.setMetrics(metrics);
+
+    act.processEvent(new V4Initiator(), new V4SymphonyElementsAction());
+
+    verify(metrics, never()).incrementRejectedActivityExecutions(TestFormReplyActivity.class.getName());
+    verify(metrics, never()).incrementActivityTimeouts(TestFormReplyActivity.class.getName());
+  }
+
+  private static V4Initiator initiator(Long userId) {
+    return new V4Initiator().user(new V4User().userId(userId));
+  }
+
+  private static void sleep(CountDownLatch interrupted) {
+    try {
+      Thread.sleep(10_000);
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        latch.await(5, TimeUnit.SECONDS);
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   static class V4SymphonyElementsActionEvent extends V4SymphonyElementsAction implements EventPayload {
     @Delegate
     V4SymphonyElementsAction elementsAction;
@@ -0,0 +1,195 @@
+package com.symphony.bdk.core.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.symphony.bdk.core.config.model.BdkActivitiesConfig;
+import com.symphony.bdk.core.config.model.BdkActivityRejectionPolicy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class for the {@link ActivityExecutor}.
+ */
+class ActivityExecutorTest {
+
+  private ActivityExecutor executor;
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+    if (this.executor != null) {
+      this.executor.close();
+    }
+  }
+
+  @Test
+  void shouldQueueExecutionsOncePoolIsBusy() throws InterruptedException {
+    this.executor = new ActivityExecutor(config(1, 10, BdkActivityRejectionPolicy.DISCARD));
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(3);
+
+    for (int i = 0; i < 3; i++) {
+      this.executor.execute(() -> {
+        await(release);
+        done.countDown();
+      });
+    }
+
+    assertThat(this.executor.getQueueSize()).isEqualTo(2);
+    release.countDown();
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldRunInCallerThreadWhenSaturated() {
+    this.executor = new ActivityExecutor(config(1, 0, BdkActivityRejectionPolicy.CALLER_RUNS));
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+
+    this.executor.execute(() -> await(release));
+    this.executor.execute(() -> thread.set(Thread.currentThread()));
+    release.countDown();
+
+    assertThat(thread.get()).isEqualTo(Thread.currentThread());
+  }
+
+  @Test
+  void shouldDiscardWhenSaturated() {
+    this.executor = new ActivityExecutor(config(1, 0, BdkActivityRejectionPolicy.DISCARD));
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicBoolean executed = new AtomicBoolean();
+
+    this.executor.execute(() -> await(release));
+    this.executor.execute(() -> executed.set(true));
+    release.countDown();
+
+    assertThat(executed).isFalse();
+  }
+
+  @Test
+  void shouldPropagateMdc() throws InterruptedException {
+    this.executor = new ActivityExecutor(config(1, 10, BdkActivityRejectionPolicy.CALLER_RUNS));
+    final AtomicReference<String> traceId = new AtomicReference<>();
+    final CountDownLatch done = new CountDownLatch(2);
+
+    MDC.put("X-Trace-Id", "first");
+    this.executor.execute(done::countDown);
+    MDC.put("X-Trace-Id", "second");
+    this.executor.execute(() -> {
+      traceId.set(MDC.get("X-Trace-Id"));
+      done.countDown();
+    });
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(traceId.get()).isEqualTo("second");
+  }
+
+  @Test
+  void shouldUseVirtualThreads() throws InterruptedException {
+    assumeTrue(Runtime.version().feature() >= 21);
+    final BdkActivitiesConfig config = config(1, 10, BdkActivityRejectionPolicy.CALLER_RUNS);
+    config.setVirtualThreads(true);
+    this.executor = new ActivityExecutor(config);
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    final CountDownLatch done = new CountDownLatch(1);
+
+    this.executor.execute(() -> {
+      thread.set(Thread.currentThread());
+      done.countDown();
+    });
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(thread.get().isDaemon()).isTrue();
+    assertThat(thread.get().getName()).startsWith("Activity-Async-Thread-");
+  }
+
+  @Test
+  void shouldLimitVirtualThreadsToPoolSize() throws InterruptedException {
+    assumeTrue(Runtime.version().feature() >= 21);
+    final BdkActivitiesConfig config = config(2, 1, BdkActivityRejectionPolicy.DISCARD);
+    config.setVirtualThreads(true);
+    this.executor = new ActivityExecutor(config);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch started = new CountDownLatch(2);
+    final CountDownLatch done = new CountDownLatch(3);
+    final AtomicBoolean discarded = new AtomicBoolean(true);
+
+    for (int i = 0; i < 3; i++) {
+      this.executor.execute(() -> {
+        started.countDown();
+        await(release);
+        done.countDown();
+      });
+    }
+    this.executor.execute(() -> discarded.set(false));
+
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(this.executor.getActiveCount()).isEqualTo(2);
+    assertThat(this.executor.getQueueSize()).isEqualTo(1);
+    release.countDown();
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(discarded).isTrue();
+  }
+
+  @Test
+  void shouldNotQueueSynchronousExecutions() {
+    this.executor = new ActivityExecutor(config(1, 10, BdkActivityRejectionPolicy.CALLER_RUNS));
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    final AtomicBoolean timedOut = new AtomicBoolean();
+    final AtomicBoolean completed = new AtomicBoolean();
+    this.executor.execute(() -> await(release));
+    this.executor.execute(() -> await(release));
+
+    this.executor.executeAndAwait(new ActivityExecution(() -> thread.set(Thread.currentThread()),
+        Duration.ofMillis(100), () -> timedOut.set(true), () -> completed.set(true)));
+    release.countDown();
+
+    assertThat(thread.get()).isNotNull().isNotEqualTo(Thread.currentThread());
+    assertThat(thread.get().getName()).startsWith("Activity-Sync-Thread-");
+    assertThat(timedOut).isFalse();
+    assertThat(completed).isTrue();
+  }
+
+  @Test
+  void shouldNotReportTimeoutOfQueuedExecution() throws InterruptedException {
+    this.executor = new ActivityExecutor(config(1, 10, BdkActivityRejectionPolicy.DISCARD));
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch completed = new CountDownLatch(1);
+    final AtomicBoolean timedOut = new AtomicBoolean();
+    this.executor.execute(() -> await(release));
+
+    this.executor.execute(new ActivityExecution(() -> {}, Duration.ofMillis(50), () -> timedOut.set(true),
+        completed::countDown));
+    Thread.sleep(200);
+    release.countDown();
+
+    assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(timedOut).isFalse();
+  }
+
+  private static BdkActivitiesConfig config(int poolSize, int queueSize, BdkActivityRejectionPolicy policy) {
+    final BdkActivitiesConfig config = new BdkActivitiesConfig();
+    config.setPoolSize(poolSize);
+    config.setQueueSize(queueSize);
+    config.setRejectionPolicy(policy);
+    return config;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
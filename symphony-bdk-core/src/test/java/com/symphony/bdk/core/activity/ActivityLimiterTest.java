@@ -0,0 +1,51 @@
+package com.symphony.bdk.core.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.activity.model.ActivityExecutionPolicy;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link ActivityLimiter}.
+ */
+class ActivityLimiterTest {
+
+  @Test
+  void shouldNotLimitByDefault() {
+    final ActivityLimiter limiter = new ActivityLimiter(new ActivityExecutionPolicy());
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(limiter.tryAcquire(1L)).isTrue();
+    }
+    assertThat(limiter.getExecutions()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldLimitConcurrentExecutions() {
+    final ActivityLimiter limiter = new ActivityLimiter(new ActivityExecutionPolicy().maxConcurrentExecutions(2));
+
+    assertThat(limiter.tryAcquire(1L)).isTrue();
+    assertThat(limiter.tryAcquire(2L)).isTrue();
+    assertThat(limiter.tryAcquire(3L)).isFalse();
+    assertThat(limiter.getExecutions()).isEqualTo(2);
+
+    limiter.release(1L);
+    assertThat(limiter.tryAcquire(3L)).isTrue();
+  }
+
+  @Test
+  void shouldLimitConcurrentExecutionsPerUser() {
+    final ActivityLimiter limiter =
+        new ActivityLimiter(new ActivityExecutionPolicy().maxConcurrentExecutions(10).maxConcurrentExecutionsPerUser(1));
+
+    assertThat(limiter.tryAcquire(1L)).isTrue();
+    assertThat(limiter.tryAcquire(1L)).isFalse();
+    assertThat(limiter.tryAcquire(2L)).isTrue();
+    assertThat(limiter.tryAcquire(null)).isTrue();
+    assertThat(limiter.getExecutions()).isEqualTo(3);
+
+    limiter.release(1L);
+    assertThat(limiter.tryAcquire(1L)).isTrue();
+  }
+}
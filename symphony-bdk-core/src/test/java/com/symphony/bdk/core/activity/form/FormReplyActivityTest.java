@@ -64,6 +64,19 @@ class FormReplyActivityTest {
     assertNull(context.getFormValue("not-existing"));
   }
 
+  @Test
+  void testBeforeMatcherWithoutFormValues() {
+
+    final FormReplyContext context = createContext();
+    context.getSourceEvent().setFormId("formId");
+    context.getSourceEvent().setStream(new V4Stream().streamId("streamId"));
+
+    act.beforeMatcher(context);
+
+    assertEquals("formId", context.getFormId());
+    assertNull(context.getFormValues());
+  }
+
   private static FormReplyContext createContext() {
     return new FormReplyContext(new V4Initiator(), new V4SymphonyElementsAction());
   }
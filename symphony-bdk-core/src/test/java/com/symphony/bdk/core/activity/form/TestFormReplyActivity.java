@@ -1,6 +1,7 @@
 package com.symphony.bdk.core.activity.form;
 
 import com.symphony.bdk.core.activity.ActivityMatcher;
+import com.symphony.bdk.core.activity.model.ActivityExecutionPolicy;
 import com.symphony.bdk.core.activity.model.ActivityInfo;
 import com.symphony.bdk.core.activity.model.ActivityType;
 
@@ -17,6 +18,9 @@ public class TestFormReplyActivity extends FormReplyActivity<FormReplyContext> {
   @Setter private Function<FormReplyContext, Boolean> matcher = c -> true;
   @Setter private Consumer<FormReplyContext> beforeMatcher = c -> {};
   @Setter private Consumer<FormReplyContext> onActivity = c -> {};
+  @Setter private Consumer<FormReplyContext> onActivityTimeout = c -> {};
+  @Setter private ActivityExecutionPolicy executionPolicy;
+  @Setter private boolean asynchronous = false;
 
   @Override
   protected ActivityInfo info() {
@@ -39,8 +43,18 @@ public class TestFormReplyActivity extends FormReplyActivity<FormReplyContext> {
     this.onActivity.accept(context);
   }
 
+  @Override
+  public void onActivityTimeout(FormReplyContext context) {
+    this.onActivityTimeout.accept(context);
+  }
+
+  @Override
+  protected ActivityExecutionPolicy executionPolicy() {
+    return this.executionPolicy;
+  }
+
   @Override
   public boolean isAsynchronous() {
-    return false;
+    return this.asynchronous;
   }
 }
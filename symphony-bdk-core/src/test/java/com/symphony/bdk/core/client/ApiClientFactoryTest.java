@@ -251,12 +251,20 @@ class ApiClientFactoryTest {
     final int connectionPoolPerRoute = 19;
     final int readTimeout = 60001;
     final int connectionTimeout = 15001;
+    final int connectionMaxIdleTime = 20001;
+    final int connectionTimeToLive = 300001;
+    final int connectionValidateAfterInactivity = 2001;
 
     final BdkConfig config = this.createConfig();
     config.setConnectionPoolMax(connectionPoolMax);
     config.setConnectionPoolPerRoute(connectionPoolPerRoute);
     config.setReadTimeout(readTimeout);
     config.setConnectionTimeout(connectionTimeout);
+    config.setConnectionMaxIdleTime(connectionMaxIdleTime);
+    config.setConnectionTimeToLive(connectionTimeToLive);
+    config.setConnectionValidateAfterInactivity(connectionValidateAfterInactivity);
+    config.setHttp2(true);
+    config.setCompression(false);
 
     final ApiClientBuilderJersey2 apiClientBuilder = spy(new ApiClientBuilderJersey2());
     new ApiClientFactory(config, () -> apiClientBuilder).getLoginClient();
@@ -265,6 +273,11 @@ class ApiClientFactoryTest {
     verify(apiClientBuilder, times(1)).withConnectionPoolPerRoute(connectionPoolPerRoute);
     verify(apiClientBuilder, times(1)).withReadTimeout(readTimeout);
     verify(apiClientBuilder, times(1)).withConnectionTimeout(connectionTimeout);
+    verify(apiClientBuilder, times(1)).withConnectionMaxIdleTime(connectionMaxIdleTime);
+    verify(apiClientBuilder, times(1)).withConnectionTimeToLive(connectionTimeToLive);
+    verify(apiClientBuilder, times(1)).withConnectionValidateAfterInactivity(connectionValidateAfterInactivity);
+    verify(apiClientBuilder, times(1)).withHttp2(true);
+    verify(apiClientBuilder, times(1)).withCompression(false);
   }
 
   private BdkConfig createConfigWithCertificateAndTrustStore(String trustStorePath, String trustStorePassword) {
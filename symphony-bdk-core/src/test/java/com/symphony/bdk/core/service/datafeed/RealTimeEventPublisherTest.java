@@ -0,0 +1,182 @@
+package com.symphony.bdk.core.service.datafeed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the {@link RealTimeEventPublisher}.
+ */
+class RealTimeEventPublisherTest {
+
+  @Test
+  void shouldEmitEventsOnDemandOnly() throws Exception {
+    final FakeLoop loop = new FakeLoop(Arrays.asList(event("1"), event("2")), Arrays.asList(event("3")));
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    new RealTimeEventPublisher(loop).subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+    assertThat(subscriber.next()).isEqualTo("1");
+    assertThat(subscriber.signals.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    assertThat(loop.handledBatches).isZero();
+
+    subscriber.subscription.request(1);
+    assertThat(subscriber.next()).isEqualTo("2");
+    // the batch is only handled, hence acknowledged, once more events are requested
+    assertThat(subscriber.signals.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    assertThat(loop.handledBatches).isZero();
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertThat(subscriber.next()).isEqualTo("3");
+    assertThat(subscriber.next()).isEqualTo("complete");
+    assertThat(loop.handledBatches).isEqualTo(2);
+    assertThat(loop.failures).isEmpty();
+  }
+
+  @Test
+  void shouldFailBatchWhenCancelledBeforeAllEventsAreEmitted() throws Exception {
+    final FakeLoop loop = new FakeLoop(Arrays.asList(event("1"), event("2")));
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    new RealTimeEventPublisher(loop).subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+    assertThat(subscriber.next()).isEqualTo("1");
+    subscriber.subscription.cancel();
+
+    assertThat(loop.stopped.await(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(loop.done.await(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(loop.failures).hasSize(1).first().isInstanceOf(EventException.class);
+    assertThat(loop.listeners).isEmpty();
+    assertThat(subscriber.signals).isEmpty();
+  }
+
+  @Test
+  void shouldRejectNonPositiveRequest() throws Exception {
+    final FakeLoop loop = new FakeLoop();
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    new RealTimeEventPublisher(loop).subscribe(subscriber);
+
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.next()).startsWith("error:IllegalArgumentException");
+    assertThat(loop.stopped.getCount()).isZero();
+  }
+
+  @Test
+  void shouldRejectSecondSubscriber() throws Exception {
+    final RealTimeEventPublisher publisher = new RealTimeEventPublisher(new FakeLoop());
+    publisher.subscribe(new RecordingSubscriber());
+
+    final RecordingSubscriber second = new RecordingSubscriber();
+    publisher.subscribe(second);
+
+    assertThat(second.next()).startsWith("error:IllegalStateException");
+  }
+
+  private static V4Event event(String id) {
+    return new V4Event().id(id);
+  }
+
+  private static class FakeLoop implements DatafeedLoop {
+
+    private final List<List<V4Event>> batches;
+    private final List<BatchRealTimeEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<Exception> failures = new CopyOnWriteArrayList<>();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile int handledBatches;
+
+    @SafeVarargs
+    private FakeLoop(List<V4Event>... batches) {
+      this.batches = Arrays.asList(batches);
+    }
+
+    @Override
+    public void start() {
+      try {
+        for (List<V4Event> batch : this.batches) {
+          if (this.stopped.getCount() == 0) {
+            return;
+          }
+          try {
+            this.listeners.forEach(listener -> listener.onEvents(batch));
+            this.handledBatches++;
+          } catch (EventException e) {
+            this.failures.add(e);
+          }
+        }
+      } finally {
+        this.done.countDown();
+      }
+    }
+
+    @Override
+    public void stop() {
+      this.stopped.countDown();
+    }
+
+    @Override
+    public void subscribe(RealTimeEventListener listener) {
+    }
+
+    @Override
+    public void unsubscribe(RealTimeEventListener listener) {
+    }
+
+    @Override
+    public void subscribeBatch(BatchRealTimeEventListener listener) {
+      this.listeners.add(listener);
+    }
+
+    @Override
+    public void unsubscribeBatch(BatchRealTimeEventListener listener) {
+      this.listeners.remove(listener);
+    }
+
+    @Override
+    public long lastPullTimestamp() {
+      return 0;
+    }
+  }
+
+  private static class RecordingSubscriber implements Flow.Subscriber<V4Event> {
+
+    private final BlockingQueue<String> signals = new LinkedBlockingQueue<>();
+    private Flow.Subscription subscription;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(V4Event item) {
+      this.signals.add(item.getId());
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.signals.add("error:" + throwable.getClass().getSimpleName());
+    }
+
+    @Override
+    public void onComplete() {
+      this.signals.add("complete");
+    }
+
+    private String next() throws InterruptedException {
+      return this.signals.poll(1, TimeUnit.SECONDS);
+    }
+  }
+}
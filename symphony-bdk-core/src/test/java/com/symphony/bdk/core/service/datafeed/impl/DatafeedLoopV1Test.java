@@ -9,6 +9,7 @@ import com.symphony.bdk.core.config.exception.BdkConfigException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkDatafeedConfig;
 import com.symphony.bdk.core.service.datafeed.DatafeedIdRepository;
+import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
 import com.symphony.bdk.core.test.InMemoryDatafeedIdRepository;
@@ -172,6 +173,27 @@ class DatafeedLoopV1Test {
     assertEquals(DEFAULT_AGENT_BASE_PATH, datafeedIdRepository.readAgentBasePath().get());
   }
 
+  @Test
+  void testBatchListenerReceivesEvents() throws ApiException, AuthUnauthorizedException {
+    final List<List<V4Event>> batches = new ArrayList<>();
+    this.datafeedService.subscribeBatch(batches::add);
+    final List<V4Event> events = getMessageSentEvent();
+    when(datafeedApi.v4DatafeedCreatePost("1234", "1234")).thenReturn(new Datafeed().id("test-id"));
+    when(datafeedApi.v4DatafeedIdReadGet("test-id", "1234", "1234", null)).thenReturn(events);
+
+    this.datafeedService.start();
+
+    assertEquals(Collections.singletonList(events), batches);
+  }
+
+  @Test
+  void testBatchListenerIgnoredByDefault() {
+    final DatafeedLoop loop = mock(DatafeedLoop.class, Mockito.CALLS_REAL_METHODS);
+
+    loop.subscribeBatch(events -> {});
+    loop.unsubscribeBatch(events -> {});
+  }
+
   @Test
   void testDatafeedIdIsReused() throws ApiException, AuthUnauthorizedException {
     datafeedIdRepository.write("persisted-id");
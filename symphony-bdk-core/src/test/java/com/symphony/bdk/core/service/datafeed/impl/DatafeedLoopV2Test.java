@@ -7,6 +7,9 @@ import com.symphony.bdk.core.config.BdkConfigLoader;
 import com.symphony.bdk.core.config.exception.BdkConfigException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkDatafeedConfig;
+import com.symphony.bdk.core.service.datafeed.DatafeedCheckpoint;
+import com.symphony.bdk.core.service.datafeed.DatafeedCheckpointStore;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.exception.NestedRetryException;
@@ -35,18 +38,23 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -330,6 +338,60 @@ class DatafeedLoopV2Test {
     assertEquals("ack-id", datafeedService.getAckId());
   }
 
+  @Test
+  void testMetricsAreRecorded() throws ApiException, AuthUnauthorizedException {
+    final DatafeedMetrics metrics = mock(DatafeedMetrics.class);
+    this.datafeedService.setMetrics(metrics);
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenReturn(new V5EventList()
+            .addEventsItem(new V4Event().type("UNKNOWN"))
+            .addEventsItem(new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+                .timestamp(System.currentTimeMillis())
+                .payload(new V4Payload().messageSent(new V4MessageSent())))
+            .ackId("ack-id"));
+
+    this.datafeedService.start();
+
+    verify(metrics).recordRead(eq(2), anyLong());
+    verify(metrics).incrementUnsupportedEvents("UNKNOWN");
+    verify(metrics).recordEventLag(eq(RealTimeEventType.MESSAGESENT.name()), anyLong());
+    verify(metrics).recordDispatch(eq(RealTimeEventType.MESSAGESENT.name()), eq(listener), anyLong());
+    verify(metrics, never()).incrementRequeuedBatches();
+  }
+
+  @Test
+  void testRequeuedBatchMetricIsRecorded() throws ApiException, AuthUnauthorizedException {
+    final DatafeedMetrics metrics = mock(DatafeedMetrics.class);
+    this.datafeedService.setMetrics(metrics);
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any()))
+        .thenReturn(new V5EventList().addEventsItem(
+            new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+                .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id"));
+
+    this.datafeedService.unsubscribe(listener);
+    this.datafeedService.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        datafeedService.stop();
+        throw new EventException("failure");
+      }
+    });
+    this.datafeedService.start();
+
+    verify(metrics).incrementRequeuedBatches();
+  }
+
   private ArgumentMatcher<AckId> eqAckId(String ackId) {
     return argument -> argument.getAckId() != null && argument.getAckId().equals(ackId);
   }
@@ -662,4 +724,200 @@ class DatafeedLoopV2Test {
     verify(datafeedApi, times(1)).readDatafeed(DATAFEED_ID, TOKEN, TOKEN, ackId);
     verify(datafeedApi, times(1)).deleteDatafeed(DATAFEED_ID, TOKEN, TOKEN);
   }
+
+  @Test
+  void testStartFromSavedCheckpoint() throws ApiException, AuthUnauthorizedException {
+    DatafeedCheckpointStore checkpointStore = mock(DatafeedCheckpointStore.class);
+    when(checkpointStore.load()).thenReturn(Optional.of(new DatafeedCheckpoint(DATAFEED_ID, "saved-ack-id")));
+    this.datafeedService.setCheckpointStore(checkpointStore);
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("saved-ack-id"))))
+        .thenReturn(messageSentBatch("ack-id"));
+
+    this.datafeedService.start();
+
+    verify(datafeedApi, times(1)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("saved-ack-id")));
+    verify(checkpointStore).save(new DatafeedCheckpoint(DATAFEED_ID, "ack-id"));
+    verify(checkpointStore).close();
+  }
+
+  @Test
+  void testStartIgnoresCheckpointOfAnotherFeed() throws ApiException, AuthUnauthorizedException {
+    DatafeedCheckpointStore checkpointStore = mock(DatafeedCheckpointStore.class);
+    when(checkpointStore.load()).thenReturn(Optional.of(new DatafeedCheckpoint("other_f_feed", "saved-ack-id")));
+    this.datafeedService.setCheckpointStore(checkpointStore);
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(messageSentBatch("ack-id"));
+
+    this.datafeedService.start();
+
+    verify(datafeedApi, times(1)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("")));
+  }
+
+  @Test
+  void testPipelinedReadSendsAckIdsOnceBatchesAreHandled() throws Exception {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().setMaxUnackedBatches(1);
+    DatafeedLoopV2 pipelinedLoop = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, new UserV2());
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+
+    List<String> sentAckIds = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch secondReadStarted = new CountDownLatch(1);
+    CountDownLatch secondBatchHandled = new CountDownLatch(1);
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any(AckId.class))).thenAnswer(invocation -> {
+      sentAckIds.add(invocation.getArgument(3, AckId.class).getAckId());
+      switch (sentAckIds.size()) {
+        case 1:
+          return messageSentBatch("ack-id1");
+        case 2:
+          secondReadStarted.countDown();
+          return messageSentBatch("ack-id2");
+        default:
+          secondBatchHandled.await(5, TimeUnit.SECONDS);
+          return new V5EventList().ackId("ack-id3");
+      }
+    });
+
+    AtomicInteger handledBatches = new AtomicInteger();
+    pipelinedLoop.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        if (handledBatches.incrementAndGet() == 1) {
+          try {
+            // the first batch can only be handled once the next read is in flight
+            secondReadStarted.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        } else {
+          pipelinedLoop.stop();
+          secondBatchHandled.countDown();
+        }
+      }
+    });
+
+    pipelinedLoop.start();
+
+    assertEquals(0, secondReadStarted.getCount());
+    assertEquals(2, handledBatches.get());
+    // the first batch is only acknowledged by the read following its handling
+    assertEquals(List.of("", "", "ack-id1"), sentAckIds);
+  }
+
+  @Test
+  void testPipelinedReadAcknowledgesBatchesLikeSequentialRead() throws Exception {
+    // the ack id of a failed batch is never sent while the ones of the following batches are
+    for (int maxUnackedBatches : new int[] {0, 1}) {
+      final List<String> sentAckIds = this.sentAckIdsWhenFirstBatchFails(maxUnackedBatches);
+      assertFalse(sentAckIds.contains("ack-id1"));
+      assertTrue(sentAckIds.contains("ack-id2"));
+    }
+  }
+
+  // the first batch fails, the second one succeeds, then the loop is stopped once the second ack id has been sent
+  private List<String> sentAckIdsWhenFirstBatchFails(int maxUnackedBatches) throws Exception {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().setMaxUnackedBatches(maxUnackedBatches);
+    DatafeedLoopV2 loop = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, new UserV2());
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+
+    List<String> sentAckIds = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch batchesHandled = new CountDownLatch(2);
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any(AckId.class))).thenAnswer(invocation -> {
+      sentAckIds.add(invocation.getArgument(3, AckId.class).getAckId());
+      switch (sentAckIds.size()) {
+        case 1:
+          return messageSentBatch("ack-id1");
+        case 2:
+          return messageSentBatch("ack-id2");
+        default:
+          batchesHandled.await(5, TimeUnit.SECONDS);
+          if (sentAckIds.contains("ack-id2")) {
+            loop.stop();
+          }
+          return new V5EventList().ackId("ack-id" + sentAckIds.size());
+      }
+    });
+
+    AtomicInteger handledBatches = new AtomicInteger();
+    loop.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) throws EventException {
+        batchesHandled.countDown();
+        if (handledBatches.incrementAndGet() == 1) {
+          throw new EventException("failure");
+        }
+      }
+    });
+
+    loop.start();
+    return new ArrayList<>(sentAckIds);
+  }
+
+  @Test
+  void testRedeliveredEventsAreDropped() throws Exception {
+    BdkConfig bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    bdkConfig.getDatafeed().getDeduplication().setEnabled(true);
+    DatafeedLoopV2 deduplicatingLoop = new DatafeedLoopV2(this.datafeedApi, this.authSession, bdkConfig, new UserV2());
+
+    when(datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId(""))))
+        .thenReturn(new V5EventList().events(List.of(messageSent("id1"), messageSent("id2"))).ackId("ack-id1"));
+    when(datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), argThat(eqAckId("ack-id1"))))
+        .thenReturn(new V5EventList().events(List.of(messageSent("id2"), messageSent("id3"))).ackId("ack-id2"));
+
+    List<String> handledIds = new ArrayList<>();
+    deduplicatingLoop.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        handledIds.add(event.getId());
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        if (handledIds.size() == 3) {
+          deduplicatingLoop.stop();
+        }
+      }
+    });
+
+    deduplicatingLoop.start();
+
+    assertEquals(List.of("id1", "id2", "id3"), handledIds);
+  }
+
+  private static V4Event messageSent(String id) {
+    return new V4Event().id(id).type(RealTimeEventType.MESSAGESENT.name())
+        .payload(new V4Payload().messageSent(new V4MessageSent()));
+  }
+
+  private static V5EventList messageSentBatch(String ackId) {
+    return new V5EventList().addEventsItem(
+        new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+            .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId(ackId);
+  }
 }
@@ -5,8 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,6 +21,8 @@ import com.symphony.bdk.core.config.BdkConfigLoader;
 import com.symphony.bdk.core.config.exception.BdkConfigException;
 import com.symphony.bdk.core.config.model.BdkConfig;
 import com.symphony.bdk.core.config.model.BdkDatahoseConfig;
+import com.symphony.bdk.core.service.datafeed.BatchRealTimeEventListener;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.EventException;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.gen.api.DatafeedApi;
@@ -31,6 +36,7 @@ import com.symphony.bdk.gen.api.model.V5EventList;
 import com.symphony.bdk.gen.api.model.V5EventsReadBody;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
 
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,11 +46,17 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.ConnectException;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -274,6 +286,66 @@ class DatahoseLoopTest {
     assertEventsReadBody(bodyCaptor.getAllValues().get(1), tag, "");
   }
 
+  @Test
+  void testBatchListenerReceivesAcceptedEvents() throws ApiException, AuthUnauthorizedException {
+    final List<List<V4Event>> batches = new ArrayList<>();
+    this.datahoseLoop.subscribeBatch(new BatchRealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return RealTimeEventType.MESSAGESENT.name().equals(event.getType());
+      }
+
+      @Override
+      public void onEvents(List<V4Event> events) {
+        batches.add(events);
+      }
+    });
+
+    final V5EventList eventList = buildV5Events(RealTimeEventType.MESSAGESENT, "ack-id")
+        .addEventsItem(new V4Event().type(RealTimeEventType.ROOMCREATED.name())
+            .payload(new V4Payload().roomCreated(new V4RoomCreated())))
+        .addEventsItem(new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+            .payload(new V4Payload().messageSent(new V4MessageSent())));
+    when(datafeedApi.readEvents(any(), any(), any())).thenReturn(eventList);
+
+    datahoseLoop.start();
+
+    assertEquals(1, batches.size());
+    assertEquals(Arrays.asList(eventList.getEvents().get(0), eventList.getEvents().get(2)), batches.get(0));
+  }
+
+  @Test
+  void testEventExceptionInBatchListenerLeadsToAckIdNotUpdated() throws ApiException, AuthUnauthorizedException {
+    datahoseLoop.unsubscribe(listener);
+    final AtomicBoolean failed = new AtomicBoolean();
+    this.datahoseLoop.subscribeBatch(new BatchRealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onEvents(List<V4Event> events) {
+        if (failed.compareAndSet(false, true)) {
+          throw new EventException("exception");
+        }
+        datahoseLoop.stop();
+      }
+    });
+
+    when(datafeedApi.readEvents(any(), any(), any()))
+        .thenReturn(buildV5Events(RealTimeEventType.ROOMCREATED, "ack-id"))
+        .thenReturn(buildV5Events(RealTimeEventType.ROOMCREATED, "ack-id-2"));
+
+    datahoseLoop.start();
+
+    ArgumentCaptor<V5EventsReadBody> bodyCaptor = ArgumentCaptor.forClass(V5EventsReadBody.class);
+    verify(datafeedApi, times(2)).readEvents(any(), any(), bodyCaptor.capture());
+
+    assertEventsReadBody(bodyCaptor.getAllValues().get(0), tag, "");
+    assertEventsReadBody(bodyCaptor.getAllValues().get(1), tag, "");
+  }
+
   @ParameterizedTest
   @ValueSource(ints = {400, 404})
   void testErrorIsNotRetried(int statusCode) throws ApiException {
@@ -355,6 +427,62 @@ class DatahoseLoopTest {
     assertTrue(isIllegalExceptionThrown.get());
   }
 
+  @Test
+  void testSelectiveDecodingSkipsUnhandledEvents() throws ApiException, AuthUnauthorizedException {
+    bdkConfig.getDatahose().setSelectiveDecoding(true);
+    datahoseLoop = new DatahoseLoopImpl(datafeedApi, authSession, bdkConfig, botInfo);
+    datahoseLoop.subscribe(listener);
+    final DatafeedMetrics metrics = mock(DatafeedMetrics.class);
+    datahoseLoop.setMetrics(metrics);
+
+    final String events = "{\"events\": ["
+        + "{\"id\": \"1\", \"type\": \"ROOMCREATED\", \"payload\": {\"roomCreated\": {}}},"
+        + "{\"id\": \"2\", \"type\": \"MESSAGESENT\", \"payload\": {\"messageSent\": {}}}"
+        + "], \"ackId\": \"ack-id\"}";
+    when(apiClient.invokeAPI(eq("/v5/events/read"), eq("POST"), any(), any(), any(), any(), any(), any(), any(), any(),
+        any())).thenAnswer(invocation -> new ApiResponse<>(200, Collections.emptyMap(),
+        new ByteArrayInputStream(events.getBytes(StandardCharsets.UTF_8))));
+
+    datahoseLoop.start();
+
+    ArgumentCaptor<Object> bodyCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(apiClient).invokeAPI(eq("/v5/events/read"), eq("POST"), any(), bodyCaptor.capture(), any(), any(), any(),
+        any(), any(), any(), any());
+    assertEventsReadBody((V5EventsReadBody) bodyCaptor.getValue(), tag, "");
+    verify(datafeedApi, never()).readEvents(any(), any(), any());
+    // the room created event is not handled by the subscribed listener, it is dropped while decoding but still counted
+    verify(metrics).recordRead(eq(2), anyLong());
+    verify(metrics).recordDispatch(eq("MESSAGESENT"), eq(listener), anyLong());
+    verify(metrics, never()).recordDispatch(eq("ROOMCREATED"), any(), anyLong());
+  }
+
+  @Test
+  void testSelectiveDecodingRetriesNetworkErrorWhileReadingEvents() throws ApiException, AuthUnauthorizedException {
+    bdkConfig.getDatahose().setSelectiveDecoding(true);
+    datahoseLoop = new DatahoseLoopImpl(datafeedApi, authSession, bdkConfig, botInfo);
+    datahoseLoop.subscribe(listener);
+
+    final String events = "{\"events\": [{\"id\": \"1\", \"type\": \"MESSAGESENT\", "
+        + "\"payload\": {\"messageSent\": {}}}], \"ackId\": \"ack-id\"}";
+    final InputStream failingContent = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw new SocketTimeoutException("Read timed out");
+      }
+    };
+    when(apiClient.invokeAPI(eq("/v5/events/read"), eq("POST"), any(), any(), any(), any(), any(), any(), any(), any(),
+        any()))
+        .thenReturn(new ApiResponse<>(200, Collections.emptyMap(), failingContent))
+        .thenReturn(new ApiResponse<>(200, Collections.emptyMap(),
+            new ByteArrayInputStream(events.getBytes(StandardCharsets.UTF_8))));
+
+    datahoseLoop.start();
+
+    // the decoding error is wrapped in an UncheckedIOException caused by the SocketTimeoutException
+    verify(apiClient, times(2)).invokeAPI(eq("/v5/events/read"), eq("POST"), any(), any(), any(), any(), any(), any(),
+        any(), any(), any());
+  }
+
   private V5EventList buildV5Events(RealTimeEventType eventType, String ackId) {
     if (RealTimeEventType.MESSAGESENT == eventType) {
       return new V5EventList().ackId(ackId)
@@ -0,0 +1,122 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.config.model.BdkDeduplicationConfig;
+import com.symphony.bdk.gen.api.model.V4Event;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link EventDeduplicator}.
+ */
+class EventDeduplicatorTest {
+
+  @Test
+  void shouldDetectHandledEvents() {
+    final EventDeduplicator deduplicator = new EventDeduplicator(config(10, 0));
+
+    assertThat(deduplicator.isDuplicate(event("id1"))).isFalse();
+    deduplicator.markHandled(event("id1"));
+
+    assertThat(deduplicator.isDuplicate(event("id1"))).isTrue();
+    assertThat(deduplicator.isDuplicate(event("id2"))).isFalse();
+    assertThat(deduplicator.isDuplicate(new V4Event())).isFalse();
+  }
+
+  @Test
+  void shouldForgetLeastRecentlySeenEvents() {
+    final EventDeduplicator deduplicator = new EventDeduplicator(config(2, 0));
+
+    deduplicator.markHandled(event("id1"));
+    deduplicator.markHandled(event("id2"));
+    deduplicator.isDuplicate(event("id1"));
+    deduplicator.markHandled(event("id3"));
+
+    assertThat(deduplicator.size()).isEqualTo(2);
+    assertThat(deduplicator.isDuplicate(event("id1"))).isTrue();
+    assertThat(deduplicator.isDuplicate(event("id2"))).isFalse();
+    assertThat(deduplicator.isDuplicate(event("id3"))).isTrue();
+  }
+
+  @Test
+  void shouldRememberEvictedEventsInBloomFilter() {
+    final EventDeduplicator deduplicator = new EventDeduplicator(config(10, 1_000));
+
+    for (int i = 0; i < 1_000; i++) {
+      deduplicator.markHandled(event("id" + i));
+    }
+
+    assertThat(deduplicator.size()).isEqualTo(10);
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(deduplicator.isDuplicate(event("id" + i))).isTrue();
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (deduplicator.isDuplicate(event("other" + i))) {
+        falsePositives++;
+      }
+    }
+    // two generations of filters are checked, each with a 1% false positive rate at most
+    assertThat(falsePositives).isLessThan(300);
+  }
+
+  @Test
+  void shouldRotateBloomFilters() {
+    final EventDeduplicator deduplicator = new EventDeduplicator(config(1, 100));
+
+    for (int i = 0; i < 301; i++) {
+      deduplicator.markHandled(event("id" + i));
+    }
+
+    // the first 100 evicted ids have been forgotten when the third generation has started
+    int remembered = 0;
+    for (int i = 0; i < 100; i++) {
+      if (deduplicator.isDuplicate(event("id" + i))) {
+        remembered++;
+      }
+    }
+    assertThat(remembered).isLessThan(10);
+    for (int i = 100; i < 301; i++) {
+      assertThat(deduplicator.isDuplicate(event("id" + i))).isTrue();
+    }
+  }
+
+  @Test
+  void shouldLetOneReaderClaimEvent() {
+    final EventDeduplicator deduplicator = new EventDeduplicator(config(10, 0));
+
+    assertThat(deduplicator.claim(event("id1"))).isTrue();
+    // received by another reader while being handled
+    assertThat(deduplicator.claim(event("id1"))).isFalse();
+    assertThat(deduplicator.claim(new V4Event())).isTrue();
+
+    deduplicator.markHandled(event("id1"));
+    assertThat(deduplicator.claim(event("id1"))).isFalse();
+  }
+
+  @Test
+  void shouldClaimReleasedEventAgain() {
+    final EventDeduplicator deduplicator = new EventDeduplicator(config(10, 0));
+
+    assertThat(deduplicator.claim(event("id1"))).isTrue();
+    deduplicator.release(event("id1"));
+
+    assertThat(deduplicator.isDuplicate(event("id1"))).isFalse();
+    assertThat(deduplicator.claim(event("id1"))).isTrue();
+  }
+
+  private static BdkDeduplicationConfig config(int maxSize, int bloomFilterSize) {
+    final BdkDeduplicationConfig config = new BdkDeduplicationConfig();
+    config.setEnabled(true);
+    config.setMaxSize(maxSize);
+    config.setBloomFilterSize(bloomFilterSize);
+    config.setFalsePositiveRate(0.01);
+    return config;
+  }
+
+  private static V4Event event(String id) {
+    return new V4Event().id(id);
+  }
+}
@@ -0,0 +1,117 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedCheckpoint;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Test class for the {@link FileDatafeedCheckpointStore}.
+ */
+class FileDatafeedCheckpointStoreTest {
+
+  private Path file;
+
+  @BeforeEach
+  void setUp(@TempDir Path tempDir) {
+    this.file = tempDir.resolve("checkpoints").resolve("datafeed.checkpoint");
+  }
+
+  @Test
+  void shouldLoadEmptyCheckpoint() {
+    assertThat(new FileDatafeedCheckpointStore(this.file, 1000).load()).isEmpty();
+  }
+
+  @Test
+  void shouldOnlyWriteCheckpointOnFlush() {
+    final FileDatafeedCheckpointStore store = new FileDatafeedCheckpointStore(this.file, 60_000);
+
+    store.save(new DatafeedCheckpoint("feed-id", "ack-id1"));
+    store.save(new DatafeedCheckpoint("feed-id", "ack-id2"));
+    assertThat(store.load()).contains(new DatafeedCheckpoint("feed-id", "ack-id2"));
+    assertThat(Files.exists(this.file)).isFalse();
+
+    store.flush();
+    store.close();
+
+    assertThat(new FileDatafeedCheckpointStore(this.file, 60_000).load())
+        .contains(new DatafeedCheckpoint("feed-id", "ack-id2"));
+  }
+
+  @Test
+  void shouldWriteCheckpointPeriodically() throws InterruptedException {
+    final FileDatafeedCheckpointStore store = new FileDatafeedCheckpointStore(this.file, 10);
+
+    store.save(new DatafeedCheckpoint("feed-id", "ack-id"));
+    for (int i = 0; i < 100 && !Files.exists(this.file); i++) {
+      Thread.sleep(10);
+    }
+    store.close();
+
+    assertThat(new FileDatafeedCheckpointStore(this.file, 1000).load())
+        .contains(new DatafeedCheckpoint("feed-id", "ack-id"));
+  }
+
+  @Test
+  void shouldIgnoreCorruptedRecord() throws IOException {
+    final FileDatafeedCheckpointStore store = new FileDatafeedCheckpointStore(this.file, 60_000);
+    store.save(new DatafeedCheckpoint("feed-id", "ack-id1"));
+    store.close();
+    Files.write(this.file, new byte[] {0, 0, 0, 12, 'f', 'e', 'e'}, StandardOpenOption.APPEND);
+
+    final FileDatafeedCheckpointStore reopened = new FileDatafeedCheckpointStore(this.file, 60_000);
+    assertThat(reopened.load()).contains(new DatafeedCheckpoint("feed-id", "ack-id1"));
+    reopened.save(new DatafeedCheckpoint("feed-id", "ack-id2"));
+    reopened.close();
+
+    assertThat(new FileDatafeedCheckpointStore(this.file, 60_000).load())
+        .contains(new DatafeedCheckpoint("feed-id", "ack-id2"));
+  }
+
+  @Test
+  void shouldCompactFile() throws IOException {
+    final FileDatafeedCheckpointStore store = new FileDatafeedCheckpointStore(this.file, 60_000);
+    for (int i = 0; i < 10_000; i++) {
+      store.save(new DatafeedCheckpoint("feed-id", "ack-id" + i));
+      store.flush();
+    }
+    store.close();
+
+    assertThat(Files.size(this.file)).isLessThan(100 * 1024);
+    assertThat(new FileDatafeedCheckpointStore(this.file, 60_000).load())
+        .contains(new DatafeedCheckpoint("feed-id", "ack-id9999"));
+  }
+
+  @Test
+  void shouldBeReusedOnceClosed() {
+    final FileDatafeedCheckpointStore store = new FileDatafeedCheckpointStore(this.file, 60_000);
+    store.save(new DatafeedCheckpoint("feed-id", "ack-id1"));
+    store.close();
+
+    // the loop being restarted
+    assertThat(store.load()).contains(new DatafeedCheckpoint("feed-id", "ack-id1"));
+    store.save(new DatafeedCheckpoint("feed-id", "ack-id2"));
+    store.close();
+
+    assertThat(new FileDatafeedCheckpointStore(this.file, 60_000).load())
+        .contains(new DatafeedCheckpoint("feed-id", "ack-id2"));
+  }
+
+  @Test
+  void shouldResolveDefaultFileInDatafeedIdDirectory(@TempDir Path tempDir) throws IOException {
+    assertThat(AbstractAckIdEventLoop.getDefaultCheckpointFile(tempDir, "datafeed.checkpoint"))
+        .isEqualTo(tempDir.resolve("datafeed.checkpoint"));
+
+    final Path idFile = Files.createFile(tempDir.resolve("datafeed.id"));
+    assertThat(AbstractAckIdEventLoop.getDefaultCheckpointFile(idFile, "datafeed.checkpoint"))
+        .isEqualTo(tempDir.resolve("datafeed.checkpoint"));
+  }
+}
@@ -0,0 +1,177 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static com.symphony.bdk.core.test.BdkRetryConfigTestHelper.ofMinimalInterval;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.config.BdkConfigLoader;
+import com.symphony.bdk.core.config.model.BdkConfig;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+import com.symphony.bdk.gen.api.DatafeedApi;
+import com.symphony.bdk.gen.api.model.AckId;
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V5Datafeed;
+import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the {@link MultiReaderLoop}.
+ */
+class MultiReaderLoopTest {
+
+  private static final String TOKEN = "1234";
+  private static final String DATAFEED_ID = "abc_f_def";
+
+  private DatafeedApi datafeedApi;
+  private AuthSession authSession;
+  private BdkConfig bdkConfig;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    this.authSession = mock(AuthSession.class);
+    when(this.authSession.getSessionToken()).thenReturn(TOKEN);
+    when(this.authSession.getKeyManagerToken()).thenReturn(TOKEN);
+
+    final ApiClient apiClient = mock(ApiClient.class);
+    when(apiClient.getBasePath()).thenReturn("/agent/");
+    this.datafeedApi = mock(DatafeedApi.class);
+    when(this.datafeedApi.getApiClient()).thenReturn(apiClient);
+
+    this.bdkConfig = BdkConfigLoader.loadFromClasspath("/config/config.yaml");
+    this.bdkConfig.setRetry(ofMinimalInterval(2));
+    this.bdkConfig.getDatafeed().setRetry(ofMinimalInterval(2));
+    this.bdkConfig.getDatahose().setRetry(ofMinimalInterval(2));
+    this.bdkConfig.getDatahose().setTag("tag");
+  }
+
+  @Test
+  void shouldReadDatahoseWithAllReaders() throws Exception {
+    this.bdkConfig.getDatahose().setReaders(3);
+    final MultiReaderLoop loop = MultiReaderLoop.datahose(this.datafeedApi, this.authSession, this.bdkConfig,
+        new UserV2());
+
+    final Set<String> readerThreads = ConcurrentHashMap.newKeySet();
+    when(this.datafeedApi.readEvents(any(), any(), any())).thenAnswer(invocation -> {
+      readerThreads.add(Thread.currentThread().getName());
+      // gives the other readers a chance to be started before the events are handled
+      Thread.sleep(10);
+      return messageSentBatch();
+    });
+    loop.subscribe(stoppingListener(loop, 30));
+
+    loop.start();
+
+    assertThat(readerThreads).hasSize(3);
+    assertThat(loop.lastPullTimestamp()).isPositive();
+  }
+
+  @Test
+  void shouldReadDatafeedManagedByPrimaryReader() throws Exception {
+    this.bdkConfig.getDatafeed().setReaders(2);
+    final MultiReaderLoop loop = MultiReaderLoop.datafeed(this.datafeedApi, this.authSession, this.bdkConfig,
+        new UserV2());
+
+    when(this.datafeedApi.listDatafeed(TOKEN, TOKEN, null)).thenReturn(
+        Collections.singletonList(new V5Datafeed().id(DATAFEED_ID)));
+    when(this.datafeedApi.readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any(AckId.class))).thenAnswer(
+        invocation -> {
+          Thread.sleep(10);
+          return messageSentBatch();
+        });
+    loop.subscribe(stoppingListener(loop, 20));
+
+    loop.start();
+
+    // only the primary reader retrieves the datafeed
+    verify(this.datafeedApi, times(1)).listDatafeed(TOKEN, TOKEN, null);
+    verify(this.datafeedApi, atLeast(2)).readDatafeed(eq(DATAFEED_ID), eq(TOKEN), eq(TOKEN), any(AckId.class));
+  }
+
+  @Test
+  void shouldHandleEventReceivedByAllReadersOnce() throws Exception {
+    this.bdkConfig.getDatahose().setReaders(3);
+    this.bdkConfig.getDatahose().getDeduplication().setEnabled(true);
+    final MultiReaderDatahoseLoop loop = MultiReaderLoop.datahose(this.datafeedApi, this.authSession, this.bdkConfig,
+        new UserV2());
+
+    final AtomicInteger reads = new AtomicInteger();
+    when(this.datafeedApi.readEvents(any(), any(), any())).thenAnswer(invocation -> {
+      if (reads.incrementAndGet() >= 30) {
+        loop.stop();
+      }
+      final V5EventList batch = messageSentBatch();
+      batch.getEvents().get(0).id("event-id");
+      return batch;
+    });
+    final AtomicInteger handledEvents = new AtomicInteger();
+    loop.subscribe(new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        handledEvents.incrementAndGet();
+      }
+    });
+
+    loop.start();
+
+    assertThat(handledEvents).hasValue(1);
+  }
+
+  @Test
+  void shouldFailWhenReaderFails() throws Exception {
+    this.bdkConfig.getDatahose().setReaders(2);
+    final MultiReaderLoop loop = MultiReaderLoop.datahose(this.datafeedApi, this.authSession, this.bdkConfig,
+        new UserV2());
+    when(this.datafeedApi.readEvents(anyString(), anyString(), any())).thenThrow(new ApiException(400, "error"));
+
+    assertThrows(ApiException.class, loop::start);
+  }
+
+  private static RealTimeEventListener stoppingListener(MultiReaderLoop loop, int maxEvents) {
+    final AtomicInteger handledEvents = new AtomicInteger();
+    return new RealTimeEventListener() {
+      @Override
+      public boolean isAcceptingEvent(V4Event event, UserV2 botInfo) {
+        return true;
+      }
+
+      @Override
+      public void onMessageSent(V4Initiator initiator, V4MessageSent event) {
+        if (handledEvents.incrementAndGet() >= maxEvents) {
+          loop.stop();
+        }
+      }
+    };
+  }
+
+  private static V5EventList messageSentBatch() {
+    return new V5EventList().addEventsItem(new V4Event().type(RealTimeEventType.MESSAGESENT.name())
+        .payload(new V4Payload().messageSent(new V4MessageSent()))).ackId("ack-id");
+  }
+}
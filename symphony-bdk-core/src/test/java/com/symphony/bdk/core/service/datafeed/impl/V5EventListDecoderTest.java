@@ -0,0 +1,97 @@
+package com.symphony.bdk.core.service.datafeed.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V5EventList;
+import com.symphony.bdk.http.api.util.ObjectMapperProvider;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the {@link V5EventListDecoder}.
+ */
+class V5EventListDecoderTest {
+
+  private static final String EVENTS = "{"
+      + "\"unknown\": {\"nested\": [1, 2]},"
+      + "\"events\": ["
+      + "  {\"id\": \"1\", \"timestamp\": 1000, \"type\": \"MESSAGESENT\","
+      + "   \"initiator\": {\"user\": {\"userId\": 42}},"
+      + "   \"payload\": {\"messageSent\": {\"message\": {\"messageId\": \"msg-1\"}}}},"
+      + "  {\"id\": \"2\", \"type\": \"ROOMCREATED\", \"initiator\": {\"user\": {\"userId\": 42}},"
+      + "   \"payload\": {\"roomCreated\": {\"roomProperties\": {\"name\": \"room\"}}}},"
+      + "  {\"payload\": {\"messageSent\": {\"message\": {\"messageId\": \"msg-3\"}}},"
+      + "   \"id\": \"3\", \"type\": \"MESSAGESENT\", \"messageId\": null}"
+      + "],"
+      + "\"ackId\": \"ack-id\""
+      + "}";
+
+  @Test
+  void shouldDecodeHandledEventsOnly() throws IOException {
+    final AtomicInteger received = new AtomicInteger(-1);
+    final V5EventList eventList = V5EventListDecoder.decode(content(EVENTS), "MESSAGESENT"::equals, received::set);
+
+    assertThat(eventList.getAckId()).isEqualTo("ack-id");
+    assertThat(eventList.getEvents()).extracting(V4Event::getId).containsExactly("1", "3");
+    assertThat(received).hasValue(3);
+
+    final V4Event first = eventList.getEvents().get(0);
+    assertThat(first.getTimestamp()).isEqualTo(1000L);
+    assertThat(first.getInitiator().getUser().getUserId()).isEqualTo(42L);
+    assertThat(first.getPayload().getMessageSent().getMessage().getMessageId()).isEqualTo("msg-1");
+
+    // payload read before the type
+    final V4Event third = eventList.getEvents().get(1);
+    assertThat(third.getMessageId()).isNull();
+    assertThat(third.getPayload().getMessageSent().getMessage().getMessageId()).isEqualTo("msg-3");
+  }
+
+  @Test
+  void shouldDecodeAllEvents() throws IOException {
+    final V5EventList eventList = V5EventListDecoder.decode(content(EVENTS), type -> true);
+
+    assertThat(eventList.getEvents()).extracting(V4Event::getId).containsExactly("1", "2", "3");
+    assertThat(eventList.getEvents().get(1).getPayload().getRoomCreated().getRoomProperties().getName())
+        .isEqualTo("room");
+  }
+
+  @Test
+  void shouldDecodeEventsAsGeneratedApi() throws IOException {
+    final String event = "{\"id\": \"1\", \"diagnostic\": \"diagnostic\", \"type\": \"MESSAGESENT\","
+        + " \"unknown\": {\"nested\": true}, \"payload\": {\"messageSent\": {}}}";
+
+    final V5EventList eventList =
+        V5EventListDecoder.decode(content("{\"events\": [" + event + "]}"), "MESSAGESENT"::equals);
+
+    // fields without a dedicated decoding are not dropped
+    assertThat(eventList.getEvents()).containsExactly(ObjectMapperProvider.getMapper().readValue(event, V4Event.class));
+  }
+
+  @Test
+  void shouldDecodeEmptyEventList() throws IOException {
+    final V5EventList eventList = V5EventListDecoder.decode(content("{\"events\": null, \"ackId\": \"ack-id\"}"),
+        type -> true);
+
+    assertThat(eventList.getAckId()).isEqualTo("ack-id");
+    assertThat(eventList.getEvents()).isNullOrEmpty();
+  }
+
+  @Test
+  void shouldFailOnInvalidContent() {
+    assertThrows(IOException.class, () -> V5EventListDecoder.decode(content("[]"), type -> true));
+    assertThrows(IOException.class,
+        () -> V5EventListDecoder.decode(content("{\"events\": [{\"id\": \"1\""), type -> true));
+  }
+
+  private static InputStream content(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
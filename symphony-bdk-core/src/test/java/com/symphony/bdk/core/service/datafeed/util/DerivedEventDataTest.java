@@ -0,0 +1,167 @@
+package com.symphony.bdk.core.service.datafeed.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.service.message.util.MessageParser;
+import com.symphony.bdk.core.test.JsonHelper;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Payload;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the {@link DerivedEventData}.
+ */
+class DerivedEventDataTest {
+
+  private V4Message message;
+  private V4Event event;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    this.message = new V4Message()
+        .message("<div data-format=\"PresentationML\" data-version=\"2.0\"> Hello world </div>")
+        .data(JsonHelper.readFromClasspath("/message/message_entity_data.json"));
+    this.event = new V4Event().payload(new V4Payload().messageSent(new V4MessageSent().message(this.message)));
+  }
+
+  @Test
+  void shouldShareDataWhileDispatched() {
+    final DerivedEventData data = new DerivedEventData(this.event);
+
+    DerivedEventData.runWith(data, () -> {
+      assertThat(DerivedEventData.current()).isSameAs(data);
+      assertThat(DerivedEventData.of(this.message)).isSameAs(data);
+    });
+
+    assertThat(DerivedEventData.current()).isNull();
+    assertThat(DerivedEventData.of(this.message)).isNotSameAs(data);
+  }
+
+  @Test
+  void shouldNotShareDataOfAnotherMessage() {
+    final V4Message other = new V4Message().message(this.message.getMessage());
+
+    DerivedEventData.runWith(new DerivedEventData(this.event),
+        () -> assertThat(DerivedEventData.of(other)).isNotSameAs(DerivedEventData.current()));
+  }
+
+  @Test
+  void shouldRestorePreviousData() {
+    final DerivedEventData outer = new DerivedEventData(this.event);
+    final DerivedEventData inner = new DerivedEventData(new V4Event());
+
+    DerivedEventData.runWith(outer, () -> {
+      DerivedEventData.runWith(inner, () -> assertThat(DerivedEventData.current()).isSameAs(inner));
+      assertThat(DerivedEventData.current()).isSameAs(outer);
+    });
+  }
+
+  @Test
+  void shouldComputeTextContentOnce() throws Exception {
+    final DerivedEventData data = new DerivedEventData(this.event);
+
+    final String textContent = data.getTextContent();
+
+    assertThat(textContent).isEqualTo("Hello world");
+    assertThat(data.getTextContent()).isSameAs(textContent);
+  }
+
+  @Test
+  void shouldExtractEntities() throws Exception {
+    final DerivedEventData data = new DerivedEventData(this.event);
+
+    assertThat(data.getMentions()).containsExactly(13056700580915L, 1305690252351L);
+    assertThat(data.getHashtags()).containsExactly("bot");
+    assertThat(data.getCashtags()).containsExactly("hello");
+    assertThat(data.getEmojis()).containsEntry("grinning", "\uD83D\uDE00");
+    assertThat(data.getMentions()).isSameAs(data.getMentions());
+  }
+
+  @Test
+  void shouldCopyEntitiesTree() throws Exception {
+    final DerivedEventData data = new DerivedEventData(this.event);
+
+    final JsonNode entities = data.getEntities();
+    ((ObjectNode) entities).removeAll();
+
+    assertThat(data.getEntities()).isNotSameAs(entities).isNotEmpty();
+    assertThat(data.getMentions()).containsExactly(13056700580915L, 1305690252351L);
+  }
+
+  @Test
+  void shouldParseMessageDataOnceForMessageParser() throws Exception {
+    final DerivedEventData data = new DerivedEventData(this.event);
+
+    DerivedEventData.runWith(data, () -> {
+      try {
+        assertThat(MessageParser.getMentions(this.message)).containsExactly(13056700580915L, 1305690252351L);
+        assertThat(MessageParser.getHashtags(this.message)).containsExactly("bot");
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    assertThat(data.getMentions()).containsExactly(13056700580915L, 1305690252351L);
+  }
+
+  @Test
+  void shouldHandleEmptyMessageData() throws Exception {
+    final DerivedEventData data = DerivedEventData.of(new V4Message().data(""));
+
+    assertThat(data.getEntities().isEmpty()).isTrue();
+    assertThat(data.getMentions()).isEmpty();
+    assertThat(data.getEmojis()).isEmpty();
+  }
+
+  @Test
+  void shouldCopyFormValuesTree() {
+    final Map<String, Object> formValues = new HashMap<>();
+    formValues.put("action", "submit");
+    formValues.put("comment", null);
+    final V4SymphonyElementsAction action = new V4SymphonyElementsAction().formValues(formValues);
+    final DerivedEventData data =
+        new DerivedEventData(new V4Event().payload(new V4Payload().symphonyElementsAction(action)));
+
+    DerivedEventData.runWith(data, () -> {
+      assertThat(DerivedEventData.of(action)).isSameAs(data);
+      final JsonNode formValuesTree = DerivedEventData.of(action).getFormValues();
+      ((ObjectNode) formValuesTree).put("action", "modified");
+      assertThat(data.getFormValues()).isNotSameAs(formValuesTree);
+    });
+
+    assertThat(data.getFormValues().get("action").asText()).isEqualTo("submit");
+    assertThat(data.getFormValues().has("comment")).isTrue();
+  }
+
+  @Test
+  void shouldHandleActionWithoutFormValues() {
+    final V4SymphonyElementsAction action = new V4SymphonyElementsAction();
+    final DerivedEventData data =
+        new DerivedEventData(new V4Event().payload(new V4Payload().symphonyElementsAction(action)));
+
+    assertThat(data.getFormValues()).isNull();
+    assertThat(DerivedEventData.of(action).getFormValues()).isNull();
+  }
+
+  @Test
+  void shouldComputeCustomValueOnce() {
+    final DerivedEventData data = new DerivedEventData(this.event);
+    final AtomicInteger computations = new AtomicInteger();
+
+    assertThat(data.computeIfAbsent("custom", computations::incrementAndGet)).isEqualTo(1);
+    assertThat(data.computeIfAbsent("custom", computations::incrementAndGet)).isEqualTo(1);
+    assertThat(computations).hasValue(1);
+  }
+}
@@ -1,6 +1,7 @@
 package com.symphony.bdk.core.service.message;
 
 import static com.symphony.bdk.core.util.IdUtil.fromUrlSafeId;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -12,6 +13,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,6 +48,7 @@ import com.symphony.bdk.gen.api.model.V4Stream;
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBodyPart;
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.ApiRuntimeException;
 import com.symphony.bdk.template.api.TemplateEngine;
 
@@ -56,14 +59,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -378,6 +386,47 @@ class MessageServiceTest {
     assertThrows(ApiRuntimeException.class, () -> messageService.getAttachment(STREAM_ID, MESSAGE_ID, "attachmentId"));
   }
 
+  @Test
+  void testGetAttachmentStream(@TempDir Path tempDir) throws Exception {
+    final ApiClient attachmentsClient = mockAttachmentsClient();
+    final byte[] attachment = "attachment content".getBytes(StandardCharsets.UTF_8);
+    when(attachmentsClient.invokeAPI(anyString(), eq("GET"), any(), isNull(), any(), any(), any(), any(), any(), any(),
+        any())).thenAnswer(invocation -> new ApiResponse<>(200, Collections.emptyMap(),
+        new ByteArrayInputStream(Base64.getMimeEncoder().encode(attachment))));
+
+    try (InputStream content = messageService.getAttachmentStream(STREAM_ID, MESSAGE_ID, "attachmentId")) {
+      assertArrayEquals(attachment, IOUtils.toByteArray(content));
+    }
+
+    final Path file = tempDir.resolve("attachment");
+    messageService.downloadAttachment(STREAM_ID, MESSAGE_ID, "attachmentId", file);
+    assertArrayEquals(attachment, Files.readAllBytes(file));
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    messageService.downloadAttachment(STREAM_ID, MESSAGE_ID, "attachmentId", Channels.newChannel(output));
+    assertArrayEquals(attachment, output.toByteArray());
+
+    verify(attachmentsClient, times(3)).invokeAPI(eq("/v1/stream/" + STREAM_ID + "/attachment"), eq("GET"), any(),
+        isNull(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testGetAttachmentStreamThrowingApiException() throws ApiException {
+    final ApiClient attachmentsClient = mockAttachmentsClient();
+    when(attachmentsClient.invokeAPI(anyString(), eq("GET"), any(), isNull(), any(), any(), any(), any(), any(), any(),
+        any())).thenThrow(new ApiException(400, "error"));
+
+    assertThrows(ApiRuntimeException.class,
+        () -> messageService.getAttachmentStream(STREAM_ID, MESSAGE_ID, "attachmentId"));
+  }
+
+  private ApiClient mockAttachmentsClient() {
+    final ApiClient attachmentsClient = mock(ApiClient.class);
+    when(attachmentsClient.escapeString(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+    doReturn(attachmentsClient).when(attachmentsApi).getApiClient();
+    return attachmentsClient;
+  }
+
   @Test
   void testImportMessage() throws IOException {
     mockApiClient.onPost(V4_MESSAGE_IMPORT, JsonHelper.readFromClasspath("/message/import_message.json"));
@@ -533,6 +582,21 @@ class MessageServiceTest {
 
   }
 
+  @Test
+  @ExtendWith(BdkMockServerExtension.class)
+  void testDoSendWithFileAttachment(final BdkMockServer mockServer, @TempDir Path tmpDir)
+      throws IOException, ApiException {
+    final Path file = Files.write(tmpDir.resolve("file.txt"), "Attached file".getBytes(StandardCharsets.UTF_8));
+    final Message message = Message.builder()
+        .content("<MessageML>Hello world</MessageML>")
+        .addAttachment(file)
+        .addAttachment(() -> IOUtils.toInputStream("Supplied file", StandardCharsets.UTF_8), "supplied.txt")
+        .build();
+
+    assertInvokeApiCalledWithCorrectParams(mockServer, message,
+        Arrays.asList("file.txt", "supplied.txt"), Collections.emptyList());
+  }
+
   @Test
   @ExtendWith(BdkMockServerExtension.class)
   void testDoSendWithAttachmentAndPreview(final BdkMockServer mockServer) throws IOException, ApiException {
@@ -1,11 +1,24 @@
 package com.symphony.bdk.core.service.message.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.symphony.bdk.core.service.message.exception.MessageCreationException;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class MessageTest {
 
@@ -38,4 +51,42 @@ class MessageTest {
   void checkMessageSilentDefaultValue() {
     assertEquals(Boolean.TRUE, Message.builder().content("<messageML>hello</messageML>").build().getSilent());
   }
+
+  @Test
+  void checkFileAttachmentIsReplayable(@TempDir Path tmpDir) throws IOException {
+    final Path file = Files.write(tmpDir.resolve("file.txt"), "content".getBytes(StandardCharsets.UTF_8));
+    final Attachment attachment = Message.builder().content("hello").addAttachment(file).build().getAttachments().get(0);
+
+    assertTrue(attachment.isReplayable());
+    assertEquals("file.txt", attachment.getFilename());
+    assertEquals(file, attachment.getPath());
+    for (int i = 0; i < 2; i++) {
+      try (InputStream content = attachment.getContent()) {
+        assertEquals("content", IOUtils.toString(content, StandardCharsets.UTF_8));
+      }
+    }
+  }
+
+  @Test
+  void checkSuppliedAttachmentIsReplayable() {
+    final AtomicInteger opened = new AtomicInteger();
+    final Attachment attachment = new Attachment(() -> {
+      opened.incrementAndGet();
+      return new ByteArrayInputStream(new byte[0]);
+    }, "file.txt");
+
+    attachment.getContent();
+    attachment.getContentSupplier().get();
+
+    assertTrue(attachment.isReplayable());
+    assertEquals(2, opened.get());
+  }
+
+  @Test
+  void checkStreamAttachmentIsNotReplayable() {
+    final Attachment attachment = new Attachment(new ByteArrayInputStream(new byte[0]), "file.txt");
+
+    assertFalse(attachment.isReplayable());
+    assertNull(attachment.getContentSupplier());
+  }
 }
@@ -0,0 +1,53 @@
+package com.symphony.bdk.core.service.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Test class for the {@link LongHashSet}.
+ */
+class LongHashSetTest {
+
+  @Test
+  void shouldAddAndRemove() {
+    final LongHashSet set = new LongHashSet();
+
+    assertThat(set.add(12L)).isTrue();
+    assertThat(set.add(12L)).isFalse();
+    assertThat(set.add(0L)).isTrue();
+    assertThat(set.contains(12L)).isTrue();
+    assertThat(set.contains(0L)).isTrue();
+    assertThat(set.toArray()).containsExactlyInAnyOrder(0L, 12L);
+
+    assertThat(set.remove(0L)).isTrue();
+    assertThat(set.remove(12L)).isTrue();
+    assertThat(set.remove(12L)).isFalse();
+    assertThat(set.size()).isZero();
+  }
+
+  @Test
+  void shouldBehaveAsHashSet() {
+    final Random random = new Random(42);
+    final LongHashSet set = new LongHashSet();
+    final Set<Long> expected = new HashSet<>();
+
+    for (int i = 0; i < 100_000; i++) {
+      final long value = random.nextInt(2_000);
+      if (random.nextBoolean()) {
+        assertThat(set.add(value)).isEqualTo(expected.add(value));
+      } else {
+        assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+      }
+    }
+
+    assertThat(set.size()).isEqualTo(expected.size());
+    for (long value = 0; value < 2_000; value++) {
+      assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.symphony.bdk.core.service.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.gen.api.model.V2MemberInfo;
+import com.symphony.bdk.gen.api.model.V2MemberUserDetail;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4RoomMemberDemotedFromOwner;
+import com.symphony.bdk.gen.api.model.V4RoomMemberPromotedToOwner;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4User;
+import com.symphony.bdk.gen.api.model.V4UserJoinedRoom;
+import com.symphony.bdk.gen.api.model.V4UserLeftRoom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+/**
+ * Test class for the {@link RoomMembershipIndex}.
+ */
+class RoomMembershipIndexTest {
+
+  private static final String STREAM_ID = "XlU3OH9eVMzq+yss7M/xyn///oxwgbtGbQ==";
+  private static final String URL_SAFE_STREAM_ID = "XlU3OH9eVMzq-yss7M_xyn___oxwgbtGbQ";
+
+  private StreamService streamService;
+  private RoomMembershipIndex index;
+
+  @BeforeEach
+  void setUp() {
+    this.streamService = mock(StreamService.class);
+    this.index = new RoomMembershipIndex(this.streamService);
+    when(this.streamService.listAllStreamMembers(URL_SAFE_STREAM_ID)).thenAnswer(invocation -> Stream.of(
+        new V2MemberInfo().user(new V2MemberUserDetail().userId(1L)).isOwner(true),
+        new V2MemberInfo().user(new V2MemberUserDetail().userId(2L)).isOwner(false)));
+  }
+
+  @Test
+  void shouldSeedMembershipOnce() {
+    assertThat(this.index.isMember(STREAM_ID, 1L)).isTrue();
+    assertThat(this.index.isMember(URL_SAFE_STREAM_ID, 2L)).isTrue();
+    assertThat(this.index.isMember(STREAM_ID, 3L)).isFalse();
+    assertThat(this.index.isOwner(STREAM_ID, 1L)).isTrue();
+    assertThat(this.index.isOwner(STREAM_ID, 2L)).isFalse();
+    assertThat(this.index.getMembers(STREAM_ID)).containsExactlyInAnyOrder(1L, 2L);
+
+    verify(this.streamService, times(1)).listAllStreamMembers(URL_SAFE_STREAM_ID);
+  }
+
+  @Test
+  void shouldApplyMembershipEvents() {
+    this.index.getMembers(STREAM_ID);
+    final V4Stream stream = new V4Stream().streamId(STREAM_ID);
+    final V4Initiator initiator = new V4Initiator();
+
+    this.index.onUserJoinedRoom(initiator, new V4UserJoinedRoom().stream(stream).affectedUser(user(3L)));
+    this.index.onRoomMemberPromotedToOwner(initiator,
+        new V4RoomMemberPromotedToOwner().stream(stream).affectedUser(user(3L)));
+    this.index.onRoomMemberDemotedFromOwner(initiator,
+        new V4RoomMemberDemotedFromOwner().stream(stream).affectedUser(user(1L)));
+    this.index.onUserLeftRoom(initiator, new V4UserLeftRoom().stream(stream).affectedUser(user(2L)));
+
+    assertThat(this.index.getMembers(STREAM_ID)).containsExactlyInAnyOrder(1L, 3L);
+    assertThat(this.index.getOwners(STREAM_ID)).containsExactly(3L);
+    verify(this.streamService, times(1)).listAllStreamMembers(URL_SAFE_STREAM_ID);
+  }
+
+  @Test
+  void shouldIgnoreEventsOfUnknownStreams() {
+    this.index.onUserJoinedRoom(new V4Initiator(),
+        new V4UserJoinedRoom().stream(new V4Stream().streamId(STREAM_ID)).affectedUser(user(3L)));
+
+    assertThat(this.index.size()).isZero();
+    assertThat(this.index.isMember(STREAM_ID, 3L)).isFalse();
+  }
+
+  @Test
+  void shouldRetryFailedSeeding() {
+    when(this.streamService.listAllStreamMembers("failing")).thenThrow(new IllegalStateException("error"))
+        .thenAnswer(invocation -> Stream.of(new V2MemberInfo().user(new V2MemberUserDetail().userId(1L))));
+
+    assertThrows(IllegalStateException.class, () -> this.index.isMember("failing", 1L));
+    assertThat(this.index.isMember("failing", 1L)).isTrue();
+  }
+
+  @Test
+  void shouldApplyEventsReceivedWhileSeeding() {
+    final V4Stream stream = new V4Stream().streamId(STREAM_ID);
+    when(this.streamService.listAllStreamMembers(URL_SAFE_STREAM_ID)).thenAnswer(invocation -> {
+      // received while the members are being fetched, the fetched page still lists the leaving user
+      this.index.onUserLeftRoom(new V4Initiator(), new V4UserLeftRoom().stream(stream).affectedUser(user(2L)));
+      this.index.onUserJoinedRoom(new V4Initiator(), new V4UserJoinedRoom().stream(stream).affectedUser(user(3L)));
+      return Stream.of(
+          new V2MemberInfo().user(new V2MemberUserDetail().userId(1L)).isOwner(true),
+          new V2MemberInfo().user(new V2MemberUserDetail().userId(2L)).isOwner(false));
+    });
+
+    assertThat(this.index.getMembers(STREAM_ID)).containsExactlyInAnyOrder(1L, 3L);
+  }
+
+  @Test
+  void shouldDiscardLeastRecentlyUsedStreams() {
+    this.index = new RoomMembershipIndex(this.streamService, 1);
+    when(this.streamService.listAllStreamMembers("other")).thenAnswer(invocation -> Stream.empty());
+
+    this.index.getMembers(STREAM_ID);
+    this.index.getMembers("other");
+    this.index.getMembers(STREAM_ID);
+
+    assertThat(this.index.size()).isEqualTo(1);
+    verify(this.streamService, times(2)).listAllStreamMembers(URL_SAFE_STREAM_ID);
+  }
+
+  @Test
+  void shouldInvalidate() {
+    this.index.getMembers(STREAM_ID);
+    this.index.invalidate(STREAM_ID);
+    this.index.getMembers(STREAM_ID);
+
+    verify(this.streamService, times(2)).listAllStreamMembers(URL_SAFE_STREAM_ID);
+  }
+
+  private static V4User user(long userId) {
+    return new V4User().userId(userId);
+  }
+}
@@ -0,0 +1,94 @@
+package com.symphony.bdk.core.service.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.gen.api.model.RoomSystemInfo;
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V1IMDetail;
+import com.symphony.bdk.gen.api.model.V2StreamAttributes;
+import com.symphony.bdk.gen.api.model.V3RoomDetail;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4RoomDeactivated;
+import com.symphony.bdk.gen.api.model.V4RoomUpdated;
+import com.symphony.bdk.gen.api.model.V4Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link StreamCache}.
+ */
+class StreamCacheTest {
+
+  private static final String STREAM_ID = "XlU3OH9eVMzq+yss7M/xyn///oxwgbtGbQ==";
+  private static final String URL_SAFE_STREAM_ID = "XlU3OH9eVMzq-yss7M_xyn___oxwgbtGbQ";
+
+  private StreamService streamService;
+  private StreamCache streamCache;
+
+  @BeforeEach
+  void setUp() {
+    this.streamService = mock(StreamService.class);
+    this.streamCache = new StreamCache(this.streamService);
+  }
+
+  @Test
+  void shouldServeStreamsFromCache() {
+    when(this.streamService.getStream(URL_SAFE_STREAM_ID)).thenReturn(new V2StreamAttributes().id(STREAM_ID));
+    when(this.streamService.getInstantMessageInfo(URL_SAFE_STREAM_ID)).thenReturn(new V1IMDetail());
+
+    assertThat(this.streamCache.getStream(STREAM_ID).getId()).isEqualTo(STREAM_ID);
+    assertThat(this.streamCache.getStream(URL_SAFE_STREAM_ID).getId()).isEqualTo(STREAM_ID);
+    this.streamCache.getInstantMessageInfo(STREAM_ID);
+    this.streamCache.getInstantMessageInfo(STREAM_ID);
+
+    verify(this.streamService, times(1)).getStream(URL_SAFE_STREAM_ID);
+    verify(this.streamService, times(1)).getInstantMessageInfo(URL_SAFE_STREAM_ID);
+    assertThat(this.streamCache.streamStats().getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldInvalidateUpdatedRoom() {
+    when(this.streamService.getRoomInfo(URL_SAFE_STREAM_ID)).thenReturn(new V3RoomDetail());
+    this.streamCache.getRoomInfo(STREAM_ID);
+
+    this.streamCache.onRoomUpdated(new V4Initiator(), new V4RoomUpdated().stream(new V4Stream().streamId(STREAM_ID)));
+    this.streamCache.getRoomInfo(STREAM_ID);
+
+    verify(this.streamService, times(2)).getRoomInfo(URL_SAFE_STREAM_ID);
+  }
+
+  @Test
+  void shouldReplaceDeactivatedRoomWithUpdatedCopy() {
+    when(this.streamService.getStream(URL_SAFE_STREAM_ID))
+        .thenReturn(new V2StreamAttributes().id(STREAM_ID).active(true));
+    when(this.streamService.getRoomInfo(URL_SAFE_STREAM_ID))
+        .thenReturn(new V3RoomDetail().roomSystemInfo(new RoomSystemInfo().id(STREAM_ID).active(true)));
+    final V2StreamAttributes stream = this.streamCache.getStream(STREAM_ID);
+    final V3RoomDetail room = this.streamCache.getRoomInfo(STREAM_ID);
+
+    this.streamCache.onRoomDeactivated(new V4Initiator(),
+        new V4RoomDeactivated().stream(new V4Stream().streamId(STREAM_ID)));
+
+    assertThat(this.streamCache.getStream(STREAM_ID).getActive()).isFalse();
+    assertThat(this.streamCache.getStream(STREAM_ID).getId()).isEqualTo(STREAM_ID);
+    assertThat(this.streamCache.getRoomInfo(STREAM_ID).getRoomSystemInfo().getActive()).isFalse();
+    assertThat(this.streamCache.getRoomInfo(STREAM_ID).getRoomSystemInfo().getId()).isEqualTo(STREAM_ID);
+    // previously returned objects are left untouched
+    assertThat(stream.getActive()).isTrue();
+    assertThat(room.getRoomSystemInfo().getActive()).isTrue();
+    verify(this.streamService, times(1)).getStream(URL_SAFE_STREAM_ID);
+    verify(this.streamService, times(1)).getRoomInfo(URL_SAFE_STREAM_ID);
+  }
+
+  @Test
+  void shouldAcceptEventsFromTheBot() {
+    final V4Event event = new V4Event().initiator(new V4Initiator());
+    assertThat(this.streamCache.isAcceptingEvent(event, new UserV2().id(1L))).isTrue();
+  }
+}
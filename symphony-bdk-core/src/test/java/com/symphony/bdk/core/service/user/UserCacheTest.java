@@ -0,0 +1,116 @@
+package com.symphony.bdk.core.service.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.gen.api.model.V2UserDetail;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4User;
+import com.symphony.bdk.gen.api.model.V4UserJoinedRoom;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test class for the {@link UserCache}.
+ */
+class UserCacheTest {
+
+  private UserService userService;
+  private UserCache userCache;
+
+  @BeforeEach
+  void setUp() {
+    this.userService = mock(UserService.class);
+    this.userCache = new UserCache(this.userService);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.userCache.close();
+  }
+
+  @Test
+  void shouldServeKnownUsersFromCache() {
+    when(this.userService.listUsersByIds(anyList())).thenReturn(
+        Arrays.asList(new UserV2().id(1L).displayName("John"), new UserV2().id(2L).displayName("Jane")));
+
+    assertThat(this.userCache.listUsersByIds(Arrays.asList(2L, 1L, 3L)))
+        .extracting(UserV2::getId).containsExactly(2L, 1L);
+    assertThat(this.userCache.getUser(1L)).hasValueSatisfying(u -> assertThat(u.getDisplayName()).isEqualTo("John"));
+    assertThat(this.userCache.getUser(3L)).isEmpty();
+
+    verify(this.userService, times(1)).listUsersByIds(anyList());
+    assertThat(this.userCache.userStats().getHitCount()).isEqualTo(2);
+    assertThat(this.userCache.userStats().getMissCount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldCacheUnknownUserDetail() {
+    when(this.userService.getUserDetail(1L)).thenThrow(new ApiRuntimeException(new ApiException(404, "not found")));
+
+    assertThat(this.userCache.getUserDetail(1L)).isEmpty();
+    assertThat(this.userCache.getUserDetail(1L)).isEmpty();
+
+    verify(this.userService, times(1)).getUserDetail(1L);
+  }
+
+  @Test
+  void shouldNotCacheFailedUserDetail() {
+    when(this.userService.getUserDetail(1L))
+        .thenThrow(new ApiRuntimeException(new ApiException(500, "error")))
+        .thenReturn(new V2UserDetail());
+
+    assertThrows(ApiRuntimeException.class, () -> this.userCache.getUserDetail(1L));
+    assertThat(this.userCache.getUserDetail(1L)).isPresent();
+  }
+
+  @Test
+  void shouldInvalidateUpdatedUserFromEvents() {
+    when(this.userService.listUsersByIds(anyList()))
+        .thenReturn(Collections.singletonList(new UserV2().id(1L).displayName("John")))
+        .thenReturn(Collections.singletonList(new UserV2().id(1L).displayName("Johnny")));
+    this.userCache.getUser(1L);
+
+    assertThat(this.userCache.isAcceptingEvent(new V4Event(), new UserV2().id(42L))).isTrue();
+    this.userCache.onMessageSent(initiator(new V4User().userId(1L).displayName("John")), new V4MessageSent());
+    assertThat(this.userCache.getUser(1L)).hasValueSatisfying(
+        u -> assertThat(u.getDisplayName()).isEqualTo("John"));
+
+    this.userCache.onMessageSent(initiator(new V4User().userId(1L).displayName("Johnny")), new V4MessageSent());
+    assertThat(this.userCache.getUser(1L)).hasValueSatisfying(
+        u -> assertThat(u.getDisplayName()).isEqualTo("Johnny"));
+    verify(this.userService, times(2)).listUsersByIds(anyList());
+  }
+
+  @Test
+  void shouldInvalidateUpdatedAffectedUserFromEvents() {
+    when(this.userService.listUsersByIds(anyList()))
+        .thenReturn(Collections.singletonList(new UserV2().id(1L).emailAddress("john@symphony.com")));
+    this.userCache.getUser(1L);
+
+    this.userCache.onUserJoinedRoom(initiator(new V4User().userId(2L)),
+        new V4UserJoinedRoom().affectedUser(new V4User().userId(1L).email("johnny@symphony.com")));
+
+    this.userCache.getUser(1L);
+    verify(this.userService, times(2)).listUsersByIds(anyList());
+  }
+
+  private static V4Initiator initiator(V4User user) {
+    return new V4Initiator().user(user);
+  }
+}
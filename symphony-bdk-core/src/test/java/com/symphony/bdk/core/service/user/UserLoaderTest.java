@@ -0,0 +1,136 @@
+package com.symphony.bdk.core.service.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiRuntimeException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Test class for the {@link UserLoader}.
+ */
+class UserLoaderTest {
+
+  private UserService userService;
+  private UserLoader loader;
+
+  @BeforeEach
+  void setUp() {
+    this.userService = mock(UserService.class);
+    // large window so that batches are only sent when full or explicitly flushed
+    this.loader = new UserLoader(this.userService, Duration.ofMinutes(1), 3);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.loader.close();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldCoalesceAndDeduplicateLookupsById() throws Exception {
+    when(this.userService.listUsersByIds(anyList()))
+        .thenReturn(Arrays.asList(new UserV2().id(1L), new UserV2().id(2L)));
+
+    final CompletableFuture<Optional<UserV2>> first = this.loader.loadById(1L);
+    final CompletableFuture<Optional<UserV2>> duplicate = this.loader.loadById(1L);
+    final CompletableFuture<Optional<UserV2>> second = this.loader.loadById(2L);
+    final CompletableFuture<Optional<UserV2>> unknown = this.loader.loadById(3L);
+
+    assertThat(first.get()).hasValueSatisfying(u -> assertThat(u.getId()).isEqualTo(1L));
+    assertThat(duplicate).isNotSameAs(first);
+    assertThat(duplicate.get()).hasValueSatisfying(u -> assertThat(u.getId()).isEqualTo(1L));
+    assertThat(second.get()).hasValueSatisfying(u -> assertThat(u.getId()).isEqualTo(2L));
+    assertThat(unknown.get()).isEmpty();
+
+    final ArgumentCaptor<List<Long>> captor = ArgumentCaptor.forClass(List.class);
+    verify(this.userService, times(1)).listUsersByIds(captor.capture());
+    assertThat(captor.getValue()).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldNotAffectOtherCallersWhenCancelled() throws Exception {
+    when(this.userService.listUsersByIds(anyList())).thenReturn(Collections.singletonList(new UserV2().id(1L)));
+
+    final CompletableFuture<Optional<UserV2>> first = this.loader.loadById(1L);
+    final CompletableFuture<Optional<UserV2>> duplicate = this.loader.loadById(1L);
+    first.cancel(true);
+    duplicate.obtrudeValue(Optional.empty());
+    final CompletableFuture<Optional<UserV2>> third = this.loader.loadById(1L);
+    this.loader.flush();
+
+    assertThat(first).isCancelled();
+    assertThat(duplicate.get()).isEmpty();
+    assertThat(third.get()).hasValueSatisfying(u -> assertThat(u.getId()).isEqualTo(1L));
+  }
+
+  @Test
+  void shouldSendPendingLookupsAfterWindow() throws Exception {
+    this.loader.close();
+    this.loader = new UserLoader(this.userService, Duration.ofMillis(1), 100);
+    when(this.userService.listUsersByIds(Collections.singletonList(1L)))
+        .thenReturn(Collections.singletonList(new UserV2().id(1L)));
+
+    assertThat(this.loader.loadById(1L).get()).isPresent();
+  }
+
+  @Test
+  void shouldLookupByEmailIgnoringCase() throws Exception {
+    when(this.userService.listUsersByEmails(anyList()))
+        .thenReturn(Collections.singletonList(new UserV2().id(1L).emailAddress("John.Doe@symphony.com")));
+
+    final CompletableFuture<Optional<UserV2>> user = this.loader.loadByEmail("john.doe@symphony.com");
+    this.loader.flush();
+
+    assertThat(user.get()).hasValueSatisfying(u -> assertThat(u.getId()).isEqualTo(1L));
+  }
+
+  @Test
+  void shouldFailAllLookupsOfBatch() {
+    when(this.userService.listUsersByIds(anyList()))
+        .thenThrow(new ApiRuntimeException(new ApiException(500, "error")));
+
+    final CompletableFuture<Optional<UserV2>> first = this.loader.loadById(1L);
+    final CompletableFuture<Optional<UserV2>> second = this.loader.loadById(2L);
+    this.loader.flush();
+
+    assertThrows(ExecutionException.class, first::get);
+    assertThrows(ExecutionException.class, second::get);
+  }
+
+  @Test
+  void shouldFailLookupsOnceClosed() {
+    this.loader.close();
+
+    final CompletableFuture<Optional<UserV2>> user = this.loader.loadById(1L);
+
+    final ExecutionException exception = assertThrows(ExecutionException.class, user::get);
+    assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+    verify(this.userService, never()).listUsersByIds(anyList());
+  }
+
+  @Test
+  void shouldRejectInvalidBatchSize() {
+    assertThrows(IllegalArgumentException.class, () -> new UserLoader(this.userService, Duration.ofMillis(1), 0));
+  }
+}
@@ -0,0 +1,220 @@
+package com.symphony.bdk.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class for the {@link ExpiringCache}.
+ */
+class ExpiringCacheTest {
+
+  private final AtomicLong now = new AtomicLong();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private ExpiringCache<String, String> cache;
+
+  @BeforeEach
+  void setUp() {
+    // refreshes are run synchronously on the calling thread
+    this.cache = new ExpiringCache<>(2, Duration.ofSeconds(10), Duration.ofSeconds(1), Duration.ofSeconds(8),
+        Runnable::run, this.now::get);
+  }
+
+  @Test
+  void shouldLoadOnceUntilExpired() {
+    assertThat(this.cache.get("a", this::load)).hasValue("A1");
+    assertThat(this.cache.get("a", this::load)).hasValue("A1");
+    assertThat(this.loads).hasValue(1);
+
+    this.now.set(Duration.ofSeconds(10).toNanos());
+    assertThat(this.cache.get("a", this::load)).hasValue("A2");
+
+    final CacheStats stats = this.cache.stats();
+    assertThat(stats.getHitCount()).isEqualTo(1);
+    assertThat(stats.getMissCount()).isEqualTo(2);
+    assertThat(stats.hitRate()).isEqualTo(1.0 / 3);
+  }
+
+  @Test
+  void shouldCacheNotFoundKeysWithNegativeTtl() {
+    assertThat(this.cache.get("a", key -> this.notFound())).isEmpty();
+    assertThat(this.cache.get("a", this::load)).isEmpty();
+
+    this.now.set(Duration.ofSeconds(1).toNanos());
+    assertThat(this.cache.get("a", this::load)).hasValue("A2");
+  }
+
+  @Test
+  void shouldRefreshAhead() {
+    this.cache.get("a", this::load);
+
+    this.now.set(Duration.ofSeconds(9).toNanos());
+    // stale value is returned while reloaded in the background
+    assertThat(this.cache.get("a", this::load)).hasValue("A1");
+    assertThat(this.loads).hasValue(2);
+
+    this.now.set(Duration.ofSeconds(15).toNanos());
+    assertThat(this.cache.get("a", this::load)).hasValue("A2");
+    assertThat(this.loads).hasValue(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsed() {
+    this.cache.get("a", this::load);
+    this.cache.get("b", this::load);
+    this.cache.get("a", this::load);
+    this.cache.get("c", this::load);
+
+    assertThat(this.cache.getIfPresent("a")).isPresent();
+    assertThat(this.cache.getIfPresent("b")).isEmpty();
+    assertThat(this.cache.stats().getEvictionCount()).isEqualTo(1);
+    assertThat(this.cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldLoadMissingKeysInOneCall() {
+    this.cache.put("a", "cached");
+    final List<List<String>> calls = new ArrayList<>();
+
+    final Map<String, String> values = this.cache.getAll(Arrays.asList("a", "b"), keys -> {
+      calls.add(keys);
+      return Collections.emptyMap();
+    });
+
+    assertThat(values).containsOnlyKeys("a");
+    assertThat(calls).containsExactly(Collections.singletonList("b"));
+    assertThat(this.cache.getAll(Collections.singletonList("b"), keys -> {
+      calls.add(keys);
+      return Collections.emptyMap();
+    })).isEmpty();
+    assertThat(calls).hasSize(1);
+  }
+
+  @Test
+  void shouldUpdateCachedValueOnly() {
+    this.cache.get("a", this::load);
+    this.cache.update("a", value -> value + "-updated");
+    this.cache.update("b", value -> value + "-updated");
+
+    assertThat(this.cache.getIfPresent("a")).hasValue("A1-updated");
+    assertThat(this.cache.getIfPresent("b")).isEmpty();
+
+    // the entry keeps its expiry
+    this.now.set(Duration.ofSeconds(10).toNanos());
+    assertThat(this.cache.getIfPresent("a")).isEmpty();
+  }
+
+  @Test
+  void shouldInvalidate() {
+    this.cache.get("a", this::load);
+    this.cache.invalidate("a");
+    assertThat(this.cache.get("a", this::load)).hasValue("A2");
+
+    this.cache.invalidateAll();
+    assertThat(this.cache.size()).isZero();
+  }
+
+  @Test
+  void shouldShareConcurrentLoadsOfSameKey() throws Exception {
+    final CountDownLatch loading = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CompletableFuture<Optional<String>> first = CompletableFuture.supplyAsync(() -> this.cache.get("a", key -> {
+      loading.countDown();
+      await(release);
+      return this.load(key);
+    }));
+    assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+    final CompletableFuture<Map<String, String>> second =
+        CompletableFuture.supplyAsync(() -> this.cache.getAll(Collections.singletonList("a"), keys -> {
+          this.loads.incrementAndGet();
+          return Collections.emptyMap();
+        }));
+    final CompletableFuture<Optional<String>> third =
+        CompletableFuture.supplyAsync(() -> this.cache.get("a", this::load));
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).hasValue("A1");
+    assertThat(second.get(5, TimeUnit.SECONDS)).containsEntry("a", "A1");
+    assertThat(third.get(5, TimeUnit.SECONDS)).hasValue("A1");
+    assertThat(this.loads).hasValue(1);
+  }
+
+  @Test
+  void shouldNotStoreValueLoadedBeforeInvalidation() {
+    assertThat(this.cache.get("a", key -> {
+      this.cache.invalidate(key);
+      return this.load(key);
+    })).hasValue("A1");
+    assertThat(this.cache.getIfPresent("a")).isEmpty();
+
+    this.cache.getAll(Arrays.asList("b", "c"), keys -> {
+      this.cache.invalidateAll();
+      return Collections.singletonMap("b", "B");
+    });
+    assertThat(this.cache.size()).isZero();
+
+    // the invalidation only applies to the load in progress
+    assertThat(this.cache.get("a", this::load)).hasValue("A2");
+    assertThat(this.cache.getIfPresent("a")).hasValue("A2");
+  }
+
+  @Test
+  void shouldNotStoreValueRefreshedBeforeInvalidation() {
+    this.cache.get("a", this::load);
+    this.now.addAndGet(Duration.ofSeconds(9).toNanos());
+
+    assertThat(this.cache.get("a", key -> {
+      this.cache.invalidate(key);
+      return this.load(key);
+    })).hasValue("A1");
+    assertThat(this.cache.getIfPresent("a")).isEmpty();
+  }
+
+  @Test
+  void shouldRecordLookupsInMetrics() {
+    final CacheMetrics metrics = mock(CacheMetrics.class);
+    this.cache.setMetrics(metrics);
+
+    this.cache.get("a", this::load);
+    this.cache.get("a", this::load);
+
+    verify(metrics, times(1)).recordGet(false);
+    verify(metrics, times(1)).recordGet(true);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Optional<String> load(String key) {
+    return Optional.of(key.toUpperCase() + this.loads.incrementAndGet());
+  }
+
+  private Optional<String> notFound() {
+    this.loads.incrementAndGet();
+    return Optional.empty();
+  }
+}
@@ -1,19 +1,31 @@
 package com.symphony.bdk.http.api;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.apiguardian.api.API;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
- *
+ * Multipart body part carrying a file, either as a stream or, when it can be sent directly from the disk, as a path.
  */
 @Getter
-@AllArgsConstructor
 @API(status = API.Status.INTERNAL)
 public class ApiClientBodyPart {
 
   private final InputStream content;
+  private final Path file;
   private final String filename;
+
+  public ApiClientBodyPart(InputStream content, String filename) {
+    this.content = content;
+    this.file = null;
+    this.filename = filename;
+  }
+
+  public ApiClientBodyPart(Path file, String filename) {
+    this.content = null;
+    this.file = file;
+    this.filename = filename;
+  }
 }
@@ -13,6 +13,10 @@ public interface ApiClientBuilder {
   int DEFAULT_READ_TIMEOUT = 60_000;
   int DEFAULT_CONNECT_TIMEOUT = 15_000;
   int DEFAULT_CONNECTION_POOL_MAX = 20;
+  int DEFAULT_CONNECTION_MAX_IDLE_TIME = 30_000;
+  int DEFAULT_CONNECTION_TIME_TO_LIVE = 0;
+  int DEFAULT_CONNECTION_VALIDATE_AFTER_INACTIVITY = 2_000;
+  boolean DEFAULT_COMPRESSION = true;
 
   /**
    * @return a new {@link ApiClient} based on the previously called methods below.
@@ -77,33 +81,98 @@ public interface ApiClientBuilder {
   ApiClientBuilder withReadTimeout(Integer readTimeout);
 
   /**
-   * Custom setting specific for {@link com.symphony.bdk.http.jersey2.ApiClientBuilderJersey2} only,
-   * it set {@link org.apache.http.impl.conn.PoolingHttpClientConnectionManager#setMaxTotal}
-   * If not set or set null, maximum connections per each route will be 20
+   * Sets the maximum number of pooled connections, e.g.
+   * {@link org.apache.http.impl.conn.PoolingHttpClientConnectionManager#setMaxTotal} for the Jersey2 implementation.
+   * If not set or set null, maximum connections in the pool will be 20
    *
    * @param connectionPoolMax maximum connections in the pool
    * @return the updated instance of {@link ApiClientBuilder}
    *
    */
   default ApiClientBuilder withConnectionPoolMax(Integer connectionPoolMax){
-    // Only ApiClientBuilderJersey2 override default method, otherwise it does nothing
+    // Only pooling implementations override default method, otherwise it does nothing
     return this;
   }
 
   /**
-   * Custom setting specific for {@link com.symphony.bdk.http.jersey2.ApiClientBuilderJersey2} only,
-   * it set {@link org.apache.http.impl.conn.PoolingHttpClientConnectionManager#setDefaultMaxPerRoute}
-   * If not set or set null, maximum connections per each route will be 20
+   * Sets the maximum number of pooled connections to a same target, e.g.
+   * {@link org.apache.http.impl.conn.PoolingHttpClientConnectionManager#setDefaultMaxPerRoute} for the Jersey2
+   * implementation. If not set or set null, maximum connections per each route will be 20
    *
    * @param connectionPoolPerRoute maximum connections per each route
    * @return the updated instance of {@link ApiClientBuilder}
    *
    */
   default ApiClientBuilder withConnectionPoolPerRoute(Integer connectionPoolPerRoute){
+    // Only pooling implementations override default method, otherwise it does nothing
+    return this;
+  }
+
+  /**
+   * Sets the time (in milliseconds) after which an idle pooled connection is closed, so that connections silently
+   * dropped by load balancers or proxies are not reused. A value of 0 means no limit.
+   * If not set or set null, idle connections will be closed after 30000 milliseconds.
+   *
+   * @param connectionMaxIdleTime maximum idle time of a pooled connection in milliseconds
+   * @return the updated instance of {@link ApiClientBuilder}
+   */
+  default ApiClientBuilder withConnectionMaxIdleTime(Integer connectionMaxIdleTime) {
+    // Only pooling implementations override default method, otherwise it does nothing
+    return this;
+  }
+
+  /**
+   * Sets the time (in milliseconds) after which a pooled connection is closed once released, whatever its activity.
+   * A value of 0 means no limit. If not set or set null, connections are kept as long as they are used.
+   *
+   * @param connectionTimeToLive time to live of a pooled connection in milliseconds
+   * @return the updated instance of {@link ApiClientBuilder}
+   */
+  default ApiClientBuilder withConnectionTimeToLive(Integer connectionTimeToLive) {
+    // Only pooling implementations override default method, otherwise it does nothing
+    return this;
+  }
+
+  /**
+   * Custom setting specific for {@link com.symphony.bdk.http.jersey2.ApiClientBuilderJersey2} only,
+   * it set {@link org.apache.http.impl.conn.PoolingHttpClientConnectionManager#setValidateAfterInactivity}, the time
+   * (in milliseconds) after which a pooled connection is checked to be still open before being reused. A negative
+   * value disables the check. If not set or set null, connections idle for 2000 milliseconds are checked.
+   *
+   * @param connectionValidateAfterInactivity inactivity time after which a connection is validated in milliseconds
+   * @return the updated instance of {@link ApiClientBuilder}
+   */
+  default ApiClientBuilder withConnectionValidateAfterInactivity(Integer connectionValidateAfterInactivity) {
     // Only ApiClientBuilderJersey2 override default method, otherwise it does nothing
     return this;
   }
 
+  /**
+   * Custom setting specific for {@link com.symphony.bdk.http.webclient.ApiClientBuilderWebClient} only,
+   * it enables HTTP/2 so that concurrent requests are multiplexed over a few connections. HTTP/2 is negotiated with
+   * ALPN for https targets and with an upgrade request (h2c) for http ones, HTTP/1.1 being used if the server does not
+   * support it. If not set or set null, HTTP/1.1 is used.
+   *
+   * @param http2 true to enable HTTP/2
+   * @return the updated instance of {@link ApiClientBuilder}
+   */
+  default ApiClientBuilder withHttp2(Boolean http2) {
+    // Only ApiClientBuilderWebClient override default method, otherwise it does nothing
+    return this;
+  }
+
+  /**
+   * Enables the response compression: requests are sent with the {@code Accept-Encoding: gzip} header and compressed
+   * responses are decompressed while being read. If not set or set null, compression is enabled.
+   *
+   * @param compression true to accept compressed responses
+   * @return the updated instance of {@link ApiClientBuilder}
+   */
+  default ApiClientBuilder withCompression(Boolean compression) {
+    // Only implementations supporting compression override default method, otherwise it does nothing
+    return this;
+  }
+
   /**
    * Sets a proxy host and port.
    *
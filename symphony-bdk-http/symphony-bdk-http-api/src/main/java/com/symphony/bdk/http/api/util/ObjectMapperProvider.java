@@ -0,0 +1,109 @@
+package com.symphony.bdk.http.api.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apiguardian.api.API;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+/**
+ * Provides the {@link ObjectMapper} shared by the BDK modules, so that its serializers and deserializers are only
+ * looked up and cached once: it is used by the HTTP clients to (de)serialize the API models as well as by the core
+ * services to parse JSON content.
+ * <p>
+ * If the Jackson Blackbird module ({@code com.fasterxml.jackson.module:jackson-module-blackbird}) is found in the
+ * classpath, it is registered to access the models properties through generated lambdas instead of reflection. This
+ * can be disabled by setting the {@value #BLACKBIRD_PROPERTY} system property to {@code false}.
+ * <p>
+ * Another mapper can be provided with {@link #setMapper(ObjectMapper)}, it must be set before the BDK is initialized
+ * and must not be reconfigured once in use.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class ObjectMapperProvider {
+
+  /**
+   * System property disabling the Blackbird module when set to {@code false}.
+   */
+  public static final String BLACKBIRD_PROPERTY = "bdk.jackson.blackbird";
+
+  private static final Logger log = LoggerFactory.getLogger(ObjectMapperProvider.class);
+  private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+  private static volatile ObjectMapper mapper;
+
+  private ObjectMapperProvider() {
+  }
+
+  /**
+   * @return the shared mapper, created on first call if none has been set.
+   */
+  public static ObjectMapper getMapper() {
+    ObjectMapper current = mapper;
+    if (current == null) {
+      synchronized (ObjectMapperProvider.class) {
+        current = mapper;
+        if (current == null) {
+          current = createMapper(!"false".equalsIgnoreCase(System.getProperty(BLACKBIRD_PROPERTY)));
+          mapper = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Replaces the shared mapper, only the components created afterwards use it.
+   *
+   * @param objectMapper the mapper to be shared.
+   */
+  public static void setMapper(ObjectMapper objectMapper) {
+    mapper = Objects.requireNonNull(objectMapper, "objectMapper");
+  }
+
+  /**
+   * Creates a new mapper configured for the BDK models: null properties are not serialized, unknown properties are
+   * ignored, enums are (de)serialized using their {@code toString()} value and dates using the
+   * {@link RFC3339DateFormat}, as the Jersey client always did.
+   *
+   * @param blackbird true to register the Blackbird module, if available in the classpath.
+   * @return the new mapper.
+   */
+  public static ObjectMapper createMapper(boolean blackbird) {
+    final JsonMapper objectMapper = JsonMapper.builder()
+        .serializationInclusion(JsonInclude.Include.NON_NULL)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .disable(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE)
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
+        .enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING)
+        .defaultDateFormat(new RFC3339DateFormat())
+        .addModule(new JavaTimeModule())
+        .addModule(new JsonNullableModule())
+        .build();
+
+    if (blackbird) {
+      registerBlackbird(objectMapper);
+    }
+    return objectMapper;
+  }
+
+  private static void registerBlackbird(ObjectMapper objectMapper) {
+    try {
+      final Class<?> moduleClass = Class.forName(BLACKBIRD_MODULE, true, ObjectMapperProvider.class.getClassLoader());
+      objectMapper.registerModule((Module) moduleClass.getDeclaredConstructor().newInstance());
+      log.debug("Jackson Blackbird module registered");
+    } catch (ClassNotFoundException e) {
+      log.trace("Jackson Blackbird module not found in the classpath");
+    } catch (ReflectiveOperationException | LinkageError e) {
+      log.warn("Unable to register the Jackson Blackbird module", e);
+    }
+  }
+}
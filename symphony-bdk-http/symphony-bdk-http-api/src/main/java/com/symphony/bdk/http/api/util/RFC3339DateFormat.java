@@ -1,4 +1,4 @@
-package com.symphony.bdk.http.jersey2;
+package com.symphony.bdk.http.api.util;
 
 import com.fasterxml.jackson.databind.util.ISO8601DateFormat;
 import com.fasterxml.jackson.databind.util.ISO8601Utils;
@@ -7,6 +7,10 @@ import org.apiguardian.api.API;
 import java.text.FieldPosition;
 import java.util.Date;
 
+/**
+ * ISO 8601 date format with milliseconds and a {@code Z} suffix for UTC, used by {@link ObjectMapperProvider} to
+ * (de)serialize the {@link Date} properties as the Jersey client always did.
+ */
 @API(status = API.Status.INTERNAL)
 public class RFC3339DateFormat extends ISO8601DateFormat {
 
@@ -0,0 +1,142 @@
+package com.symphony.bdk.http.api.util;
+
+import org.apiguardian.api.API;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the key stores loaded from the configured keystore and truststore contents, as well as the SSL contexts built
+ * from them, so that they are shared by all the {@link com.symphony.bdk.http.api.ApiClient}s using the same material
+ * instead of being parsed and initialized for each of them.
+ * <p>
+ * Entries are keyed by a SHA-256 fingerprint of the store type, content and password. As the TLS sessions are cached
+ * per SSL context, sharing the contexts also lets the clients and their reconnections resume previous sessions rather
+ * than performing full handshakes.
+ * <p>
+ * At most {@value #MAX_ENTRIES} key stores and as many SSL contexts are kept, the least recently used ones being
+ * evicted first, so that a long-running application building clients from varying material does not retain all of it.
+ * <p>
+ * Cached key stores are shared and must not be modified.
+ */
+@API(status = API.Status.INTERNAL)
+public final class SslMaterialCache {
+
+  static final int MAX_ENTRIES = 32;
+
+  private static final Map<String, KeyStore> keyStores = boundedMap();
+  private static final Map<String, Object> sslContexts = boundedMap();
+
+  private SslMaterialCache() {
+  }
+
+  /**
+   * Returns the key store loaded from the given content, loading it if it has not been yet.
+   *
+   * @param type               the key store type.
+   * @param content            the key store content.
+   * @param password           the key store password.
+   * @param withDefaultRootCas true to add the default root CA certificates to the key store, used for truststores.
+   * @return the shared key store.
+   * @throws GeneralSecurityException if the key store cannot be loaded.
+   * @throws IOException              if the content is not valid or the password is wrong.
+   */
+  public static KeyStore getKeyStore(String type, byte[] content, String password, boolean withDefaultRootCas)
+      throws GeneralSecurityException, IOException {
+    final String key = fingerprint(type, content, password) + (withDefaultRootCas ? "+ca" : "");
+    KeyStore keyStore = keyStores.get(key);
+    if (keyStore == null) {
+      keyStore = KeyStore.getInstance(type);
+      keyStore.load(new ByteArrayInputStream(content), password.toCharArray());
+      if (withDefaultRootCas) {
+        ApiUtils.addDefaultRootCaCertificates(keyStore);
+      }
+      final KeyStore previous = keyStores.putIfAbsent(key, keyStore);
+      keyStore = previous == null ? keyStore : previous;
+    }
+    return keyStore;
+  }
+
+  /**
+   * Returns the SSL context cached for the given key, creating it if absent. A failed creation is not cached.
+   *
+   * @param key     the key identifying the SSL context, built from the {@link #fingerprint} of its material.
+   * @param factory creates the SSL context.
+   * @param <T>     the SSL context type, that depends on the HTTP client implementation.
+   * @return the shared SSL context.
+   * @throws GeneralSecurityException if the SSL context cannot be created.
+   * @throws IOException              if the SSL context cannot be created.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T getSslContext(String key, SslContextFactory<T> factory)
+      throws GeneralSecurityException, IOException {
+    Object sslContext = sslContexts.get(key);
+    if (sslContext == null) {
+      sslContext = factory.create();
+      final Object previous = sslContexts.putIfAbsent(key, sslContext);
+      sslContext = previous == null ? sslContext : previous;
+    }
+    return (T) sslContext;
+  }
+
+  /**
+   * @param type     the key store type.
+   * @param content  the key store content, null if not configured.
+   * @param password the key store password.
+   * @return a fingerprint identifying the key store material, without exposing it.
+   */
+  public static String fingerprint(String type, byte[] content, String password) {
+    if (content == null) {
+      return "none";
+    }
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(String.valueOf(type).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(String.valueOf(password).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(content);
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is supported by every Java platform
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Empties the cache, the clients built afterwards loading their SSL material again.
+   */
+  public static void clear() {
+    keyStores.clear();
+    sslContexts.clear();
+  }
+
+  private static <V> Map<String, V> boundedMap() {
+    return Collections.synchronizedMap(new LinkedHashMap<String, V>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+        return this.size() > MAX_ENTRIES;
+      }
+    });
+  }
+
+  /**
+   * Creates an SSL context.
+   *
+   * @param <T> the SSL context type.
+   */
+  @FunctionalInterface
+  public interface SslContextFactory<T> {
+
+    T create() throws GeneralSecurityException, IOException;
+  }
+}
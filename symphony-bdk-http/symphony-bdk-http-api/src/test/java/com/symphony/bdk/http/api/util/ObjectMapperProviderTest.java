@@ -0,0 +1,84 @@
+package com.symphony.bdk.http.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+class ObjectMapperProviderTest {
+
+  @Test
+  void shouldShareMapper() {
+    assertSame(ObjectMapperProvider.getMapper(), ObjectMapperProvider.getMapper());
+  }
+
+  @Test
+  void shouldReplaceMapper() {
+    final ObjectMapper previous = ObjectMapperProvider.getMapper();
+    final ObjectMapper mapper = new ObjectMapper();
+    try {
+      ObjectMapperProvider.setMapper(mapper);
+      assertSame(mapper, ObjectMapperProvider.getMapper());
+    } finally {
+      ObjectMapperProvider.setMapper(previous);
+    }
+  }
+
+  @Test
+  void shouldRegisterBlackbirdWhenAvailable() {
+    assertTrue(hasBlackbird(ObjectMapperProvider.createMapper(true)));
+    assertFalse(hasBlackbird(ObjectMapperProvider.createMapper(false)));
+  }
+
+  @Test
+  void shouldBeConfiguredForModels() throws Exception {
+    final ObjectMapper mapper = ObjectMapperProvider.createMapper(true);
+
+    final Model model = mapper.readValue("{\"name\": \"name\", \"unknown\": 1}", Model.class);
+    assertEquals("name", model.getName());
+
+    model.setName(null);
+    model.setDate(Instant.ofEpochMilli(0));
+    assertEquals("{\"date\":\"1970-01-01T00:00:00Z\"}", mapper.writeValueAsString(model));
+  }
+
+  @Test
+  void shouldSerializeDatesAsJerseyClient() throws Exception {
+    final ObjectMapper mapper = ObjectMapperProvider.createMapper(false);
+
+    assertEquals("\"1970-01-01T00:00:00.000Z\"", mapper.writeValueAsString(new Date(0)));
+    assertEquals(new Date(0), mapper.readValue("\"1970-01-01T00:00:00.000Z\"", Date.class));
+  }
+
+  private static boolean hasBlackbird(ObjectMapper mapper) {
+    return mapper.getRegisteredModuleIds().stream().anyMatch(id -> id.toString().toLowerCase().contains("blackbird"));
+  }
+
+  public static class Model {
+
+    private String name;
+    private Instant date;
+
+    public String getName() {
+      return this.name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public Instant getDate() {
+      return this.date;
+    }
+
+    public void setDate(Instant date) {
+      this.date = date;
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.symphony.bdk.http.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SslMaterialCacheTest {
+
+  private static final String PASSWORD = "changeit";
+
+  @AfterEach
+  void tearDown() {
+    SslMaterialCache.clear();
+  }
+
+  @Test
+  void shouldShareKeyStoreLoadedFromSameContent() throws Exception {
+    final byte[] content = emptyKeyStore();
+
+    final KeyStore keyStore = SslMaterialCache.getKeyStore("PKCS12", content, PASSWORD, false);
+
+    assertSame(keyStore, SslMaterialCache.getKeyStore("PKCS12", content.clone(), PASSWORD, false));
+    assertNotSame(keyStore, SslMaterialCache.getKeyStore("PKCS12", content, PASSWORD, true));
+    assertEquals(0, keyStore.size());
+  }
+
+  @Test
+  void shouldAddDefaultRootCas() throws Exception {
+    final KeyStore trustStore = SslMaterialCache.getKeyStore("PKCS12", emptyKeyStore(), PASSWORD, true);
+
+    assertTrue(trustStore.size() > 0);
+  }
+
+  @Test
+  void shouldFailWithWrongPassword() throws Exception {
+    final byte[] content = emptyKeyStore();
+
+    assertThrows(IOException.class, () -> SslMaterialCache.getKeyStore("PKCS12", content, "wrong", false));
+  }
+
+  @Test
+  void shouldShareSslContextButNotFailures() throws Exception {
+    final AtomicInteger creations = new AtomicInteger();
+
+    assertThrows(GeneralSecurityException.class, () -> SslMaterialCache.getSslContext("key", () -> {
+      creations.incrementAndGet();
+      throw new GeneralSecurityException("failure");
+    }));
+    final Object sslContext = SslMaterialCache.getSslContext("key", () -> {
+      creations.incrementAndGet();
+      return new Object();
+    });
+
+    assertSame(sslContext, SslMaterialCache.getSslContext("key", Object::new));
+    assertEquals(2, creations.get());
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedSslContext() throws Exception {
+    final Object first = SslMaterialCache.getSslContext("key-0", Object::new);
+    final Object second = SslMaterialCache.getSslContext("key-1", Object::new);
+    for (int i = 2; i < SslMaterialCache.MAX_ENTRIES; i++) {
+      SslMaterialCache.getSslContext("key-" + i, Object::new);
+    }
+    // the first context is used again, the second one becomes the least recently used
+    assertSame(first, SslMaterialCache.getSslContext("key-0", Object::new));
+
+    SslMaterialCache.getSslContext("key-" + SslMaterialCache.MAX_ENTRIES, Object::new);
+
+    assertSame(first, SslMaterialCache.getSslContext("key-0", Object::new));
+    assertNotSame(second, SslMaterialCache.getSslContext("key-1", Object::new));
+  }
+
+  @Test
+  void shouldFingerprintMaterial() throws Exception {
+    final byte[] content = emptyKeyStore();
+
+    assertEquals(SslMaterialCache.fingerprint("PKCS12", content, PASSWORD),
+        SslMaterialCache.fingerprint("PKCS12", content.clone(), PASSWORD));
+    assertNotEquals(SslMaterialCache.fingerprint("PKCS12", content, PASSWORD),
+        SslMaterialCache.fingerprint("PKCS12", content, "other"));
+    assertEquals("none", SslMaterialCache.fingerprint("PKCS12", null, null));
+  }
+
+  private static byte[] emptyKeyStore() throws GeneralSecurityException, IOException {
+    final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+    keyStore.load(null, null);
+    final ByteArrayOutputStream content = new ByteArrayOutputStream();
+    keyStore.store(content, PASSWORD.toCharArray());
+    return content.toByteArray();
+  }
+}
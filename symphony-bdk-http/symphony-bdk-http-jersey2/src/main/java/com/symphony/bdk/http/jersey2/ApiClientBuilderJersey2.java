@@ -1,12 +1,12 @@
 package com.symphony.bdk.http.jersey2;
 
-import static com.symphony.bdk.http.api.util.ApiUtils.addDefaultRootCaCertificates;
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
 
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBuilder;
 import com.symphony.bdk.http.api.auth.Authentication;
 import com.symphony.bdk.http.api.util.ApiUtils;
+import com.symphony.bdk.http.api.util.SslMaterialCache;
 
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
@@ -26,12 +26,13 @@ import org.glassfish.jersey.client.HttpUrlConnectorProvider;
 import org.glassfish.jersey.jackson.JacksonFeature;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
 
@@ -45,7 +46,10 @@ import javax.net.ssl.SSLContext;
 @API(status = API.Status.STABLE)
 public class ApiClientBuilderJersey2 implements ApiClientBuilder {
 
+  public static final Duration DEFAULT_EVICTION_INTERVAL = Duration.ofSeconds(5);
+
   private static final String TRUSTSTORE_FORMAT = "JKS";
+  private static final String KEYSTORE_FORMAT = KeyStore.getDefaultType();
 
   protected String basePath;
   protected byte[] keyStoreBytes;
@@ -57,6 +61,11 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
   protected int readTimeout;
   protected int connectionPoolMax;
   protected int connectionPoolPerRoute;
+  protected int connectionMaxIdleTime;
+  protected int connectionTimeToLive;
+  protected int connectionValidateAfterInactivity;
+  protected Duration evictionInterval;
+  protected boolean compression;
   protected String temporaryFolderPath;
   protected String proxyUrl;
   protected String proxyUser;
@@ -74,6 +83,11 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
     this.readTimeout = DEFAULT_READ_TIMEOUT;
     this.connectionPoolMax = DEFAULT_CONNECTION_POOL_MAX;
     this.connectionPoolPerRoute = DEFAULT_CONNECTION_POOL_MAX;
+    this.connectionMaxIdleTime = DEFAULT_CONNECTION_MAX_IDLE_TIME;
+    this.connectionTimeToLive = DEFAULT_CONNECTION_TIME_TO_LIVE;
+    this.connectionValidateAfterInactivity = DEFAULT_CONNECTION_VALIDATE_AFTER_INACTIVITY;
+    this.evictionInterval = DEFAULT_EVICTION_INTERVAL;
+    this.compression = DEFAULT_COMPRESSION;
     this.temporaryFolderPath = null;
     this.proxyUrl = null;
     this.proxyUser = null;
@@ -195,6 +209,57 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionMaxIdleTime(Integer connectionMaxIdleTime) {
+    this.connectionMaxIdleTime =
+        connectionMaxIdleTime == null ? DEFAULT_CONNECTION_MAX_IDLE_TIME : connectionMaxIdleTime;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionTimeToLive(Integer connectionTimeToLive) {
+    this.connectionTimeToLive = connectionTimeToLive == null ? DEFAULT_CONNECTION_TIME_TO_LIVE : connectionTimeToLive;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionValidateAfterInactivity(Integer connectionValidateAfterInactivity) {
+    this.connectionValidateAfterInactivity = connectionValidateAfterInactivity == null
+        ? DEFAULT_CONNECTION_VALIDATE_AFTER_INACTIVITY
+        : connectionValidateAfterInactivity;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withCompression(Boolean compression) {
+    this.compression = compression == null ? DEFAULT_COMPRESSION : compression;
+    return this;
+  }
+
+  /**
+   * Sets the interval at which the expired and idle connections are closed by a background monitor. If set null or to
+   * zero, the monitor is disabled. If not set, it runs every 5 seconds.
+   *
+   * @param evictionInterval the background eviction interval
+   * @return the updated instance of {@link ApiClientBuilderJersey2}
+   */
+  public ApiClientBuilderJersey2 withEvictionInterval(Duration evictionInterval) {
+    this.evictionInterval = evictionInterval == null ? Duration.ZERO : evictionInterval;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -233,6 +298,7 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
 
     clientConfig.register(ApiClientJersey2RequestLogFilter.class);
     clientConfig.register(MultiPartFeature.class);
+    clientConfig.register(new CompressionConfigurator(this.compression));
     clientConfig.property(HttpUrlConnectorProvider.SET_METHOD_WORKAROUND, true);
     // turn off compliance validation to be able to send payloads with DELETE calls
     clientConfig.property(ClientProperties.SUPPRESS_HTTP_COMPLIANCE_VALIDATION, true);
@@ -243,14 +309,26 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
         .register("http", new PlainConnectionSocketFactory())
         .build();
 
+    clientConfig.property(ApacheClientProperties.CONNECTION_MANAGER, this.createConnectionManager(registry));
+    clientConfig.connectorProvider(new ApacheConnectorProvider());
+    return clientConfig;
+  }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  protected PoolingHttpClientConnectionManager createConnectionManager(Registry<ConnectionSocketFactory> registry) {
     // By default PoolingHttpClientConnectionManager, if not configured, has 20 connection in the
     // pool BUT only 2 max connection per route.
-    final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
+    final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry,
+        null, null, null, this.connectionTimeToLive > 0 ? this.connectionTimeToLive : -1, TimeUnit.MILLISECONDS);
     connectionManager.setMaxTotal(this.connectionPoolMax);
     connectionManager.setDefaultMaxPerRoute(this.connectionPoolPerRoute);
-    clientConfig.property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager);
-    clientConfig.connectorProvider(new ApacheConnectorProvider());
-    return clientConfig;
+    connectionManager.setValidateAfterInactivity(this.connectionValidateAfterInactivity);
+
+    if ((this.connectionMaxIdleTime > 0 || this.connectionTimeToLive > 0)
+        && !this.evictionInterval.isZero() && !this.evictionInterval.isNegative()) {
+      IdleConnectionMonitor.monitor(connectionManager, this.connectionMaxIdleTime, this.evictionInterval);
+    }
+    return connectionManager;
   }
 
   @API(status = API.Status.EXPERIMENTAL)
@@ -269,22 +347,35 @@ public class ApiClientBuilderJersey2 implements ApiClientBuilder {
   @API(status = API.Status.EXPERIMENTAL)
   protected SSLContext createSSLContext() {
     try {
-      final SslConfigurator sslConfig = SslConfigurator.newInstance();
-      if (isNotEmpty(trustStoreBytes) && isNotEmpty(trustStorePassword)) {
-        final KeyStore truststore = KeyStore.getInstance(TRUSTSTORE_FORMAT);
-        truststore.load(new ByteArrayInputStream(trustStoreBytes), trustStorePassword.toCharArray());
-        addDefaultRootCaCertificates(truststore);
-        sslConfig.trustStore(truststore);
+      final boolean withTrustStore = isNotEmpty(trustStoreBytes) && isNotEmpty(trustStorePassword);
+      final boolean withKeyStore = isNotEmpty(keyStoreBytes) && isNotEmpty(keyStorePassword);
+
+      final KeyStore truststore = withTrustStore
+          ? SslMaterialCache.getKeyStore(TRUSTSTORE_FORMAT, trustStoreBytes, trustStorePassword, true)
+          : null;
+      if (truststore != null) {
         ApiUtils.logTrustStore(truststore);
       }
-      if (isNotEmpty(keyStoreBytes) && isNotEmpty(keyStorePassword)) {
-        sslConfig
-            .keyStoreBytes(keyStoreBytes)
-            .keyStorePassword(keyStorePassword);
-      }
-      return sslConfig.createSSLContext();
+
+      final String key = "jersey2:"
+          + (withTrustStore ? SslMaterialCache.fingerprint(TRUSTSTORE_FORMAT, trustStoreBytes, trustStorePassword) : "")
+          + ":"
+          + (withKeyStore ? SslMaterialCache.fingerprint(KEYSTORE_FORMAT, keyStoreBytes, keyStorePassword) : "");
+
+      return SslMaterialCache.getSslContext(key, () -> {
+        final SslConfigurator sslConfig = SslConfigurator.newInstance();
+        if (truststore != null) {
+          sslConfig.trustStore(truststore);
+        }
+        if (withKeyStore) {
+          sslConfig
+              .keyStore(SslMaterialCache.getKeyStore(KEYSTORE_FORMAT, keyStoreBytes, keyStorePassword, false))
+              .keyStorePassword(keyStorePassword);
+        }
+        return sslConfig.createSSLContext();
+      });
     } catch (IOException | GeneralSecurityException e) {
-      throw new IllegalStateException(e.getCause().getMessage(), e);
+      throw new IllegalStateException(e.getCause() != null ? e.getCause().getMessage() : e.getMessage(), e);
     }
   }
 }
@@ -20,7 +20,10 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.http.NoHttpResponseException;
 import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apiguardian.api.API;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
 import org.glassfish.jersey.media.multipart.FormDataBodyPart;
 import org.glassfish.jersey.media.multipart.FormDataContentDisposition;
 import org.glassfish.jersey.media.multipart.FormDataMultiPart;
@@ -43,6 +46,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -73,6 +77,22 @@ public class ApiClientJersey2 implements ApiClient {
     this.enforcedAuthenticationSchemes = new ArrayList<>();
   }
 
+  /**
+   * @return the current state of the connection pool, empty if the client is not backed by a pooling connection
+   * manager.
+   */
+  @API(status = API.Status.EXPERIMENTAL)
+  public Optional<ConnectionPoolStats> getConnectionPoolStats() {
+    final Object connectionManager =
+        this.httpClient.getConfiguration().getProperty(ApacheClientProperties.CONNECTION_MANAGER);
+    if (!(connectionManager instanceof PoolingHttpClientConnectionManager)) {
+      return Optional.empty();
+    }
+    final PoolStats stats = ((PoolingHttpClientConnectionManager) connectionManager).getTotalStats();
+    return Optional.of(
+        new ConnectionPoolStats(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax()));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -155,7 +175,10 @@ public class ApiClientJersey2 implements ApiClient {
     Entity<?> entity =
         (body == null && formParams == null) ? Entity.json("") : this.serialize(body, formParams, contentType);
 
-    try (Response response = getResponse(invocationBuilder, method, entity)) {
+    Response response = null;
+    boolean streamed = false;
+    try {
+      response = getResponse(invocationBuilder, method, entity);
 
       int statusCode = response.getStatusInfo().getStatusCode();
       Map<String, List<String>> responseHeaders = buildResponseHeaders(response);
@@ -171,7 +194,11 @@ public class ApiClientJersey2 implements ApiClient {
         if (genericReturnType == null) {
           return new ApiResponse<>(statusCode, responseHeaders);
         } else {
-          return new ApiResponse<>(statusCode, responseHeaders, deserialize(response, genericReturnType));
+          final T data = deserialize(response, genericReturnType);
+          // the connection is released by the caller when closing the returned stream, flagged only once the stream
+          // has been obtained so that a failing deserialization still releases it
+          streamed = genericReturnType.getRawType() == InputStream.class;
+          return new ApiResponse<>(statusCode, responseHeaders, data);
         }
       } else {
         String message = "error";
@@ -191,6 +218,9 @@ public class ApiClientJersey2 implements ApiClient {
             respBody);
       }
     } finally {
+      if (response != null && !streamed) {
+        response.close();
+      }
       if (clearTraceId) {
         DistributedTracingContext.clear();
       }
@@ -440,17 +470,12 @@ public class ApiClientJersey2 implements ApiClient {
       // if part is a ApiClientBodyPart[]
       else if (param.getValue() instanceof ApiClientBodyPart[]) {
         for (ApiClientBodyPart attachment : (ApiClientBodyPart[]) param.getValue()) {
-          final StreamDataBodyPart streamPart =
-              new StreamDataBodyPart(param.getKey(), attachment.getContent(), attachment.getFilename());
-          multiPart = (FormDataMultiPart) multiPart.bodyPart(streamPart);
+          multiPart = buildApiClientBodyPart(multiPart, param.getKey(), attachment);
         }
       }
       // if part is a single ApiClientBodyPart
       else if (param.getValue() instanceof ApiClientBodyPart) {
-        final ApiClientBodyPart part = (ApiClientBodyPart) param.getValue();
-        final StreamDataBodyPart streamPart =
-            new StreamDataBodyPart(param.getKey(), part.getContent(), part.getFilename());
-        multiPart = (FormDataMultiPart) multiPart.bodyPart(streamPart);
+        multiPart = buildApiClientBodyPart(multiPart, param.getKey(), (ApiClientBodyPart) param.getValue());
       } else {
         multiPart = multiPart.field(param.getKey(), this.parameterToString(param.getValue()));
       }
@@ -459,10 +484,25 @@ public class ApiClientJersey2 implements ApiClient {
     return Entity.entity(multiPart, MultiPartMediaTypes.createFormData());
   }
 
+  private FormDataMultiPart buildApiClientBodyPart(FormDataMultiPart multiPart, String paramKey,
+      ApiClientBodyPart part) {
+    if (part.getFile() != null) {
+      // streamed from the disk, the file is opened again if the request is retried
+      return buildFileBodyPart(multiPart, paramKey, part.getFile().toFile(), part.getFilename());
+    }
+    final StreamDataBodyPart streamPart = new StreamDataBodyPart(paramKey, part.getContent(), part.getFilename());
+    return (FormDataMultiPart) multiPart.bodyPart(streamPart);
+  }
+
   private FormDataMultiPart buildFileBodyPart(FormDataMultiPart multiPart, String paramKey, File paramValue) {
+    return buildFileBodyPart(multiPart, paramKey, paramValue, paramValue.getName());
+  }
+
+  private FormDataMultiPart buildFileBodyPart(FormDataMultiPart multiPart, String paramKey, File paramValue,
+      String filename) {
     final FormDataContentDisposition contentDisposition = FormDataContentDisposition
         .name(paramKey)
-        .fileName(paramValue.getName())
+        .fileName(filename)
         .size(paramValue.length())
         .build();
     final FormDataBodyPart streamPart = new FormDataBodyPart(
@@ -494,6 +534,9 @@ public class ApiClientJersey2 implements ApiClient {
     } else if (returnType.getRawType() == File.class) {
       // Handle file downloading.
       return (T) downloadFileFromResponse(response);
+    } else if (returnType.getRawType() == InputStream.class) {
+      // Handle streamed response, read as it is consumed.
+      return (T) response.readEntity(InputStream.class);
     }
 
     return response.readEntity(returnType);
@@ -0,0 +1,33 @@
+package com.symphony.bdk.http.jersey2;
+
+import org.apache.http.client.protocol.RequestAcceptEncoding;
+import org.apache.http.client.protocol.ResponseContentEncoding;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apiguardian.api.API;
+import org.glassfish.jersey.apache.connector.ApacheHttpClientBuilderConfigurator;
+
+/**
+ * Configures the response compression of the Apache client used by the Jersey connector: when enabled, the
+ * {@code Accept-Encoding} header is sent and compressed responses are decompressed as they are read, otherwise
+ * responses are requested and read as is.
+ */
+@API(status = API.Status.INTERNAL)
+class CompressionConfigurator implements ApacheHttpClientBuilderConfigurator {
+
+  private final boolean compression;
+
+  CompressionConfigurator(boolean compression) {
+    this.compression = compression;
+  }
+
+  @Override
+  public HttpClientBuilder configure(HttpClientBuilder httpClientBuilder) {
+    if (!this.compression) {
+      return httpClientBuilder.disableContentCompression();
+    }
+    // both interceptors are no-ops if the default ones already handled the request or response
+    return httpClientBuilder
+        .addInterceptorLast(new RequestAcceptEncoding())
+        .addInterceptorLast(new ResponseContentEncoding());
+  }
+}
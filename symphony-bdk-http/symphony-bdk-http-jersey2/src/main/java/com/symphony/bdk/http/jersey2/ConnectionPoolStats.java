@@ -0,0 +1,56 @@
+package com.symphony.bdk.http.jersey2;
+
+import org.apiguardian.api.API;
+
+/**
+ * Snapshot of the connection pool of an {@link ApiClientJersey2}.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class ConnectionPoolStats {
+
+  private final int leased;
+  private final int pending;
+  private final int available;
+  private final int max;
+
+  public ConnectionPoolStats(int leased, int pending, int available, int max) {
+    this.leased = leased;
+    this.pending = pending;
+    this.available = available;
+    this.max = max;
+  }
+
+  /**
+   * @return the number of connections currently used to perform a request.
+   */
+  public int getLeased() {
+    return this.leased;
+  }
+
+  /**
+   * @return the number of requests waiting for a connection.
+   */
+  public int getPending() {
+    return this.pending;
+  }
+
+  /**
+   * @return the number of idle connections kept in the pool.
+   */
+  public int getAvailable() {
+    return this.available;
+  }
+
+  /**
+   * @return the maximum number of connections of the pool.
+   */
+  public int getMax() {
+    return this.max;
+  }
+
+  @Override
+  public String toString() {
+    return "ConnectionPoolStats{leased=" + this.leased + ", pending=" + this.pending + ", available=" + this.available
+        + ", max=" + this.max + "}";
+  }
+}
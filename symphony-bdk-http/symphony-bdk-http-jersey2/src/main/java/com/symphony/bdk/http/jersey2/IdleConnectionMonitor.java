@@ -0,0 +1,63 @@
+package com.symphony.bdk.http.jersey2;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Periodically closes the expired and idle connections of the Apache connection pools, so that connections closed by
+ * load balancers or proxies while sitting in a pool are not leased again. A single daemon thread monitors all the pools,
+ * a pool being only weakly referenced so that it is not monitored anymore once its client is garbage collected.
+ */
+@API(status = API.Status.INTERNAL)
+final class IdleConnectionMonitor {
+
+  private static final Logger log = LoggerFactory.getLogger(IdleConnectionMonitor.class);
+
+  private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    final Thread thread = new Thread(runnable, "bdk-idle-connection-monitor");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private IdleConnectionMonitor() {
+  }
+
+  /**
+   * @param connectionManager the connection pool to be monitored.
+   * @param maxIdleTime       time in milliseconds after which an idle connection is closed, 0 to only close expired
+   *                          connections.
+   * @param interval          interval between two checks.
+   * @return the monitoring task, that can be cancelled.
+   */
+  static ScheduledFuture<?> monitor(PoolingHttpClientConnectionManager connectionManager, long maxIdleTime,
+      Duration interval) {
+    final WeakReference<PoolingHttpClientConnectionManager> reference = new WeakReference<>(connectionManager);
+    final AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+    task.set(scheduler.scheduleWithFixedDelay(() -> {
+      final PoolingHttpClientConnectionManager manager = reference.get();
+      if (manager == null) {
+        task.get().cancel(false);
+        return;
+      }
+      try {
+        manager.closeExpiredConnections();
+        if (maxIdleTime > 0) {
+          manager.closeIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+        }
+      } catch (RuntimeException e) {
+        log.warn("Failed to close idle connections", e);
+      }
+    }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS));
+    return task.get();
+  }
+}
@@ -1,41 +1,33 @@
 package com.symphony.bdk.http.jersey2;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.symphony.bdk.http.api.util.ObjectMapperProvider;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.ws.rs.ext.ContextResolver;
 import org.apiguardian.api.API;
-import org.openapitools.jackson.nullable.JsonNullableModule;
 
 import java.text.DateFormat;
 
 
+/**
+ * Provides the {@link ObjectMapper} shared by all the BDK modules to the Jersey client, see {@link ObjectMapperProvider}.
+ */
 @API(status = API.Status.INTERNAL)
 public class JSON implements ContextResolver<ObjectMapper> {
 
-  private final ObjectMapper mapper;
+  private ObjectMapper mapper;
 
   public JSON() {
-    this.mapper = new ObjectMapper();
-    this.mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-    this.mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-    this.mapper.configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false);
-    this.mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-    this.mapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
-    this.mapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
-    this.mapper.setDateFormat(new RFC3339DateFormat());
-    this.mapper.registerModule(new JavaTimeModule());
-    this.mapper.registerModule(new JsonNullableModule());
+    this.mapper = ObjectMapperProvider.getMapper();
   }
 
   /**
    * Set the date format for JSON (de)serialization with Date properties.
+   * The shared mapper is left untouched, this client then uses its own copy.
    * @param dateFormat Date format
    */
   public void setDateFormat(DateFormat dateFormat) {
-    mapper.setDateFormat(dateFormat);
+    this.mapper = this.mapper.copy().setDateFormat(dateFormat);
   }
 
   @Override
@@ -1,11 +1,15 @@
 package com.symphony.bdk.http.jersey2;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.util.TypeReference;
 
+import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,11 +22,19 @@ import org.mockserver.socket.tls.KeyStoreFactory;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
 
 class ApiClientBuilderJersey2Test {
 
@@ -63,6 +75,108 @@ class ApiClientBuilderJersey2Test {
     assertEquals(200, response.getStatusCode());
   }
 
+  @Test
+  void connectionPoolStatsAreExposed()
+      throws ApiException, CertificateException, KeyStoreException, IOException, NoSuchAlgorithmException {
+    ByteArrayOutputStream keyStoreData = getMockServerKeyStore();
+    ApiClient client = new ApiClientBuilderJersey2()
+        .withEvictionInterval(Duration.ofSeconds(1))
+        .withBasePath("https://localhost:" + mockServer.getPort())
+        .withKeyStore(keyStoreData.toByteArray(), "changeit")
+        .withTrustStore(keyStoreData.toByteArray(), "changeit")
+        .withConnectionPoolMax(5)
+        .withConnectionPoolPerRoute(3)
+        .withConnectionMaxIdleTime(10_000)
+        .withConnectionTimeToLive(60_000)
+        .withConnectionValidateAfterInactivity(500)
+        .build();
+
+    mockServer.withSecure(true)
+        .when(HttpRequest.request().withMethod("GET").withPath("/test"))
+        .respond(HttpResponse.response().withStatusCode(200));
+
+    client.invokeAPI("/test", "GET", Collections.emptyList(), null, Collections.emptyMap(), Collections.emptyMap(),
+        null, "application/json", "", null, null);
+
+    Optional<ConnectionPoolStats> stats = ((ApiClientJersey2) client).getConnectionPoolStats();
+    assertTrue(stats.isPresent());
+    assertEquals(5, stats.get().getMax());
+    assertEquals(0, stats.get().getLeased());
+    assertEquals(0, stats.get().getPending());
+  }
+
+  @Test
+  void sslContextIsShared()
+      throws CertificateException, KeyStoreException, IOException, NoSuchAlgorithmException {
+    byte[] keyStoreData = getMockServerKeyStore().toByteArray();
+    ApiClientBuilderJersey2 builder = new ApiClientBuilderJersey2();
+    builder.withKeyStore(keyStoreData, "changeit").withTrustStore(keyStoreData, "changeit");
+    ApiClientBuilderJersey2 otherBuilder = new ApiClientBuilderJersey2();
+    otherBuilder.withKeyStore(keyStoreData.clone(), "changeit").withTrustStore(keyStoreData.clone(), "changeit");
+
+    assertSame(builder.createSSLContext(), otherBuilder.createSSLContext());
+  }
+
+  @Test
+  void compressedResponseIsDecoded() throws ApiException, IOException {
+    final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+    final HttpServer server = startGzipServer(acceptEncoding);
+    try {
+      ApiClient client = new ApiClientBuilderJersey2()
+          .withBasePath("http://localhost:" + server.getAddress().getPort())
+          .build();
+
+      ApiResponse<Map<String, String>> response = client.invokeAPI("/test", "GET", Collections.emptyList(), null,
+          Collections.emptyMap(), Collections.emptyMap(), null, "application/json", "", null,
+          new TypeReference<Map<String, String>>() {});
+
+      assertTrue(acceptEncoding.get().contains("gzip"));
+      assertEquals("compressed", response.getData().get("message"));
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  void compressionCanBeDisabled() throws ApiException, IOException {
+    final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+    final HttpServer server = startGzipServer(acceptEncoding);
+    try {
+      ApiClient client = new ApiClientBuilderJersey2()
+          .withCompression(false)
+          .withBasePath("http://localhost:" + server.getAddress().getPort())
+          .build();
+
+      client.invokeAPI("/test", "GET", Collections.emptyList(), null, Collections.emptyMap(), Collections.emptyMap(),
+          null, "application/json", "", null, null);
+
+      assertEquals("", acceptEncoding.get());
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  private static HttpServer startGzipServer(AtomicReference<String> acceptEncoding) throws IOException {
+    final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/test", exchange -> {
+      final String encoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+      acceptEncoding.set(encoding == null ? "" : encoding);
+
+      final ByteArrayOutputStream body = new ByteArrayOutputStream();
+      try (OutputStream gzip = new GZIPOutputStream(body)) {
+        gzip.write("{\"message\": \"compressed\"}".getBytes(StandardCharsets.UTF_8));
+      }
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+      exchange.sendResponseHeaders(200, body.size());
+      try (OutputStream out = exchange.getResponseBody()) {
+        body.writeTo(out);
+      }
+    });
+    server.start();
+    return server;
+  }
+
   private ByteArrayOutputStream getMockServerKeyStore()
       throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
     KeyStore mockServerKeyStore = new KeyStoreFactory(new MockServerLogger()).loadOrCreateKeyStore();
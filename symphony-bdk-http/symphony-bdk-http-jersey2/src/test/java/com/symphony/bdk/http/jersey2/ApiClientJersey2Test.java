@@ -1,9 +1,11 @@
 package com.symphony.bdk.http.jersey2;
 
 import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
 import com.symphony.bdk.http.api.util.TypeReference;
 import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
@@ -16,20 +18,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ApiClientJersey2Test {
 
   private ApiClientJersey2 apiClient;
+  private Response response;
 
   @BeforeEach
   void init(
@@ -48,6 +57,7 @@ class ApiClientJersey2Test {
     when(statusInfo.getStatusCode()).thenReturn(200);
     when(statusInfo.getFamily()).thenReturn(Response.Status.Family.SUCCESSFUL);
     when(response.getHeaders()).thenReturn(new MultivaluedHashMap<>());
+    this.response = response;
     this.apiClient = new ApiClientJersey2(client, "", Collections.emptyMap(), "");
     this.apiClient.getAuthentications().put("testAuth", headerParams -> headerParams.put("Authorization", "test"));
   }
@@ -67,6 +77,35 @@ class ApiClientJersey2Test {
     assertEquals(traceId, DistributedTracingContext.getTraceId());
   }
 
+  @Test
+  void shouldCloseResponse() throws ApiException {
+    this.doInvokeAPI();
+    verify(this.response).close();
+  }
+
+  @Test
+  void shouldKeepStreamedResponseOpen() throws ApiException {
+    final InputStream content = new ByteArrayInputStream(new byte[] {1, 2, 3});
+    when(this.response.readEntity(InputStream.class)).thenReturn(content);
+
+    final ApiResponse<InputStream> apiResponse = this.apiClient.invokeAPI("/hello", HttpMethod.POST,
+        Collections.emptyList(), null, new HashMap<>(), new HashMap<>(), new HashMap<>(), "application/octet-stream",
+        "application/json", new String[] {"testAuth"}, new TypeReference<InputStream>() {});
+
+    assertSame(content, apiResponse.getData());
+    verify(this.response, never()).close();
+  }
+
+  @Test
+  void shouldCloseStreamedResponseWhenReadingFails() {
+    when(this.response.readEntity(InputStream.class)).thenThrow(new ProcessingException("failure"));
+
+    assertThrows(ProcessingException.class, () -> this.apiClient.invokeAPI("/hello", HttpMethod.POST,
+        Collections.emptyList(), null, new HashMap<>(), new HashMap<>(), new HashMap<>(), "application/octet-stream",
+        "application/json", new String[] {"testAuth"}, new TypeReference<InputStream>() {}));
+    verify(this.response).close();
+  }
+
   private void doInvokeAPI() throws ApiException {
     this.apiClient.invokeAPI(
         "/hello",
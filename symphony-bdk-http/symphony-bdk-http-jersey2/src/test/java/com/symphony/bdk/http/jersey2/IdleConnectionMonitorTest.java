@@ -0,0 +1,43 @@
+package com.symphony.bdk.http.jersey2;
+
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+class IdleConnectionMonitorTest {
+
+  @Test
+  void shouldCloseExpiredAndIdleConnections() {
+    final PoolingHttpClientConnectionManager connectionManager = mock(PoolingHttpClientConnectionManager.class);
+
+    final ScheduledFuture<?> task = IdleConnectionMonitor.monitor(connectionManager, 1000, Duration.ofMillis(10));
+    try {
+      verify(connectionManager, timeout(1000).atLeastOnce()).closeExpiredConnections();
+      verify(connectionManager, timeout(1000).atLeastOnce()).closeIdleConnections(1000, TimeUnit.MILLISECONDS);
+    } finally {
+      task.cancel(false);
+    }
+  }
+
+  @Test
+  void shouldOnlyCloseExpiredConnectionsWithoutMaxIdleTime() {
+    final PoolingHttpClientConnectionManager connectionManager = mock(PoolingHttpClientConnectionManager.class);
+
+    final ScheduledFuture<?> task = IdleConnectionMonitor.monitor(connectionManager, 0, Duration.ofMillis(10));
+    try {
+      verify(connectionManager, timeout(1000).atLeastOnce()).closeExpiredConnections();
+      verify(connectionManager, never()).closeIdleConnections(0, TimeUnit.MILLISECONDS);
+    } finally {
+      task.cancel(false);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.symphony.bdk.http.webclient.benchmark;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.util.TypeReference;
+import com.symphony.bdk.http.webclient.ApiClientBuilderWebClient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.traffic.ChannelTrafficShapingHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the latency of a large list response (shaped like a {@code listAllStreamsAdmin} page) with and without
+ * response compression, against a local stub server whose bandwidth is limited to emulate a WAN link. The average
+ * number of bytes written on the wire per response is printed at the end of each trial.
+ * Run with {@code ./gradlew :symphony-bdk-http:symphony-bdk-http-webclient:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CompressionBenchmark {
+
+  @Param({"false", "true"})
+  public boolean compression;
+
+  @Param({"1000"})
+  public int streams;
+
+  @Param({"10485760"})
+  public long bandwidthBytesPerSecond;
+
+  private final AtomicLong wireBytes = new AtomicLong();
+  private final AtomicLong responses = new AtomicLong();
+  private DisposableServer server;
+  private ApiClient apiClient;
+
+  @Setup
+  public void setUp() {
+    final String body = this.listAllStreamsPage();
+    this.server = HttpServer.create()
+        .port(0)
+        .compress(true)
+        .doOnConnection(connection -> connection
+            .addHandlerFirst(new ChannelTrafficShapingHandler(this.bandwidthBytesPerSecond, 0))
+            .addHandlerFirst(new WireBytesCounter(this.wireBytes)))
+        .route(routes -> routes.get("/streams", (request, response) -> {
+          this.responses.incrementAndGet();
+          return response.header("Content-Type", "application/json").sendString(Mono.just(body));
+        }))
+        .bindNow();
+
+    this.apiClient = new ApiClientBuilderWebClient()
+        .withBasePath("http://localhost:" + this.server.port())
+        .withCompression(this.compression)
+        .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    System.out.printf("%nwire bytes per response: %d%n", this.wireBytes.get() / Math.max(1, this.responses.get()));
+    this.server.disposeNow();
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> listStreams() throws ApiException {
+    return this.apiClient.invokeAPI("/streams", "GET", null, null, Collections.emptyMap(), null, null,
+        "application/json", null, new String[] {}, new TypeReference<List<Map<String, Object>>>() {}).getData();
+  }
+
+  private String listAllStreamsPage() {
+    return IntStream.range(0, this.streams)
+        .mapToObj(i -> "{\"id\": \"stream-id-" + i + "\", \"isExternal\": false, \"isActive\": true, "
+            + "\"isPublic\": false, \"type\": \"ROOM\", \"attributes\": {\"roomName\": \"Room " + i + "\", "
+            + "\"roomDescription\": \"Description of the room " + i + "\", \"members\": [12345, 67890], "
+            + "\"createdByUserId\": 12345, \"createdDate\": 1700000000000, \"lastModifiedDate\": 1700000000000, "
+            + "\"originCompany\": \"Symphony\", \"originCompanyId\": 130, \"membersCount\": 2}}")
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+
+  private static class WireBytesCounter extends ChannelOutboundHandlerAdapter {
+
+    private final AtomicLong wireBytes;
+
+    WireBytesCounter(AtomicLong wireBytes) {
+      this.wireBytes = wireBytes;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+      if (msg instanceof ByteBuf) {
+        this.wireBytes.addAndGet(((ByteBuf) msg).readableBytes());
+      }
+      super.write(ctx, msg, promise);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.symphony.bdk.http.webclient.benchmark;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.util.TypeReference;
+import com.symphony.bdk.http.webclient.ApiClientBuilderWebClient;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a fan-out of concurrent calls through a small connection pool, over HTTP/1.1 and over HTTP/2 (h2c), against
+ * a local stub server answering after a fixed latency.
+ * Run with {@code ./gradlew :symphony-bdk-http:symphony-bdk-http-webclient:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class Http2Benchmark {
+
+  private static final String BODY = "{\"id\": \"" + String.join("", Collections.nCopies(64, "x")) + "\"}";
+
+  @Param({"false", "true"})
+  public boolean http2;
+
+  @Param({"64"})
+  public int concurrency;
+
+  @Param({"8"})
+  public int connectionPoolMax;
+
+  @Param({"5"})
+  public int serverLatencyMillis;
+
+  private DisposableServer server;
+  private ApiClient apiClient;
+  private ExecutorService executor;
+
+  @Setup
+  public void setUp() {
+    this.server = HttpServer.create()
+        .port(0)
+        .protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+        .route(routes -> routes.get("/test-api", (request, response) -> response
+            .header("Content-Type", "application/json")
+            .sendString(Mono.delay(Duration.ofMillis(this.serverLatencyMillis)).thenReturn(BODY))))
+        .bindNow();
+
+    this.apiClient = new ApiClientBuilderWebClient()
+        .withBasePath("http://localhost:" + this.server.port())
+        .withConnectionPoolMax(this.connectionPoolMax)
+        .withConnectionPoolPerRoute(this.connectionPoolMax)
+        .withHttp2(this.http2)
+        .build();
+    this.executor = Executors.newFixedThreadPool(this.concurrency);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.executor.shutdownNow();
+    this.server.disposeNow();
+  }
+
+  @Benchmark
+  public void fanOut() {
+    final CompletableFuture<?>[] calls = new CompletableFuture<?>[this.concurrency];
+    for (int i = 0; i < this.concurrency; i++) {
+      calls[i] = CompletableFuture.runAsync(this::call, this.executor);
+    }
+    CompletableFuture.allOf(calls).join();
+  }
+
+  private void call() {
+    try {
+      this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.emptyMap(), null, null,
+          "application/json", null, new String[] {}, new TypeReference<Map<String, String>>() {});
+    } catch (ApiException e) {
+      throw new CompletionException(e);
+    }
+  }
+}
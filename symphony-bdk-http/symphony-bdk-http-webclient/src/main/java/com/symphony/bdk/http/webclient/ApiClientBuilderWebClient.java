@@ -4,25 +4,36 @@ import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.ApiClientBuilder;
 import com.symphony.bdk.http.api.auth.Authentication;
 import com.symphony.bdk.http.api.util.ApiUtils;
+import com.symphony.bdk.http.api.util.ObjectMapperProvider;
+import com.symphony.bdk.http.api.util.SslMaterialCache;
 
 import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.transport.ProxyProvider;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.net.URI;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.KeyManagerFactory;
@@ -38,8 +49,16 @@ import javax.net.ssl.TrustManagerFactory;
 @API(status = API.Status.EXPERIMENTAL)
 public class ApiClientBuilderWebClient implements ApiClientBuilder {
 
+  public static final int DEFAULT_MAX_IN_MEMORY_SIZE = 16 * 1024 * 1024;
+  public static final Duration DEFAULT_EVICTION_INTERVAL = Duration.ofSeconds(5);
+
   private static final Logger log = LoggerFactory.getLogger(ApiClientBuilderWebClient.class);
 
+  // connection providers shared by the clients built for a same target with the same pool settings, so that building
+  // a new client (e.g. the load balanced agent client on each call) reuses the pooled connections instead of opening a
+  // new pool, never disposed, with its own background eviction and metrics
+  private static final Map<String, ConnectionProvider> CONNECTION_PROVIDERS = new ConcurrentHashMap<>();
+
   protected final Map<String, String> defaultHeaders;
   protected String basePath;
   protected byte[] keyStoreBytes;
@@ -48,6 +67,16 @@ public class ApiClientBuilderWebClient implements ApiClientBuilder {
   protected String trustStorePassword;
   protected int connectionTimeout;
   protected int readTimeout;
+  protected int connectionPoolMax;
+  protected int connectionPoolPerRoute;
+  protected int connectionMaxIdleTime;
+  protected int connectionTimeToLive;
+  protected int pendingAcquireMaxCount;
+  protected Duration evictionInterval;
+  protected boolean poolMetrics;
+  protected int maxInMemorySize;
+  protected boolean http2;
+  protected boolean compression;
   protected String proxyHost;
   protected int proxyPort;
   protected String proxyUser;
@@ -59,6 +88,16 @@ public class ApiClientBuilderWebClient implements ApiClientBuilder {
     this.defaultHeaders = new HashMap<>();
     this.connectionTimeout = DEFAULT_CONNECT_TIMEOUT;
     this.readTimeout = DEFAULT_READ_TIMEOUT;
+    this.connectionPoolMax = DEFAULT_CONNECTION_POOL_MAX;
+    this.connectionPoolPerRoute = DEFAULT_CONNECTION_POOL_MAX;
+    this.connectionMaxIdleTime = DEFAULT_CONNECTION_MAX_IDLE_TIME;
+    this.connectionTimeToLive = DEFAULT_CONNECTION_TIME_TO_LIVE;
+    this.pendingAcquireMaxCount = 0;
+    this.evictionInterval = DEFAULT_EVICTION_INTERVAL;
+    this.poolMetrics = false;
+    this.maxInMemorySize = DEFAULT_MAX_IN_MEMORY_SIZE;
+    this.http2 = false;
+    this.compression = DEFAULT_COMPRESSION;
     this.proxyHost = null;
     this.proxyPort = -1;
     this.proxyUser = null;
@@ -72,8 +111,16 @@ public class ApiClientBuilderWebClient implements ApiClientBuilder {
    */
   @Override
   public ApiClient build() {
+    // only responses are decoded with the shared mapper, request bodies are still encoded as they always were
+    final Jackson2JsonDecoder jsonDecoder = new Jackson2JsonDecoder(ObjectMapperProvider.getMapper());
+    jsonDecoder.setMaxInMemorySize(this.maxInMemorySize);
+
     final WebClient webClient = WebClient.builder()
         .clientConnector(new ReactorClientHttpConnector(this.createHttpClient()))
+        .codecs(configurer -> {
+          configurer.defaultCodecs().maxInMemorySize(this.maxInMemorySize);
+          configurer.defaultCodecs().jackson2JsonDecoder(jsonDecoder);
+        })
         .baseUrl(this.basePath)
         .build();
 
@@ -156,6 +203,116 @@ public class ApiClientBuilderWebClient implements ApiClientBuilder {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * As Reactor Netty keeps one pool per target, the number of connections of this client is limited to the lowest of
+   * this value and of {@link #withConnectionPoolPerRoute(Integer)}.
+   */
+  @Override
+  public ApiClientBuilder withConnectionPoolMax(Integer connectionPoolMax) {
+    this.connectionPoolMax = connectionPoolMax == null ? DEFAULT_CONNECTION_POOL_MAX : connectionPoolMax;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionPoolPerRoute(Integer connectionPoolPerRoute) {
+    this.connectionPoolPerRoute = connectionPoolPerRoute == null ? DEFAULT_CONNECTION_POOL_MAX : connectionPoolPerRoute;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionMaxIdleTime(Integer connectionMaxIdleTime) {
+    this.connectionMaxIdleTime =
+        connectionMaxIdleTime == null ? DEFAULT_CONNECTION_MAX_IDLE_TIME : connectionMaxIdleTime;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withConnectionTimeToLive(Integer connectionTimeToLive) {
+    this.connectionTimeToLive = connectionTimeToLive == null ? DEFAULT_CONNECTION_TIME_TO_LIVE : connectionTimeToLive;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withHttp2(Boolean http2) {
+    this.http2 = Boolean.TRUE.equals(http2);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ApiClientBuilder withCompression(Boolean compression) {
+    this.compression = compression == null ? DEFAULT_COMPRESSION : compression;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of requests waiting for a connection when the pool is exhausted, further requests failing
+   * immediately. If not set or set to 0, twice the pool size is used, -1 means no limit.
+   *
+   * @param pendingAcquireMaxCount maximum number of requests waiting for a connection, -1 for no limit
+   * @return the updated instance of {@link ApiClientBuilderWebClient}
+   */
+  public ApiClientBuilderWebClient withPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+    if (pendingAcquireMaxCount < -1) {
+      throw new IllegalArgumentException("pendingAcquireMaxCount must be positive, 0 or -1");
+    }
+    this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+    return this;
+  }
+
+  /**
+   * Sets the interval at which idle and expired connections are closed in background, instead of only when acquired.
+   * If set null or to zero, background eviction is disabled. If not set, it runs every 5 seconds.
+   *
+   * @param evictionInterval the background eviction interval
+   * @return the updated instance of {@link ApiClientBuilderWebClient}
+   */
+  public ApiClientBuilderWebClient withEvictionInterval(Duration evictionInterval) {
+    this.evictionInterval = evictionInterval == null ? Duration.ZERO : evictionInterval;
+    return this;
+  }
+
+  /**
+   * Enables the Reactor Netty connection pool metrics, registered in the Micrometer global registry and tagged with
+   * the pool name ({@code bdk-<host>}). This requires {@code io.micrometer:micrometer-core} in the classpath. The
+   * clients built for a same host with the same pool settings share their pool, hence their metrics.
+   *
+   * @param poolMetrics true to enable the connection pool metrics
+   * @return the updated instance of {@link ApiClientBuilderWebClient}
+   */
+  public ApiClientBuilderWebClient withPoolMetrics(boolean poolMetrics) {
+    this.poolMetrics = poolMetrics;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of bytes buffered when decoding a response body, larger responses failing with a
+   * {@link org.springframework.core.io.buffer.DataBufferLimitException}. If not set, the limit is 16MB.
+   *
+   * @param maxInMemorySize the maximum response size in bytes, -1 for no limit
+   * @return the updated instance of {@link ApiClientBuilderWebClient}
+   */
+  public ApiClientBuilderWebClient withMaxInMemorySize(int maxInMemorySize) {
+    this.maxInMemorySize = maxInMemorySize;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -187,12 +344,18 @@ public class ApiClientBuilderWebClient implements ApiClientBuilder {
 
   @API(status = API.Status.EXPERIMENTAL)
   protected HttpClient createHttpClient() {
-    HttpClient httpClient = HttpClient.create()
+    HttpClient httpClient = HttpClient.create(this.getConnectionProvider())
         .secure(t -> t.sslContext(this.createSSLContext()))
         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, this.connectionTimeout)
-        .doOnConnected(connection -> connection.addHandlerLast(
-            new ReadTimeoutHandler(this.readTimeout, TimeUnit.MILLISECONDS))
-        );
+        .compress(this.compression);
+
+    if (this.http2) {
+      httpClient = this.configureHttp2(httpClient);
+    } else {
+      httpClient = httpClient.doOnConnected(connection -> connection.addHandlerLast(
+          new ReadTimeoutHandler(this.readTimeout, TimeUnit.MILLISECONDS))
+      );
+    }
 
     if (this.proxyHost != null) {
       httpClient = this.configureProxy(httpClient);
@@ -201,28 +364,110 @@ public class ApiClientBuilderWebClient implements ApiClientBuilder {
     return httpClient;
   }
 
+  @API(status = API.Status.EXPERIMENTAL)
+  protected HttpClient configureHttp2(HttpClient httpClient) {
+    // a read timeout handler on a multiplexed connection would not be bound to a single request
+    httpClient = httpClient.responseTimeout(Duration.ofMillis(this.readTimeout));
+    if (this.basePath.startsWith("http://")) {
+      // h2c, mostly for tests against local servers
+      return httpClient.noSSL().protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+    return httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+  }
+
+  @API(status = API.Status.EXPERIMENTAL)
+  protected ConnectionProvider createConnectionProvider() {
+    return this.configureConnectionProvider(ConnectionProvider.builder(this.getConnectionProviderName())).build();
+  }
+
+  ConnectionProvider.Builder configureConnectionProvider(ConnectionProvider.Builder builder) {
+    builder.maxConnections(Math.min(this.connectionPoolMax, this.connectionPoolPerRoute))
+        .metrics(this.poolMetrics);
+
+    // when not called, Reactor Netty limits the pending requests to twice the pool size
+    if (this.pendingAcquireMaxCount != 0) {
+      builder.pendingAcquireMaxCount(this.pendingAcquireMaxCount);
+    }
+
+    if (this.connectionMaxIdleTime > 0) {
+      builder.maxIdleTime(Duration.ofMillis(this.connectionMaxIdleTime));
+    }
+    if (this.connectionTimeToLive > 0) {
+      builder.maxLifeTime(Duration.ofMillis(this.connectionTimeToLive));
+    }
+    if ((this.connectionMaxIdleTime > 0 || this.connectionTimeToLive > 0)
+        && !this.evictionInterval.isZero() && !this.evictionInterval.isNegative()) {
+      builder.evictInBackground(this.evictionInterval);
+    }
+    return builder;
+  }
+
+  /**
+   * @return the connection provider shared by the clients built with the same target and pool settings, created with
+   * {@link #createConnectionProvider()} the first time. Reactor Netty keeps separate pools for different SSL or proxy
+   * settings within a same provider.
+   */
+  ConnectionProvider getConnectionProvider() {
+    final String key = this.getConnectionProviderName() + ":" + this.connectionPoolMax + ":"
+        + this.connectionPoolPerRoute + ":" + this.pendingAcquireMaxCount + ":" + this.connectionMaxIdleTime + ":"
+        + this.connectionTimeToLive + ":" + this.evictionInterval + ":" + this.poolMetrics;
+    return CONNECTION_PROVIDERS.computeIfAbsent(key, k -> this.createConnectionProvider());
+  }
+
+  private String getConnectionProviderName() {
+    try {
+      final String host = URI.create(this.basePath).getHost();
+      return host == null ? "bdk" : "bdk-" + host;
+    } catch (IllegalArgumentException e) {
+      return "bdk";
+    }
+  }
+
   @API(status = API.Status.EXPERIMENTAL)
   protected SslContext createSSLContext() {
     try {
-      SslContextBuilder builder = SslContextBuilder.forClient();
-      if (this.trustStoreBytes != null) {
-        final KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
-        final TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-        trustStore.load(new ByteArrayInputStream(this.trustStoreBytes), this.trustStorePassword.toCharArray());
-        ApiUtils.addDefaultRootCaCertificates(trustStore);
-        trustManagerFactory.init(trustStore);
-        builder.trustManager(trustManagerFactory);
+      final String storeType = KeyStore.getDefaultType();
+      final KeyStore trustStore = this.trustStoreBytes != null
+          ? SslMaterialCache.getKeyStore(storeType, this.trustStoreBytes, this.trustStorePassword, true)
+          : null;
+      if (trustStore != null) {
         ApiUtils.logTrustStore(trustStore);
+      }
+      // the key store is only used along with a truststore
+      final boolean withKeyStore = trustStore != null && this.keyStoreBytes != null;
+
+      final String key = "webclient:"
+          + SslMaterialCache.fingerprint(storeType, this.trustStoreBytes, this.trustStorePassword) + ":"
+          + (withKeyStore ? SslMaterialCache.fingerprint(storeType, this.keyStoreBytes, this.keyStorePassword) : "")
+          + (this.http2 ? ":h2" : "");
 
-        if (this.keyStoreBytes != null) {
-          final KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
-          final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
-          keyStore.load(new ByteArrayInputStream(this.keyStoreBytes), this.keyStorePassword.toCharArray());
-          keyManagerFactory.init(keyStore, this.keyStorePassword.toCharArray());
+      return SslMaterialCache.getSslContext(key, () -> {
+        final SslContextBuilder builder = SslContextBuilder.forClient();
+        if (trustStore != null) {
+          final TrustManagerFactory trustManagerFactory =
+              TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+          trustManagerFactory.init(trustStore);
+          builder.trustManager(trustManagerFactory);
+        }
+        if (withKeyStore) {
+          final KeyManagerFactory keyManagerFactory =
+              KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+          keyManagerFactory.init(
+              SslMaterialCache.getKeyStore(storeType, this.keyStoreBytes, this.keyStorePassword, false),
+              this.keyStorePassword.toCharArray());
           builder.keyManager(keyManagerFactory);
         }
-      }
-      return builder.build();
+        if (this.http2) {
+          builder.ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+              .applicationProtocolConfig(new ApplicationProtocolConfig(
+                  ApplicationProtocolConfig.Protocol.ALPN,
+                  ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                  ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                  ApplicationProtocolNames.HTTP_2,
+                  ApplicationProtocolNames.HTTP_1_1));
+        }
+        return builder.build();
+      });
     } catch (GeneralSecurityException | IOException e) {
       throw new RuntimeException(e);
     }
@@ -11,8 +11,10 @@ import com.symphony.bdk.http.api.util.TypeReference;
 import io.netty.channel.ConnectTimeoutException;
 import org.apiguardian.api.API;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -24,9 +26,11 @@ import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.File;
+import java.io.InputStream;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,6 +38,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,6 +51,8 @@ import static com.symphony.bdk.http.api.util.ApiUtils.isCollectionOfFiles;
 @API(status = API.Status.EXPERIMENTAL)
 public class ApiClientWebClient implements ApiClient {
 
+  private static final int STREAMING_PREFETCH = 4;
+
   protected final WebClient webClient;
   protected final String basePath;
   protected final Map<String, String> defaultHeaderMap;
@@ -63,6 +71,7 @@ public class ApiClientWebClient implements ApiClient {
    * {@inheritDoc}
    */
   @Override
+  @SuppressWarnings("unchecked")
   public <T> ApiResponse<T> invokeAPI(
       final String path,
       final String method,
@@ -158,6 +167,9 @@ public class ApiClientWebClient implements ApiClient {
     }
 
     try {
+      if (returnType != null && returnType.getType() == InputStream.class) {
+        return (ApiResponse<T>) this.exchangeToInputStream(requestBodySpec);
+      }
       return requestBodySpec.exchangeToMono(response -> toApiResponse(returnType, response))
           .block();
     } catch (Exception e) {
@@ -179,15 +191,57 @@ public class ApiClientWebClient implements ApiClient {
     }
   }
 
+  /**
+   * Streams the response body through a bounded queue instead of aggregating it, the response headers are returned as
+   * soon as they are received. The connection is released once the body has been fully read or the stream closed.
+   */
+  private ApiResponse<InputStream> exchangeToInputStream(WebClient.RequestBodySpec requestBodySpec)
+      throws ApiException {
+    final CompletableFuture<ApiResponse<InputStream>> head = new CompletableFuture<>();
+    final DataBufferInputStream body = new DataBufferInputStream(STREAMING_PREFETCH);
+
+    requestBodySpec.exchangeToFlux(response -> {
+          final Map<String, List<String>> headers = toHeaders(response);
+          if (!response.statusCode().is2xxSuccessful()) {
+            return response.bodyToMono(String.class)
+                .defaultIfEmpty("error")
+                .flatMapMany(s -> Flux.error(new ApiException(response.statusCode().value(), s, headers, s)));
+          }
+          head.complete(new ApiResponse<>(response.statusCode().value(), headers, body));
+          return response.bodyToFlux(DataBuffer.class);
+        })
+        .doOnError(head::completeExceptionally)
+        // the head is completed above with the status and headers of any response, even without body (e.g. 204), this
+        // only prevents the caller from waiting forever if the exchange completed without providing a response
+        .doOnComplete(() -> head.completeExceptionally(new IllegalStateException("No response received")))
+        .subscribe(body.subscriber());
+
+    try {
+      return head.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      body.close();
+      throw new ApiException("Interrupted while waiting for the response", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = Exceptions.unwrap(e.getCause());
+      if (cause instanceof ApiException) {
+        throw (ApiException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new ApiException("Unable to stream the response body", cause);
+    }
+  }
+
+  private static Map<String, List<String>> toHeaders(ClientResponse response) {
+    return response.headers().asHttpHeaders().entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
   @SuppressWarnings("unchecked")
   private <T> Mono<ApiResponse<T>> toApiResponse(TypeReference<T> returnType, ClientResponse response) {
-    Map<String, List<String>> headers = response
-        .headers().asHttpHeaders().entrySet()
-        .stream()
-        .collect(Collectors.toMap(
-            Map.Entry::getKey,
-            Map.Entry::getValue
-        ));
+    Map<String, List<String>> headers = toHeaders(response);
 
     if (response.statusCode().equals(HttpStatus.NO_CONTENT)) {
       return Mono.just(
@@ -254,9 +308,14 @@ public class ApiClientWebClient implements ApiClient {
   private void serializeApiClientBodyPart(String paramKey, ApiClientBodyPart bodyPart,
       MultiValueMap<String, Object> formValueMap) {
 
+    // files are read from the disk by chunks, and opened again if the request is retried
+    final Resource resource = bodyPart.getFile() != null
+        ? new FileSystemResource(bodyPart.getFile())
+        : new InputStreamResource(bodyPart.getContent());
+
     final MultipartBodyBuilder multipartBodyBuilder = new MultipartBodyBuilder();
     multipartBodyBuilder
-        .part(paramKey, new InputStreamResource(bodyPart.getContent()))
+        .part(paramKey, resource)
         .filename(bodyPart.getFilename());
 
     multipartBodyBuilder.build().forEach(formValueMap::addAll);
@@ -0,0 +1,166 @@
+package com.symphony.bdk.http.webclient;
+
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Blocking {@link InputStream} reading the {@link DataBuffer}s of a response body as they are received.
+ * <p>
+ * At most {@code prefetch} buffers are requested ahead of the reader, each consumed buffer being released and replaced
+ * by a new request, so that the received content is bounded without blocking the thread delivering the buffers.
+ * Closing the stream cancels the subscription and releases the pending buffers. An error interrupting the transfer is
+ * rethrown once the received content has been read, instead of silently reporting a truncated body.
+ */
+class DataBufferInputStream extends InputStream {
+
+  private static final Object COMPLETE = new Object();
+  // wakes up a reader waiting for a signal when the stream is closed from another thread
+  private static final Object CLOSED = new Object();
+
+  private final int prefetch;
+  // buffers, followed by either COMPLETE or the transfer error, never holds more than requested
+  private final BlockingQueue<Object> signals;
+  private final Subscriber subscriber = new Subscriber();
+
+  private DataBuffer current;
+  private Object terminal;
+  private volatile boolean closed;
+
+  DataBufferInputStream(int prefetch) {
+    this.prefetch = prefetch;
+    this.signals = new ArrayBlockingQueue<>(prefetch + 1);
+  }
+
+  /**
+   * @return the subscriber feeding this stream, to be subscribed to the response body.
+   */
+  BaseSubscriber<DataBuffer> subscriber() {
+    return this.subscriber;
+  }
+
+  @Override
+  public int read() throws IOException {
+    final byte[] b = new byte[1];
+    final int read = this.read(b, 0, 1);
+    return read < 0 ? -1 : b[0] & 0xFF;
+  }
+
+  @Override
+  public synchronized int read(byte[] b, int off, int len) throws IOException {
+    if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (this.closed) {
+      throw new IOException("Stream closed");
+    }
+    if (len == 0) {
+      return 0;
+    }
+
+    while (this.current == null || this.current.readableByteCount() == 0) {
+      if (this.current != null) {
+        DataBufferUtils.release(this.current);
+        this.current = null;
+        this.subscriber.request(1);
+      }
+      if (this.terminal == null) {
+        this.terminal = this.next();
+        if (this.terminal == CLOSED) {
+          throw new IOException("Stream closed");
+        }
+        if (this.terminal instanceof DataBuffer) {
+          this.current = (DataBuffer) this.terminal;
+          this.terminal = null;
+          continue;
+        }
+      }
+      if (this.terminal instanceof Throwable) {
+        throw new IOException("Response body transfer failed", (Throwable) this.terminal);
+      }
+      return -1;
+    }
+
+    final int read = Math.min(len, this.current.readableByteCount());
+    this.current.read(b, off, read);
+    return read;
+  }
+
+  @Override
+  public synchronized int available() {
+    return this.current == null ? 0 : this.current.readableByteCount();
+  }
+
+  @Override
+  public void close() {
+    if (this.closed) {
+      return;
+    }
+    this.closed = true;
+    this.subscriber.cancel();
+    // a reader blocked in read() holds the monitor, it is woken up first, the queue not being full if it waits
+    this.signals.offer(CLOSED);
+    synchronized (this) {
+      if (this.current != null) {
+        DataBufferUtils.release(this.current);
+        this.current = null;
+      }
+    }
+    this.drain();
+  }
+
+  private Object next() throws IOException {
+    try {
+      return this.signals.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the response body");
+    }
+  }
+
+  private void drain() {
+    Object signal;
+    while ((signal = this.signals.poll()) != null) {
+      if (signal instanceof DataBuffer) {
+        DataBufferUtils.release((DataBuffer) signal);
+      }
+    }
+  }
+
+  private final class Subscriber extends BaseSubscriber<DataBuffer> {
+
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {
+      subscription.request(prefetch);
+    }
+
+    @Override
+    protected void hookOnNext(DataBuffer buffer) {
+      // cannot overflow unless closed, no more buffers than the available slots are requested
+      if (closed || !signals.offer(buffer)) {
+        DataBufferUtils.release(buffer);
+        return;
+      }
+      if (closed) {
+        drain();
+      }
+    }
+
+    @Override
+    protected void hookOnComplete() {
+      signals.offer(COMPLETE);
+    }
+
+    @Override
+    protected void hookOnError(Throwable throwable) {
+      signals.offer(throwable);
+    }
+  }
+}
@@ -3,7 +3,14 @@ package com.symphony.bdk.http.webclient;
 import static org.apache.commons.io.IOUtils.toByteArray;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.symphony.bdk.http.api.ApiClient;
 import com.symphony.bdk.http.api.util.ApiUtils;
@@ -16,6 +23,7 @@ import org.slf4j.LoggerFactory;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.io.IOException;
 import java.util.List;
@@ -75,4 +83,69 @@ public class ApiClientBuilderWebClientTest {
 
     assertThrows(RuntimeException.class, this.builder::build);
   }
+
+  @Test
+  void createConnectionProviderTest() {
+    builder.withBasePath("https://devx1.symphony.com:443/agent");
+    builder.withConnectionPoolMax(30);
+    builder.withConnectionPoolPerRoute(10);
+    builder.withConnectionMaxIdleTime(20_000);
+    builder.withConnectionTimeToLive(300_000);
+
+    final ConnectionProvider connectionProvider = builder.createConnectionProvider();
+    try {
+      assertEquals("bdk-devx1.symphony.com", connectionProvider.name());
+      assertEquals(10, connectionProvider.maxConnections());
+    } finally {
+      connectionProvider.dispose();
+    }
+  }
+
+  @Test
+  void pendingAcquireMaxCountTest() {
+    ConnectionProvider.Builder spec = mock(ConnectionProvider.Builder.class, RETURNS_SELF);
+    builder.configureConnectionProvider(spec);
+    verify(spec, never()).pendingAcquireMaxCount(anyInt());
+
+    spec = mock(ConnectionProvider.Builder.class, RETURNS_SELF);
+    builder.withPendingAcquireMaxCount(50).configureConnectionProvider(spec);
+    verify(spec).pendingAcquireMaxCount(50);
+
+    spec = mock(ConnectionProvider.Builder.class, RETURNS_SELF);
+    builder.withPendingAcquireMaxCount(-1).configureConnectionProvider(spec);
+    verify(spec).pendingAcquireMaxCount(-1);
+
+    assertThrows(IllegalArgumentException.class, () -> builder.withPendingAcquireMaxCount(-2));
+  }
+
+  @Test
+  void getConnectionProviderSharedBySameTargetTest() {
+    builder.withBasePath("https://devx2.symphony.com:443/agent");
+    final ConnectionProvider connectionProvider = builder.getConnectionProvider();
+
+    final ApiClientBuilderWebClient other = new ApiClientBuilderWebClient();
+    other.withBasePath("https://devx2.symphony.com:443/pod");
+    assertSame(connectionProvider, other.getConnectionProvider());
+
+    other.withConnectionPoolMax(5);
+    assertNotSame(connectionProvider, other.getConnectionProvider());
+    other.withConnectionPoolMax(null);
+    other.withBasePath("https://devx3.symphony.com:443/agent");
+    assertNotSame(connectionProvider, other.getConnectionProvider());
+  }
+
+  @Test
+  void createConnectionProviderWithDefaultsTest() {
+    final ConnectionProvider connectionProvider = builder
+        .withPendingAcquireMaxCount(100)
+        .withEvictionInterval(null)
+        .withMaxInMemorySize(-1)
+        .createConnectionProvider();
+    try {
+      assertEquals("bdk", connectionProvider.name());
+      assertEquals(ApiClientBuilderWebClient.DEFAULT_CONNECTION_POOL_MAX, connectionProvider.maxConnections());
+    } finally {
+      connectionProvider.dispose();
+    }
+  }
 }
@@ -0,0 +1,72 @@
+package com.symphony.bdk.http.webclient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.util.TypeReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ApiClientWebClientCompressionTest {
+
+  private static final String MESSAGE = String.join("", Collections.nCopies(10_000, "compressed"));
+
+  private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+  private DisposableServer server;
+
+  @BeforeEach
+  void setUp() {
+    this.server = HttpServer.create()
+        .port(0)
+        .compress(true)
+        .route(routes -> routes.get("/test-api", (request, response) -> {
+          final String encoding = request.requestHeaders().get("Accept-Encoding");
+          this.acceptEncoding.set(encoding == null ? "" : encoding);
+          return response
+              .header("Content-Type", "application/json")
+              .sendString(Mono.just("{\"message\": \"" + MESSAGE + "\"}"));
+        }))
+        .bindNow();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.server.disposeNow();
+  }
+
+  @Test
+  void testInvokeApiWithCompression() throws ApiException {
+    assertEquals(MESSAGE, this.invokeApi(true));
+    assertTrue(this.acceptEncoding.get().contains("gzip"));
+  }
+
+  @Test
+  void testInvokeApiWithoutCompression() throws ApiException {
+    assertEquals(MESSAGE, this.invokeApi(false));
+    assertEquals("", this.acceptEncoding.get());
+  }
+
+  private String invokeApi(boolean compression) throws ApiException {
+    final ApiClient apiClient = new ApiClientBuilderWebClient()
+        .withBasePath("http://localhost:" + this.server.port())
+        .withCompression(compression)
+        .build();
+
+    final ApiResponse<Map<String, String>> response =
+        apiClient.invokeAPI("/test-api", "GET", null, null, Collections.emptyMap(), null, null, "application/json",
+            null, new String[] {}, new TypeReference<Map<String, String>>() {});
+    return response.getData().get("message");
+  }
+}
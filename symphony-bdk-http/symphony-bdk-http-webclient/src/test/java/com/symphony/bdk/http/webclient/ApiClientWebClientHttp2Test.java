@@ -0,0 +1,62 @@
+package com.symphony.bdk.http.webclient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.symphony.bdk.http.api.ApiClient;
+import com.symphony.bdk.http.api.ApiException;
+import com.symphony.bdk.http.api.ApiResponse;
+import com.symphony.bdk.http.api.util.TypeReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.Collections;
+import java.util.Map;
+
+class ApiClientWebClientHttp2Test {
+
+  private DisposableServer server;
+
+  @BeforeEach
+  void setUp() {
+    this.server = HttpServer.create()
+        .port(0)
+        .protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+        .route(routes -> routes.get("/test-api", (request, response) -> response
+            .header("Content-Type", "application/json")
+            .sendString(Mono.just("{\"protocol\": \"" + request.protocol() + "\"}"))))
+        .bindNow();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.server.disposeNow();
+  }
+
+  @Test
+  void testInvokeApiWithHttp2() throws ApiException {
+    assertEquals("HTTP/2.0", this.invokeApi(true));
+  }
+
+  @Test
+  void testInvokeApiWithHttp11() throws ApiException {
+    assertEquals("HTTP/1.1", this.invokeApi(false));
+  }
+
+  private String invokeApi(boolean http2) throws ApiException {
+    final ApiClient apiClient = new ApiClientBuilderWebClient()
+        .withBasePath("http://localhost:" + this.server.port())
+        .withHttp2(http2)
+        .build();
+
+    final ApiResponse<Map<String, String>> response =
+        apiClient.invokeAPI("/test-api", "GET", null, null, Collections.emptyMap(), null, null, "application/json",
+            null, new String[] {}, new TypeReference<Map<String, String>>() {});
+    return response.getData().get("protocol");
+  }
+}
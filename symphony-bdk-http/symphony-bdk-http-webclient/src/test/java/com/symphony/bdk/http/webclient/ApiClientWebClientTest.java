@@ -26,6 +26,7 @@ import org.springframework.http.MediaType;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -95,6 +96,23 @@ class ApiClientWebClientTest {
     assertEquals("success", response.getData().getMessage());
   }
 
+  @Test
+  void testInvokeApiLargeResponseTest(final BdkMockServer mockServer) throws ApiException {
+    // larger than the 256KB buffered by default by the WebClient codecs
+    final String message = String.join("", Collections.nCopies(100_000, "large-content"));
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"" + message + "\"}"));
+
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.emptyMap(),
+            null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {});
+
+    assertEquals(message, response.getData().getMessage());
+  }
+
   @Test
   void testInvokeApiExceptionTest(final BdkMockServer mockServer) {
     mockServer.onRequestModifierWithResponse(400,
@@ -109,6 +127,59 @@ class ApiClientWebClientTest {
         null, null, null, "application/json", new String[] {}, new TypeReference<Response>() {}));
   }
 
+  @Test
+  void testInvokeApiStreamedTest(final BdkMockServer mockServer) throws ApiException, IOException {
+    final String content = String.join("", Collections.nCopies(100_000, "streamed-content"));
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse.withBody(content));
+
+    final ApiResponse<InputStream> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.emptyMap(),
+            null, null, null, "application/json", new String[] {}, new TypeReference<InputStream>() {});
+
+    assertEquals(200, response.getStatusCode());
+    try (InputStream body = response.getData()) {
+      assertEquals(content, IOUtils.toString(body, StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void testInvokeApiStreamedNoContentTest(final BdkMockServer mockServer) throws ApiException, IOException {
+    mockServer.onRequestModifierWithResponse(204,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse.withHeader("X-Trace-Id", "trace-id"));
+
+    final ApiResponse<InputStream> response =
+        this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.emptyMap(),
+            null, null, null, "application/json", new String[] {}, new TypeReference<InputStream>() {});
+
+    assertEquals(204, response.getStatusCode());
+    assertEquals(Collections.singletonList("trace-id"), response.getHeaders().get("X-Trace-Id"));
+    try (InputStream body = response.getData()) {
+      assertEquals(-1, body.read());
+    }
+  }
+
+  @Test
+  void testInvokeApiStreamedExceptionTest(final BdkMockServer mockServer) {
+    mockServer.onRequestModifierWithResponse(404,
+        httpRequest -> httpRequest
+            .withMethod("GET")
+            .withPath("/test-api"),
+        httpResponse -> httpResponse.withBody("not-found"));
+
+    final ApiException exception = assertThrows(ApiException.class,
+        () -> this.apiClient.invokeAPI("/test-api", "GET", null, null, Collections.emptyMap(),
+            null, null, null, "application/json", new String[] {}, new TypeReference<InputStream>() {}));
+    assertEquals(404, exception.getCode());
+    assertEquals("not-found", exception.getResponseBody());
+  }
+
   @Test
   void testInvokeApiParameterizedTypeTest(final BdkMockServer mockServer) throws ApiException {
     mockServer.onRequestModifierWithResponse(200,
@@ -224,6 +295,24 @@ class ApiClientWebClientTest {
     assertEquals("success", response.getData().getMessage());
   }
 
+  @Test
+  void testInvokeApiWithNullBodyPropertyTest(final BdkMockServer mockServer) throws ApiException {
+    // request bodies are not encoded with the shared mapper, null properties are still sent
+    mockServer.onRequestModifierWithResponse(200,
+        httpRequest -> httpRequest
+            .withMethod("POST")
+            .withPath("/test-api")
+            .withBody(new JsonBody("{\"id\":\"test-id\", \"content\": null}", StandardCharsets.UTF_8,
+                MatchType.STRICT)),
+        httpResponse -> httpResponse.withBody("{\"code\": 200, \"message\": \"success\"}"));
+
+    ApiResponse<Response> response =
+        this.apiClient.invokeAPI("/test-api", "POST", null, new RequestBody("test-id", null), null, null, null, null,
+            "application/json", new String[] {}, new TypeReference<Response>() {});
+
+    assertEquals(200, response.getData().getCode());
+  }
+
   @Test
   void testInvokeApiWithFormParamTest(final BdkMockServer mockServer) throws ApiException {
     mockServer.onRequestModifierWithResponse(200,
@@ -0,0 +1,123 @@
+package com.symphony.bdk.http.webclient;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataBufferInputStreamTest {
+
+  private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+  @Test
+  void shouldReadAllBuffers() throws IOException {
+    final List<DataBuffer> buffers = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      buffers.add(this.buffer("chunk-" + i + ";"));
+    }
+    final DataBufferInputStream body = new DataBufferInputStream(2);
+    Flux.fromIterable(buffers).subscribe(body.subscriber());
+
+    try (InputStream stream = body) {
+      final StringBuilder expected = new StringBuilder();
+      for (int i = 0; i < 10; i++) {
+        expected.append("chunk-").append(i).append(';');
+      }
+      assertEquals(expected.toString(), IOUtils.toString(stream, StandardCharsets.UTF_8));
+      assertEquals(-1, stream.read());
+    }
+  }
+
+  @Test
+  void shouldRequestBuffersAsTheyAreRead() throws IOException {
+    final AtomicLong requested = new AtomicLong();
+    final Sinks.Many<DataBuffer> sink = Sinks.many().unicast().onBackpressureBuffer();
+    final DataBufferInputStream body = new DataBufferInputStream(2);
+    sink.asFlux().doOnRequest(requested::addAndGet).subscribe(body.subscriber());
+
+    assertEquals(2, requested.get());
+    sink.tryEmitNext(this.buffer("a"));
+    sink.tryEmitNext(this.buffer("b"));
+    assertEquals(2, requested.get());
+
+    assertEquals('a', body.read());
+    // the first buffer is only released once the next one is needed
+    assertEquals('b', body.read());
+    assertEquals(3, requested.get());
+
+    sink.tryEmitComplete();
+    assertEquals(-1, body.read());
+  }
+
+  @Test
+  void shouldRethrowTransferError() throws IOException {
+    final DataBufferInputStream body = new DataBufferInputStream(2);
+    Flux.just(this.buffer("partial"))
+        .concatWith(Flux.error(new IllegalStateException("connection reset")))
+        .subscribe(body.subscriber());
+
+    final byte[] content = new byte[7];
+    assertEquals(7, body.read(content, 0, 7));
+    final IOException exception = assertThrows(IOException.class, body::read);
+    assertTrue(exception.getCause() instanceof IllegalStateException);
+  }
+
+  @Test
+  void shouldCancelWhenClosed() throws IOException {
+    final Sinks.Many<DataBuffer> sink = Sinks.many().unicast().onBackpressureBuffer();
+    final List<String> signals = new ArrayList<>();
+    final DataBufferInputStream body = new DataBufferInputStream(2);
+    sink.asFlux().doOnCancel(() -> signals.add("cancel")).subscribe(body.subscriber());
+    sink.tryEmitNext(this.buffer("a"));
+
+    body.close();
+
+    assertEquals(List.of("cancel"), signals);
+    assertThrows(IOException.class, body::read);
+  }
+
+  @Test
+  void shouldUnblockReaderWhenClosed() throws InterruptedException {
+    final Sinks.Many<DataBuffer> sink = Sinks.many().unicast().onBackpressureBuffer();
+    final DataBufferInputStream body = new DataBufferInputStream(2);
+    sink.asFlux().subscribe(body.subscriber());
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final Thread reader = new Thread(() -> {
+      try {
+        body.read();
+      } catch (IOException e) {
+        failure.set(e);
+      }
+    });
+    reader.start();
+    Thread.sleep(100);
+
+    final Thread closer = new Thread(body::close);
+    closer.start();
+    closer.join(5_000);
+    reader.join(5_000);
+
+    assertFalse(closer.isAlive());
+    assertFalse(reader.isAlive());
+    assertTrue(failure.get() instanceof IOException);
+  }
+
+  private DataBuffer buffer(String content) {
+    return this.bufferFactory.wrap(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
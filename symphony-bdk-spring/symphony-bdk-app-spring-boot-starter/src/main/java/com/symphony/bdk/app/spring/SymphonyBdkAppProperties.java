@@ -2,6 +2,7 @@ package com.symphony.bdk.app.spring;
 
 import com.symphony.bdk.app.spring.properties.AppAuthProperties;
 import com.symphony.bdk.app.spring.properties.CorsProperties;
+import com.symphony.bdk.app.spring.properties.HealthProperties;
 
 import com.symphony.bdk.app.spring.properties.TracingProperties;
 
@@ -34,4 +35,9 @@ public class SymphonyBdkAppProperties {
    * {@link com.symphony.bdk.app.spring.filter.TracingFilter} properties.
    */
   private TracingProperties tracing = new TracingProperties();
+
+  /**
+   * {@link com.symphony.bdk.app.spring.service.SymphonyBdkHealthIndicator} properties.
+   */
+  private HealthProperties health = new HealthProperties();
 }
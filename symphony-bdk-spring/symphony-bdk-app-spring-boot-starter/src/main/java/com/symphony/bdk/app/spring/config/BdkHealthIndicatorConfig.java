@@ -1,5 +1,6 @@
 package com.symphony.bdk.app.spring.config;
 
+import com.symphony.bdk.app.spring.SymphonyBdkAppProperties;
 import com.symphony.bdk.app.spring.service.SymphonyBdkHealthIndicator;
 import com.symphony.bdk.core.service.health.HealthService;
 
@@ -11,10 +12,11 @@ import org.springframework.context.annotation.Bean;
 @ConditionalOnProperty("bdk.bot.username")
 public class BdkHealthIndicatorConfig {
 
-  @Bean(name = "bot")
+  @Bean(name = "bot", initMethod = "start", destroyMethod = "stop")
   @ConditionalOnMissingBean
-  public SymphonyBdkHealthIndicator symphonyBdkHealthIndicator(HealthService healthService) {
-    return new SymphonyBdkHealthIndicator(healthService);
+  public SymphonyBdkHealthIndicator symphonyBdkHealthIndicator(HealthService healthService,
+      SymphonyBdkAppProperties properties) {
+    return new SymphonyBdkHealthIndicator(healthService, properties.getHealth());
   }
 
 }
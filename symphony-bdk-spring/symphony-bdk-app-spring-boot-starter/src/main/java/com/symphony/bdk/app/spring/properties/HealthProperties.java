@@ -0,0 +1,32 @@
+package com.symphony.bdk.app.spring.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.convert.DurationUnit;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Refreshing of the health status exposed by the {@link com.symphony.bdk.app.spring.service.SymphonyBdkHealthIndicator}.
+ */
+@Getter
+@Setter
+public class HealthProperties {
+
+  private static final long DEFAULT_REFRESH_INTERVAL = 10;
+  private static final long DEFAULT_MAX_STALENESS = 60;
+
+  /**
+   * The interval between two checks of the health status in the background, the health requests being served with the
+   * last checked status. Zero to check the health status at each request instead.
+   */
+  @DurationUnit(ChronoUnit.SECONDS)
+  private Duration refreshInterval = Duration.ofSeconds(DEFAULT_REFRESH_INTERVAL);
+
+  /**
+   * The maximum age of the last checked health status, after which the health is reported down. Zero for no limit.
+   */
+  @DurationUnit(ChronoUnit.SECONDS)
+  private Duration maxStaleness = Duration.ofSeconds(DEFAULT_MAX_STALENESS);
+}
@@ -1,5 +1,6 @@
 package com.symphony.bdk.app.spring.service;
 
+import com.symphony.bdk.app.spring.properties.HealthProperties;
 import com.symphony.bdk.core.service.health.HealthService;
 import com.symphony.bdk.gen.api.model.V3Health;
 import com.symphony.bdk.gen.api.model.V3HealthComponent;
@@ -14,7 +15,11 @@ import org.springframework.boot.actuate.health.AbstractHealthIndicator;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Symphony BDK custom spring boot actuator health indicator.
@@ -22,6 +27,11 @@ import java.util.Map;
  * This indicator will provide BDK connected component health status as well as
  * {@link com.symphony.bdk.core.service.datafeed.DatafeedLoop} and {@link com.symphony.bdk.core.service.datafeed.DatahoseLoop}
  * connectivity status.
+ * <p>
+ * Unless its {@link HealthProperties#getRefreshInterval()} is zero, the health status is checked in the background once
+ * started, the health requests being served with the last checked status so that they neither wait for the Agent nor
+ * add load to it. The health is reported down if the last checked status is older than
+ * {@link HealthProperties#getMaxStaleness()}.
  */
 @Slf4j
 @API(status = API.Status.INTERNAL)
@@ -37,14 +47,101 @@ public class SymphonyBdkHealthIndicator extends AbstractHealthIndicator {
   private static final String AGT = "agentservice";
   private static final String CE = "ceservice";
   private static final String DFL = "datafeedloop";
+  private static final String STALE = "stale";
   private static final ObjectMapper MAPPER = new ObjectMapper();
 
+  private final Duration refreshInterval;
+  private final Duration maxStaleness;
+  private ScheduledExecutorService scheduler;
+  private volatile CheckedHealth lastHealth;
+
+  /**
+   * Creates an indicator checking the health status at each request.
+   *
+   * @param healthService the service checking the health status.
+   */
   public SymphonyBdkHealthIndicator(HealthService healthService) {
+    this(healthService, Duration.ZERO, Duration.ZERO);
+  }
+
+  /**
+   * @param healthService    the service checking the health status.
+   * @param healthProperties the refreshing of the health status.
+   */
+  public SymphonyBdkHealthIndicator(HealthService healthService, HealthProperties healthProperties) {
+    this(healthService, healthProperties.getRefreshInterval(), healthProperties.getMaxStaleness());
+  }
+
+  private SymphonyBdkHealthIndicator(HealthService healthService, Duration refreshInterval, Duration maxStaleness) {
     this.healthService = healthService;
+    this.refreshInterval = refreshInterval;
+    this.maxStaleness = maxStaleness;
+  }
+
+  /**
+   * Starts checking the health status in the background, if a refresh interval is set.
+   */
+  public synchronized void start() {
+    if (!isPositive(this.refreshInterval) || this.scheduler != null) {
+      return;
+    }
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "Health-Refresh-Thread");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.scheduler.scheduleWithFixedDelay(this::refresh, 0, this.refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops checking the health status in the background.
+   */
+  public synchronized void stop() {
+    if (this.scheduler != null) {
+      this.scheduler.shutdownNow();
+      this.scheduler = null;
+    }
   }
 
   @Override
   protected void doHealthCheck(Health.Builder builder) throws Exception {
+    if (!isPositive(this.refreshInterval)) {
+      this.checkHealth(builder);
+      return;
+    }
+
+    CheckedHealth health = this.lastHealth;
+    if (health == null) {
+      // not checked in the background yet
+      health = this.refreshIfNeverChecked();
+    }
+    final long ageMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - health.checkedAtNanos);
+    if (isPositive(this.maxStaleness) && ageMillis > this.maxStaleness.toMillis()) {
+      builder.status(DOWN).withDetail(STALE, "Health status not checked for " + ageMillis + "ms");
+      return;
+    }
+    builder.status(health.health.getStatus()).withDetails(health.health.getDetails());
+  }
+
+  private synchronized CheckedHealth refreshIfNeverChecked() {
+    if (this.lastHealth == null) {
+      this.refresh();
+    }
+    return this.lastHealth;
+  }
+
+  private void refresh() {
+    final Health.Builder builder = new Health.Builder();
+    try {
+      this.checkHealth(builder);
+    } catch (Exception e) {
+      log.warn("Health check failed", e);
+      builder.down(e);
+    }
+    this.lastHealth = new CheckedHealth(builder.build(), System.nanoTime());
+  }
+
+  private void checkHealth(Health.Builder builder) throws Exception {
     try {
       V3Health health = healthService.healthCheckExtended();
       buildHealthDetail(builder, health);
@@ -94,4 +191,19 @@ public class SymphonyBdkHealthIndicator extends AbstractHealthIndicator {
         .withDetail(CE, DOWN)
         .withDetail(DFL, DOWN);
   }
+
+  private static boolean isPositive(Duration duration) {
+    return duration != null && duration.compareTo(Duration.ZERO) > 0;
+  }
+
+  private static class CheckedHealth {
+
+    private final Health health;
+    private final long checkedAtNanos;
+
+    CheckedHealth(Health health, long checkedAtNanos) {
+      this.health = health;
+      this.checkedAtNanos = checkedAtNanos;
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package com.symphony.bdk.app.spring.config;
 
+import com.symphony.bdk.app.spring.SymphonyBdkAppProperties;
 import com.symphony.bdk.core.service.health.HealthService;
 
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,6 @@ class BdkHealthIndicatorConfigTest {
     final BdkHealthIndicatorConfig config = new BdkHealthIndicatorConfig();
     final HealthService healthService = mock(HealthService.class);
 
-    assertNotNull(config.symphonyBdkHealthIndicator(healthService));
+    assertNotNull(config.symphonyBdkHealthIndicator(healthService, new SymphonyBdkAppProperties()));
   }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.symphony.bdk.app.spring.service;
 
+import com.symphony.bdk.app.spring.properties.HealthProperties;
 import com.symphony.bdk.core.service.health.HealthService;
 import com.symphony.bdk.gen.api.model.V3Health;
 import com.symphony.bdk.gen.api.model.V3HealthComponent;
@@ -7,29 +8,38 @@ import com.symphony.bdk.gen.api.model.V3HealthStatus;
 import com.symphony.bdk.http.api.ApiException;
 import com.symphony.bdk.http.api.ApiRuntimeException;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class SymphonyBdkHealthIndicatorTest {
   @Mock HealthService healthService;
-  @InjectMocks SymphonyBdkHealthIndicator healthIndicator;
+  SymphonyBdkHealthIndicator healthIndicator;
+
+  @BeforeEach
+  void setUp() {
+    healthIndicator = new SymphonyBdkHealthIndicator(healthService);
+  }
 
   @ParameterizedTest
   @MethodSource("datafeedHealthTestArguments")
@@ -106,4 +116,87 @@ class SymphonyBdkHealthIndicatorTest {
     assertThat(build.getStatus().getCode()).isEqualTo("DOWN");
   }
 
+  @Test
+  void doHealthCheck_refreshedInBackground_servedFromCache() throws Exception {
+    when(healthService.healthCheckExtended()).thenReturn(upHealth());
+    when(healthService.datafeedHealthCheck()).thenReturn(V3HealthStatus.UP);
+    SymphonyBdkHealthIndicator cachedIndicator =
+        new SymphonyBdkHealthIndicator(healthService, healthProperties(Duration.ofHours(1), Duration.ZERO));
+    try {
+      cachedIndicator.start();
+      verify(healthService, timeout(1000)).healthCheckExtended();
+
+      for (int i = 0; i < 3; i++) {
+        Health.Builder builder = new Health.Builder();
+        cachedIndicator.doHealthCheck(builder);
+        Health build = builder.build();
+        assertThat(build.getStatus().getCode()).isEqualTo("UP");
+        assertThat(build.getDetails()).containsKeys("pod", "datafeed", "key_manager", "agentservice", "datafeedloop");
+      }
+      verify(healthService, times(1)).healthCheckExtended();
+    } finally {
+      cachedIndicator.stop();
+    }
+  }
+
+  @Test
+  void doHealthCheck_notRefreshedYet_checkedOnce() throws Exception {
+    when(healthService.healthCheckExtended()).thenReturn(upHealth());
+    when(healthService.datafeedHealthCheck()).thenReturn(V3HealthStatus.UP);
+    SymphonyBdkHealthIndicator cachedIndicator =
+        new SymphonyBdkHealthIndicator(healthService, healthProperties(Duration.ofHours(1), Duration.ZERO));
+
+    for (int i = 0; i < 2; i++) {
+      Health.Builder builder = new Health.Builder();
+      cachedIndicator.doHealthCheck(builder);
+      assertThat(builder.build().getStatus().getCode()).isEqualTo("UP");
+    }
+    verify(healthService, times(1)).healthCheckExtended();
+  }
+
+  @Test
+  void doHealthCheck_stale_down() throws Exception {
+    when(healthService.healthCheckExtended()).thenReturn(upHealth());
+    when(healthService.datafeedHealthCheck()).thenReturn(V3HealthStatus.UP);
+    SymphonyBdkHealthIndicator cachedIndicator =
+        new SymphonyBdkHealthIndicator(healthService, healthProperties(Duration.ofHours(1), Duration.ofMillis(1)));
+
+    cachedIndicator.doHealthCheck(new Health.Builder());
+    Thread.sleep(10);
+    Health.Builder builder = new Health.Builder();
+    cachedIndicator.doHealthCheck(builder);
+    Health build = builder.build();
+    assertThat(build.getStatus().getCode()).isEqualTo("DOWN");
+    assertThat(build.getDetails()).containsKey("stale");
+  }
+
+  @Test
+  void doHealthCheck_refreshFailure_down() throws Exception {
+    doThrow(new IllegalStateException("agent unreachable")).when(healthService).healthCheckExtended();
+    SymphonyBdkHealthIndicator cachedIndicator =
+        new SymphonyBdkHealthIndicator(healthService, healthProperties(Duration.ofHours(1), Duration.ZERO));
+
+    Health.Builder builder = new Health.Builder();
+    cachedIndicator.doHealthCheck(builder);
+    Health build = builder.build();
+    assertThat(build.getStatus().getCode()).isEqualTo("DOWN");
+    assertThat(build.getDetails()).containsKey("error");
+  }
+
+  private static V3Health upHealth() {
+    V3Health health = new V3Health();
+    health.putServicesItem("pod", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putServicesItem("datafeed", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putServicesItem("key_manager", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putUsersItem("agentservice", new V3HealthComponent().status(V3HealthStatus.UP));
+    health.putUsersItem("ceservice", new V3HealthComponent().status(V3HealthStatus.UP));
+    return health;
+  }
+
+  private static HealthProperties healthProperties(Duration refreshInterval, Duration maxStaleness) {
+    HealthProperties properties = new HealthProperties();
+    properties.setRefreshInterval(refreshInterval);
+    properties.setMaxStaleness(maxStaleness);
+    return properties;
+  }
 }
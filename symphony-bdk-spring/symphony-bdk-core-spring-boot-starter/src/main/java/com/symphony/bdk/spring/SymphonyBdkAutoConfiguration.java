@@ -7,6 +7,7 @@ import com.symphony.bdk.spring.config.BdkCoreConfig;
 import com.symphony.bdk.spring.config.BdkDatafeedConfig;
 import com.symphony.bdk.spring.config.BdkDatahoseConfig;
 import com.symphony.bdk.spring.config.BdkExtensionConfig;
+import com.symphony.bdk.spring.config.BdkMetricsConfig;
 import com.symphony.bdk.spring.config.BdkOboServiceConfig;
 import com.symphony.bdk.spring.config.BdkRetryConfig;
 import com.symphony.bdk.spring.config.BdkServiceConfig;
@@ -21,6 +22,7 @@ import org.springframework.context.annotation.Import;
     BdkCoreConfig.class,
     BdkRetryConfig.class,
     BdkApiClientsConfig.class,
+    BdkMetricsConfig.class,
     BdkCommonFeedConfig.class,
     BdkDatafeedConfig.class,
     BdkDatahoseConfig.class,
@@ -1,24 +1,30 @@
 package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.activity.AbstractActivity;
+import com.symphony.bdk.core.activity.ActivityExecutor;
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.session.SessionService;
 import com.symphony.bdk.gen.api.model.UserV2;
+import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
 import com.symphony.bdk.spring.annotation.Slash;
 import com.symphony.bdk.spring.annotation.SlashAnnotationProcessor;
 import com.symphony.bdk.spring.service.BotInfoService;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Configuration for Activity API:
  * <ul>
  *   <li>configuration and injection of the {@link ActivityRegistry}</li>
+ *   <li>configuration and injection of the {@link ActivityExecutor} shared by the asynchronous activities</li>
  *   <li>registering of any bean of type {@link AbstractActivity}</li>
  *   <li>process methods annotated by {@link Slash} annotation and register them</li>
  * </ul>
@@ -27,15 +33,25 @@ import java.util.List;
 @ConditionalOnBean(BdkDatafeedConfig.class)
 public class BdkActivityConfig {
 
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  public ActivityExecutor activityExecutor(final SymphonyBdkCoreProperties properties) {
+    return new ActivityExecutor(properties.getActivities());
+  }
+
   @Bean
+  @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
   public ActivityRegistry activityRegistry(
       final BotInfoService botInfoService,
       final DatafeedLoop datafeedLoop,
-      final List<AbstractActivity<?, ?>> activities
+      final List<AbstractActivity<?, ?>> activities,
+      final Optional<DatafeedMetrics> datafeedMetrics,
+      final ActivityExecutor activityExecutor
   ) {
     log.debug("Retrieving bot session info");
     final UserV2 botSessionInfo = botInfoService.getBotInfo();
-    final ActivityRegistry activityRegistry = new ActivityRegistry(botSessionInfo, datafeedLoop);
+    final ActivityRegistry activityRegistry = new ActivityRegistry(botSessionInfo, datafeedLoop,
+        datafeedMetrics.orElse(DatafeedMetrics.NOOP), activityExecutor);
     log.debug("{} activities found from context", activities.size());
     activities.forEach(activityRegistry::register);
     return activityRegistry;
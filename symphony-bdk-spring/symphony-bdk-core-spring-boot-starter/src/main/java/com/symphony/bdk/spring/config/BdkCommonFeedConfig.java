@@ -1,15 +1,18 @@
 package com.symphony.bdk.spring.config;
 
+import com.symphony.bdk.core.config.model.BdkEventDispatchConfig;
 import com.symphony.bdk.http.api.tracing.MDCUtils;
+import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
 import com.symphony.bdk.spring.events.RealTimeEvent;
+import com.symphony.bdk.spring.events.RealTimeEventMulticaster;
 import com.symphony.bdk.spring.events.RealTimeEventsDispatcher;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.event.ApplicationEventMulticaster;
-import org.springframework.context.event.SimpleApplicationEventMulticaster;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @ConditionalOnBean(name = "botSession")
@@ -22,14 +25,24 @@ public class BdkCommonFeedConfig {
   }
 
   /**
-   * Allows publishing application {@link RealTimeEvent} asynchronously from {@link RealTimeEventsDispatcher}.
+   * Allows publishing application {@link RealTimeEvent} asynchronously from {@link RealTimeEventsDispatcher}, on a
+   * bounded pool of threads keeping the events of a same stream in order.
+   * <p>
+   * As the datafeed and the datahose cannot be both enabled, the {@code event} settings of the one publishing the
+   * events apply: {@code bdk.datahose.event} when the datahose is enabled, {@code bdk.datafeed.event} otherwise. Other
+   * application events are multicast on at most {@code poolSize} threads as well.
    */
   @Bean(name = "applicationEventMulticaster")
-  @ConditionalOnExpression("'${bdk.datafeed.event.async:true}' == 'true' or ('${bdk.datahose.enabled:false}' == 'true' and '${bdk.datahose.event.async:true}' == 'true')")
-  public ApplicationEventMulticaster simpleApplicationEventMulticaster() {
-    final SimpleApplicationEventMulticaster eventMulticaster = new SimpleApplicationEventMulticaster();
+  @ConditionalOnExpression("'${bdk.datahose.enabled:false}' == 'true' ? '${bdk.datahose.event.async:true}' == 'true'"
+      + " : '${bdk.datafeed.event.async:true}' == 'true'")
+  public ApplicationEventMulticaster realTimeEventMulticaster(SymphonyBdkCoreProperties properties,
+      @Value("${bdk.datahose.enabled:false}") boolean datahoseEnabled) {
+    final BdkEventDispatchConfig config =
+        datahoseEnabled ? properties.getDatahose().getEvent() : properties.getDatafeed().getEvent();
+    final RealTimeEventMulticaster eventMulticaster = new RealTimeEventMulticaster(config);
     SimpleAsyncTaskExecutor simpleAsyncTaskExecutor = new SimpleAsyncTaskExecutor();
     simpleAsyncTaskExecutor.setTaskDecorator(MDCUtils::wrap);
+    simpleAsyncTaskExecutor.setConcurrencyLimit(config.getPoolSize());
     eventMulticaster.setTaskExecutor(simpleAsyncTaskExecutor);
     return eventMulticaster;
   }
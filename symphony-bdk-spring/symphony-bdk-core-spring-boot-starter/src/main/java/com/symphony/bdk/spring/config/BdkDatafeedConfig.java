@@ -2,10 +2,12 @@ package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.auth.AuthSession;
 import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.DatafeedVersion;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.impl.DatafeedLoopV1;
 import com.symphony.bdk.core.service.datafeed.impl.DatafeedLoopV2;
+import com.symphony.bdk.core.service.datafeed.impl.MultiReaderLoop;
 import com.symphony.bdk.core.service.session.SessionService;
 import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
@@ -19,6 +21,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Injection of the {@link DatafeedLoop} instance into the Spring application context.
@@ -35,19 +38,34 @@ public class BdkDatafeedConfig {
 
   @Bean("datafeedLoop")
   @ConditionalOnMissingBean
+  @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
   public DatafeedLoop datafeedLoop(
       SymphonyBdkCoreProperties properties,
       @Qualifier("datafeedApi") DatafeedApi datafeedApi,
       AuthSession botSession,
       DatafeedVersion datafeedVersion,
-      BotInfoService botInfoService
+      BotInfoService botInfoService,
+      Optional<DatafeedMetrics> datafeedMetrics
   ) {
 
+    if (datafeedVersion == DatafeedVersion.V2 && properties.getDatafeed().getReaders() > 1) {
+      final MultiReaderLoop datafeedLoop =
+          MultiReaderLoop.datafeed(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+      datafeedMetrics.ifPresent(datafeedLoop::setMetrics);
+      return datafeedLoop;
+    }
+
     if (datafeedVersion == DatafeedVersion.V2) {
-      return new DatafeedLoopV2(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+      final DatafeedLoopV2 datafeedLoop =
+          new DatafeedLoopV2(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+      datafeedMetrics.ifPresent(datafeedLoop::setMetrics);
+      return datafeedLoop;
     }
 
-    return new DatafeedLoopV1(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+    final DatafeedLoopV1 datafeedLoop =
+        new DatafeedLoopV1(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+    datafeedMetrics.ifPresent(datafeedLoop::setMetrics);
+    return datafeedLoop;
   }
 
   @Bean(initMethod = "start", destroyMethod = "stop")
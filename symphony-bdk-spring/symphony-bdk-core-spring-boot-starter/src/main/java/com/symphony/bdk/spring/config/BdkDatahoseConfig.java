@@ -1,9 +1,12 @@
 package com.symphony.bdk.spring.config;
 
 import com.symphony.bdk.core.auth.AuthSession;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.DatahoseLoop;
 import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
 import com.symphony.bdk.core.service.datafeed.impl.DatahoseLoopImpl;
+import com.symphony.bdk.core.service.datafeed.impl.MultiReaderDatahoseLoop;
+import com.symphony.bdk.core.service.datafeed.impl.MultiReaderLoop;
 import com.symphony.bdk.gen.api.DatafeedApi;
 import com.symphony.bdk.spring.SymphonyBdkCoreProperties;
 import com.symphony.bdk.spring.service.BotInfoService;
@@ -16,6 +19,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
 import java.util.List;
+import java.util.Optional;
 
 @ConditionalOnProperty(value = "bdk.datahose.enabled", havingValue = "true")
 @ConditionalOnBean(name = "botSession")
@@ -23,11 +27,22 @@ public class BdkDatahoseConfig {
 
   @Bean("datahoseLoop")
   @ConditionalOnMissingBean
+  @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
   public DatahoseLoop datahoseLoop(SymphonyBdkCoreProperties properties,
                                        @Qualifier("datahoseApi") DatafeedApi datafeedApi,
                                        AuthSession botSession,
-                                       BotInfoService botInfoService) {
-    return new DatahoseLoopImpl(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+                                       BotInfoService botInfoService,
+                                       Optional<DatafeedMetrics> datafeedMetrics) {
+    if (properties.getDatahose().getReaders() > 1) {
+      final MultiReaderDatahoseLoop datahoseLoop =
+          MultiReaderLoop.datahose(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+      datafeedMetrics.ifPresent(datahoseLoop::setMetrics);
+      return datahoseLoop;
+    }
+    final DatahoseLoopImpl datahoseLoop =
+        new DatahoseLoopImpl(datafeedApi, botSession, properties, botInfoService.getBotInfo());
+    datafeedMetrics.ifPresent(datahoseLoop::setMetrics);
+    return datahoseLoop;
   }
 
   @Bean(initMethod = "start", destroyMethod = "stop")
@@ -0,0 +1,30 @@
+package com.symphony.bdk.spring.config;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.spring.metrics.MicrometerDatafeedMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.apiguardian.api.API;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Injection of the {@link DatafeedMetrics} recorder into the Spring application context, if Micrometer is available
+ * in the classpath. Measures are published to the application {@link MeterRegistry}, or to the Micrometer global
+ * registry if none is defined.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnProperty(value = "bdk.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class BdkMetricsConfig {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public DatafeedMetrics datafeedMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+    return new MicrometerDatafeedMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+}
@@ -0,0 +1,253 @@
+package com.symphony.bdk.spring.events;
+
+import com.symphony.bdk.core.config.model.BdkEventDispatchConfig;
+import com.symphony.bdk.core.service.datafeed.DatafeedLoop;
+import com.symphony.bdk.core.service.datafeed.util.DerivedEventData;
+import com.symphony.bdk.gen.api.model.V4InstantMessageCreated;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4MessageSuppressed;
+import com.symphony.bdk.gen.api.model.V4RoomCreated;
+import com.symphony.bdk.gen.api.model.V4RoomDeactivated;
+import com.symphony.bdk.gen.api.model.V4RoomMemberDemotedFromOwner;
+import com.symphony.bdk.gen.api.model.V4RoomMemberPromotedToOwner;
+import com.symphony.bdk.gen.api.model.V4RoomReactivated;
+import com.symphony.bdk.gen.api.model.V4RoomUpdated;
+import com.symphony.bdk.gen.api.model.V4SharedPost;
+import com.symphony.bdk.gen.api.model.V4Stream;
+import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
+import com.symphony.bdk.gen.api.model.V4UserJoinedRoom;
+import com.symphony.bdk.gen.api.model.V4UserLeftRoom;
+import com.symphony.bdk.gen.api.model.V4UserRequestedToJoinRoom;
+import com.symphony.bdk.http.api.tracing.MDCUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apiguardian.api.API;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multicasts the {@link RealTimeEvent}s published by the {@link RealTimeEventsDispatcher} on a bounded pool of threads,
+ * so that handling them does not block the {@link DatafeedLoop} thread.
+ * <p>
+ * The events of a same stream are handled one at a time, in the order they have been read, while the events of
+ * different streams are handled concurrently. The events that do not relate to a stream, such as the connection ones,
+ * are not ordered. At most {@link BdkEventDispatchConfig#getQueueSize()} events wait for a thread, after which
+ * publishing an event waits for a previous one to be handled, hence slowing down the reading of the feed.
+ * <p>
+ * The {@link org.slf4j.MDC} context and the {@link DerivedEventData} of the event are propagated to the thread handling
+ * it.
+ * <p>
+ * Other application events are multicast as by the {@link SimpleApplicationEventMulticaster}.
+ */
+@Slf4j
+@API(status = API.Status.EXPERIMENTAL)
+public class RealTimeEventMulticaster extends SimpleApplicationEventMulticaster implements DisposableBean {
+
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+
+  private final ThreadPoolExecutor executor;
+  private final int maxPendingEvents;
+  private final Semaphore pendingEvents;
+  // guarded by itself, a stream being present while its events are being handled
+  private final Map<String, StreamQueue> streams = new HashMap<>();
+
+  public RealTimeEventMulticaster(BdkEventDispatchConfig config) {
+    this.executor = new ThreadPoolExecutor(config.getPoolSize(), config.getPoolSize(), KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new CustomizableThreadFactory("RealTimeEvent-Thread-"));
+    this.executor.allowCoreThreadTimeOut(true);
+    this.maxPendingEvents = config.getPoolSize() + Math.max(config.getQueueSize(), 0);
+    this.pendingEvents = new Semaphore(this.maxPendingEvents);
+  }
+
+  @Override
+  public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
+    if (!(event instanceof RealTimeEvent)) {
+      super.multicastEvent(event, eventType);
+      return;
+    }
+
+    final RealTimeEvent<?> realTimeEvent = (RealTimeEvent<?>) event;
+    // resolved in the publishing thread, Spring caching the listeners per event type
+    final Collection<ApplicationListener<?>> listeners =
+        this.getApplicationListeners(realTimeEvent, realTimeEvent.getResolvableType());
+    if (listeners.isEmpty()) {
+      return;
+    }
+
+    final DerivedEventData data = DerivedEventData.current();
+    final Runnable dispatch = MDCUtils.wrap(() -> DerivedEventData.runWith(data, () -> {
+      for (ApplicationListener<?> listener : listeners) {
+        this.invokeRealTimeEventListener(listener, realTimeEvent);
+      }
+    }));
+
+    try {
+      this.pendingEvents.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while waiting to dispatch a {} event, handling it in the current thread",
+          realTimeEvent.getSource().getClass().getSimpleName());
+      dispatch.run();
+      return;
+    }
+
+    final Runnable task = () -> {
+      try {
+        dispatch.run();
+      } finally {
+        this.pendingEvents.release();
+      }
+    };
+    final String streamId = getStreamId(realTimeEvent.getSource());
+    if (streamId == null) {
+      this.submit(task);
+    } else {
+      this.submitInOrder(streamId, task);
+    }
+  }
+
+  /**
+   * @return the number of events waiting for a thread or being handled.
+   */
+  public int getPendingEvents() {
+    return this.maxPendingEvents - this.pendingEvents.availablePermits();
+  }
+
+  /**
+   * Stops the threads once the submitted events have been handled, the events published afterwards being handled in
+   * the publishing thread.
+   */
+  @Override
+  public void destroy() {
+    this.executor.shutdown();
+  }
+
+  private void invokeRealTimeEventListener(ApplicationListener<?> listener, RealTimeEvent<?> event) {
+    try {
+      this.invokeListener(listener, event);
+    } catch (RuntimeException e) {
+      // the following listeners of the event are still invoked
+      log.error("Listener {} failed to handle a {} event", listener, event.getSource().getClass().getSimpleName(), e);
+    }
+  }
+
+  private void submitInOrder(String streamId, Runnable task) {
+    final StreamQueue queue;
+    synchronized (this.streams) {
+      final StreamQueue current = this.streams.get(streamId);
+      if (current != null) {
+        // the stream events are already being handled, the task will follow them
+        current.tasks.add(task);
+        return;
+      }
+      queue = new StreamQueue(streamId);
+      queue.tasks.add(task);
+      this.streams.put(streamId, queue);
+    }
+    this.submit(queue);
+  }
+
+  private void submit(Runnable task) {
+    try {
+      this.executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      log.debug("Event dispatch threads have been stopped, handling the event in the current thread");
+      task.run();
+    }
+  }
+
+  @Nullable
+  private static String getStreamId(Object payload) {
+    final V4Stream stream;
+    if (payload instanceof V4MessageSent) {
+      stream = getStream(((V4MessageSent) payload).getMessage());
+    } else if (payload instanceof V4SharedPost) {
+      stream = getStream(((V4SharedPost) payload).getMessage());
+    } else if (payload instanceof V4InstantMessageCreated) {
+      stream = ((V4InstantMessageCreated) payload).getStream();
+    } else if (payload instanceof V4RoomCreated) {
+      stream = ((V4RoomCreated) payload).getStream();
+    } else if (payload instanceof V4RoomUpdated) {
+      stream = ((V4RoomUpdated) payload).getStream();
+    } else if (payload instanceof V4RoomDeactivated) {
+      stream = ((V4RoomDeactivated) payload).getStream();
+    } else if (payload instanceof V4RoomReactivated) {
+      stream = ((V4RoomReactivated) payload).getStream();
+    } else if (payload instanceof V4UserRequestedToJoinRoom) {
+      stream = ((V4UserRequestedToJoinRoom) payload).getStream();
+    } else if (payload instanceof V4UserJoinedRoom) {
+      stream = ((V4UserJoinedRoom) payload).getStream();
+    } else if (payload instanceof V4UserLeftRoom) {
+      stream = ((V4UserLeftRoom) payload).getStream();
+    } else if (payload instanceof V4RoomMemberPromotedToOwner) {
+      stream = ((V4RoomMemberPromotedToOwner) payload).getStream();
+    } else if (payload instanceof V4RoomMemberDemotedFromOwner) {
+      stream = ((V4RoomMemberDemotedFromOwner) payload).getStream();
+    } else if (payload instanceof V4MessageSuppressed) {
+      stream = ((V4MessageSuppressed) payload).getStream();
+    } else if (payload instanceof V4SymphonyElementsAction) {
+      stream = ((V4SymphonyElementsAction) payload).getStream();
+    } else {
+      stream = null;
+    }
+    return stream == null ? null : stream.getStreamId();
+  }
+
+  @Nullable
+  private static V4Stream getStream(@Nullable V4Message message) {
+    return message == null ? null : message.getStream();
+  }
+
+  /**
+   * Handles the events of a stream one at a time, giving the thread back between two events so that a busy stream
+   * does not delay the other ones.
+   */
+  private class StreamQueue implements Runnable {
+
+    private final String streamId;
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    StreamQueue(String streamId) {
+      this.streamId = streamId;
+    }
+
+    @Override
+    public void run() {
+      final Runnable task;
+      synchronized (streams) {
+        task = this.tasks.poll();
+      }
+      try {
+        task.run();
+      } finally {
+        final boolean hasNext;
+        synchronized (streams) {
+          hasNext = !this.tasks.isEmpty();
+          if (!hasNext) {
+            streams.remove(this.streamId);
+          }
+        }
+        if (hasNext) {
+          submit(this);
+        }
+      }
+    }
+  }
+}
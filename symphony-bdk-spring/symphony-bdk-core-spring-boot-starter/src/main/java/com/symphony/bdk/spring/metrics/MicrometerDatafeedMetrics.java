@@ -0,0 +1,174 @@
+package com.symphony.bdk.spring.metrics;
+
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apiguardian.api.API;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DatafeedMetrics} implementation publishing the datafeed, datahose and activities measures to a Micrometer
+ * {@link MeterRegistry}. Meters are then exposed by the Spring Boot actuator metrics endpoint.
+ * <p>
+ * Published meters:
+ * <ul>
+ *   <li>{@value #BATCH_SIZE}: number of events received per read call</li>
+ *   <li>{@value #READ}: duration of the read calls</li>
+ *   <li>{@value #EVENT_LAG}: difference between the dispatch time and the event timestamp, tagged by event type</li>
+ *   <li>{@value #DISPATCH}: time spent in each listener, tagged by event type and listener</li>
+ *   <li>{@value #ACTIVITY}: time spent in each activity, tagged by activity name</li>
+ *   <li>{@value #ACTIVITY_TIMEOUT}: number of cancelled activity executions, tagged by activity name</li>
+ *   <li>{@value #ACTIVITY_REJECTED}: number of events ignored by an activity because of its concurrency limits, tagged
+ *   by activity name</li>
+ *   <li>{@value #REQUEUED}: number of batches that were not acknowledged</li>
+ *   <li>{@value #UNSUPPORTED}: number of received events of unsupported type, tagged by event type</li>
+ *   <li>{@value #DUPLICATE}: number of dropped events that had already been handled, tagged by event type</li>
+ *   <li>{@value #CACHE_GETS}: number of cache lookups, tagged by cache name and result (hit or miss)</li>
+ * </ul>
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class MicrometerDatafeedMetrics implements DatafeedMetrics {
+
+  public static final String BATCH_SIZE = "bdk.datafeed.batch.size";
+  public static final String READ = "bdk.datafeed.read";
+  public static final String EVENT_LAG = "bdk.datafeed.event.lag";
+  public static final String DISPATCH = "bdk.datafeed.dispatch";
+  public static final String ACTIVITY = "bdk.activity.execution";
+  public static final String ACTIVITY_TIMEOUT = "bdk.activity.timeout";
+  public static final String ACTIVITY_REJECTED = "bdk.activity.rejected";
+  public static final String REQUEUED = "bdk.datafeed.batch.requeued";
+  public static final String UNSUPPORTED = "bdk.datafeed.event.unsupported";
+  public static final String DUPLICATE = "bdk.datafeed.event.duplicate";
+  public static final String CACHE_GETS = "bdk.cache.gets";
+
+  private static final String TYPE_TAG = "type";
+  private static final String LISTENER_TAG = "listener";
+  private static final String ACTIVITY_TAG = "activity";
+  private static final String CACHE_TAG = "cache";
+  private static final String RESULT_TAG = "result";
+  private static final String UNKNOWN = "unknown";
+
+  private final MeterRegistry registry;
+  private final DistributionSummary batchSize;
+  private final Timer read;
+  private final Counter requeued;
+
+  // meters are cached to avoid building meter ids on the hot path
+  private final Map<String, Timer> lagTimers = new ConcurrentHashMap<>();
+  private final Map<String, Timer> dispatchTimers = new ConcurrentHashMap<>();
+  private final Map<String, Timer> activityTimers = new ConcurrentHashMap<>();
+  private final Map<String, Counter> activityTimeoutCounters = new ConcurrentHashMap<>();
+  private final Map<String, Counter> activityRejectedCounters = new ConcurrentHashMap<>();
+  private final Map<String, Counter> unsupportedCounters = new ConcurrentHashMap<>();
+  private final Map<String, Counter> duplicateCounters = new ConcurrentHashMap<>();
+  private final Map<String, Counter> cacheHitCounters = new ConcurrentHashMap<>();
+  private final Map<String, Counter> cacheMissCounters = new ConcurrentHashMap<>();
+
+  public MicrometerDatafeedMetrics(MeterRegistry registry) {
+    this.registry = registry;
+    this.batchSize = DistributionSummary.builder(BATCH_SIZE)
+        .description("Number of events received per read call")
+        .baseUnit("events")
+        .register(registry);
+    this.read = Timer.builder(READ)
+        .description("Duration of the datafeed read calls")
+        .register(registry);
+    this.requeued = Counter.builder(REQUEUED)
+        .description("Number of batches of events that have been re-queued")
+        .register(registry);
+  }
+
+  @Override
+  public void recordRead(int eventsCount, long durationNanos) {
+    this.batchSize.record(eventsCount);
+    this.read.record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void recordEventLag(String eventType, long lagMillis) {
+    this.lagTimers.computeIfAbsent(eventType, type -> Timer.builder(EVENT_LAG)
+        .description("Delay between the event creation and its dispatch")
+        .tag(TYPE_TAG, type)
+        .register(this.registry)
+    ).record(Math.max(lagMillis, 0), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void recordDispatch(String eventType, RealTimeEventListener listener, long durationNanos) {
+    final String listenerName = listener.getClass().getName();
+    this.dispatchTimers.computeIfAbsent(eventType + "/" + listenerName, key -> Timer.builder(DISPATCH)
+        .description("Time spent by a listener to handle an event")
+        .tag(TYPE_TAG, eventType)
+        .tag(LISTENER_TAG, listenerName)
+        .register(this.registry)
+    ).record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void recordActivityExecution(String activityName, long durationNanos) {
+    this.activityTimers.computeIfAbsent(activityName, name -> Timer.builder(ACTIVITY)
+        .description("Time spent by an activity to handle an event")
+        .tag(ACTIVITY_TAG, name)
+        .register(this.registry)
+    ).record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void incrementActivityTimeouts(String activityName) {
+    this.activityTimeoutCounters.computeIfAbsent(activityName, name -> Counter.builder(ACTIVITY_TIMEOUT)
+        .description("Number of activity executions cancelled after their maximum duration")
+        .tag(ACTIVITY_TAG, name)
+        .register(this.registry)
+    ).increment();
+  }
+
+  @Override
+  public void incrementRejectedActivityExecutions(String activityName) {
+    this.activityRejectedCounters.computeIfAbsent(activityName, name -> Counter.builder(ACTIVITY_REJECTED)
+        .description("Number of events ignored by an activity that reached its maximum concurrent executions")
+        .tag(ACTIVITY_TAG, name)
+        .register(this.registry)
+    ).increment();
+  }
+
+  @Override
+  public void incrementRequeuedBatches() {
+    this.requeued.increment();
+  }
+
+  @Override
+  public void incrementUnsupportedEvents(String eventType) {
+    this.unsupportedCounters.computeIfAbsent(eventType == null ? UNKNOWN : eventType, type -> Counter.builder(UNSUPPORTED)
+        .description("Number of received events with an unsupported type")
+        .tag(TYPE_TAG, type)
+        .register(this.registry)
+    ).increment();
+  }
+
+  @Override
+  public void incrementDuplicateEvents(String eventType) {
+    this.duplicateCounters.computeIfAbsent(eventType == null ? UNKNOWN : eventType, type -> Counter.builder(DUPLICATE)
+        .description("Number of received events dropped as already handled")
+        .tag(TYPE_TAG, type)
+        .register(this.registry)
+    ).increment();
+  }
+
+  @Override
+  public void incrementCacheGets(String cacheName, boolean hit) {
+    final String name = cacheName == null ? UNKNOWN : cacheName;
+    (hit ? this.cacheHitCounters : this.cacheMissCounters).computeIfAbsent(name, key -> Counter.builder(CACHE_GETS)
+        .description("Number of cache lookups")
+        .tag(CACHE_TAG, key)
+        .tag(RESULT_TAG, hit ? "hit" : "miss")
+        .register(this.registry)
+    ).increment();
+  }
+}
@@ -3,12 +3,14 @@ package com.symphony.bdk.spring;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import com.symphony.bdk.core.activity.ActivityExecutor;
 import com.symphony.bdk.core.activity.ActivityRegistry;
 import com.symphony.bdk.core.auth.ExtensionAppAuthenticator;
 import com.symphony.bdk.core.auth.OboAuthenticator;
 import com.symphony.bdk.core.auth.exception.AuthInitializationException;
 import com.symphony.bdk.core.client.loadbalancing.DatafeedLoadBalancedApiClient;
 import com.symphony.bdk.core.extension.ExtensionService;
+import com.symphony.bdk.core.service.datafeed.DatafeedMetrics;
 import com.symphony.bdk.core.service.datafeed.impl.DatafeedLoopV1;
 import com.symphony.bdk.core.service.datafeed.impl.DatafeedLoopV2;
 import com.symphony.bdk.core.service.datafeed.impl.DatahoseLoopImpl;
@@ -19,6 +21,7 @@ import com.symphony.bdk.spring.annotation.SlashAnnotationProcessor;
 import com.symphony.bdk.spring.config.BdkActivityConfig;
 import com.symphony.bdk.spring.config.BdkOboServiceConfig;
 import com.symphony.bdk.spring.config.BdkServiceConfig;
+import com.symphony.bdk.spring.events.RealTimeEventMulticaster;
 import com.symphony.bdk.spring.events.RealTimeEventsDispatcher;
 import com.symphony.bdk.spring.extension.TestExtension;
 import com.symphony.bdk.spring.extension.TestExtensionService;
@@ -64,6 +67,7 @@ class SymphonyBdkAutoConfigurationTest {
       assertThat(context).hasSingleBean(HealthService.class);
       assertThat(context).hasSingleBean(DatafeedAsyncLauncherService.class);
       assertThat(context).hasSingleBean(RealTimeEventsDispatcher.class);
+      assertThat(context).hasSingleBean(DatafeedMetrics.class);
 
       // verify datahose not enabled by default
       assertThat(context).doesNotHaveBean(DatahoseLoopImpl.class);
@@ -162,6 +166,7 @@ class SymphonyBdkAutoConfigurationTest {
       assertThat(context).hasSingleBean(DatafeedAsyncLauncherService.class);
       assertThat(context).hasSingleBean(RealTimeEventsDispatcher.class);
       assertThat(context).hasSingleBean(BdkActivityConfig.class);
+      assertThat(context).hasSingleBean(ActivityExecutor.class);
 
       assertThat(context).doesNotHaveBean(DatahoseLoopImpl.class);
       assertThat(context).doesNotHaveBean(DatahoseAsyncLauncherService.class);
@@ -414,6 +419,28 @@ class SymphonyBdkAutoConfigurationTest {
       assertThat(context).hasSingleBean(DatahoseLoopImpl.class);
       assertThat(context).hasSingleBean(DatahoseAsyncLauncherService.class);
       assertThat(context).hasSingleBean(RealTimeEventsDispatcher.class);
+      assertThat(context).hasSingleBean(RealTimeEventMulticaster.class);
+    });
+  }
+
+  @Test
+  void shouldDispatchDatahoseEventsSynchronouslyIfDisabled() {
+    final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withPropertyValues(
+            "bdk.host=localhost",
+
+            "bdk.bot.username=testbot",
+            "bdk.bot.privateKey.path=classpath:/privatekey.pem",
+            "bdk.datafeed.enabled=false",
+            "bdk.datahose.enabled=true",
+            "bdk.datahose.event.async=false"
+        )
+        .withUserConfiguration(SymphonyBdkMockedConfiguration.class)
+        .withConfiguration(AutoConfigurations.of(SymphonyBdkAutoConfiguration.class));
+
+    contextRunner.run(context -> {
+      assertThat(context).hasSingleBean(RealTimeEventsDispatcher.class);
+      assertThat(context).doesNotHaveBean(RealTimeEventMulticaster.class);
     });
   }
 
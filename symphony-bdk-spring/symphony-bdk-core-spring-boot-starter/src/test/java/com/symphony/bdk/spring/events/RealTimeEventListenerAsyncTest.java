@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import com.symphony.bdk.core.config.model.BdkEventDispatchConfig;
 import com.symphony.bdk.gen.api.model.V4Initiator;
 import com.symphony.bdk.gen.api.model.V4SymphonyElementsAction;
 import com.symphony.bdk.http.api.tracing.DistributedTracingContext;
@@ -23,7 +24,6 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.event.ApplicationEventMulticaster;
-import org.springframework.context.event.SimpleApplicationEventMulticaster;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -73,7 +73,7 @@ public class RealTimeEventListenerAsyncTest {
   static class TestContextConfig {
     @Bean(name = "applicationEventMulticaster")
     public ApplicationEventMulticaster simpleApplicationEventMulticaster() {
-      final SimpleApplicationEventMulticaster eventMulticaster = new SimpleApplicationEventMulticaster();
+      final RealTimeEventMulticaster eventMulticaster = new RealTimeEventMulticaster(new BdkEventDispatchConfig());
       SimpleAsyncTaskExecutor simpleAsyncTaskExecutor = new SimpleAsyncTaskExecutor();
       simpleAsyncTaskExecutor.setTaskDecorator(MDCUtils::wrap);
       eventMulticaster.setTaskExecutor(simpleAsyncTaskExecutor);
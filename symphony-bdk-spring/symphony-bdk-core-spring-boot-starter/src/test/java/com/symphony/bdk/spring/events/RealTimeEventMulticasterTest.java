@@ -0,0 +1,225 @@
+package com.symphony.bdk.spring.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.config.model.BdkEventDispatchConfig;
+import com.symphony.bdk.core.service.datafeed.util.DerivedEventData;
+import com.symphony.bdk.gen.api.model.V4ConnectionAccepted;
+import com.symphony.bdk.gen.api.model.V4Event;
+import com.symphony.bdk.gen.api.model.V4Initiator;
+import com.symphony.bdk.gen.api.model.V4Message;
+import com.symphony.bdk.gen.api.model.V4MessageSent;
+import com.symphony.bdk.gen.api.model.V4Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.ResolvableType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+class RealTimeEventMulticasterTest {
+
+  private RealTimeEventMulticaster multicaster;
+
+  @AfterEach
+  void tearDown() {
+    if (this.multicaster != null) {
+      this.multicaster.destroy();
+    }
+    MDC.clear();
+  }
+
+  @Test
+  void shouldHandleEventsOfSameStreamInOrder() throws InterruptedException {
+    this.multicaster = new RealTimeEventMulticaster(config(4, 100));
+    final Map<String, List<String>> handled = new ConcurrentHashMap<>();
+    final CountDownLatch latch = new CountDownLatch(40);
+    this.multicaster.addApplicationListener(listener(V4MessageSent.class, event -> {
+      final V4Message message = event.getSource().getMessage();
+      handled.computeIfAbsent(message.getStream().getStreamId(), id -> Collections.synchronizedList(new ArrayList<>()))
+          .add(message.getMessageId());
+      latch.countDown();
+    }));
+
+    final List<String> published = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      published.add(String.valueOf(i));
+      this.multicaster.multicastEvent(messageSent("stream-a", String.valueOf(i)));
+      this.multicaster.multicastEvent(messageSent("stream-b", String.valueOf(i)));
+    }
+
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(handled.get("stream-a")).isEqualTo(published);
+    assertThat(handled.get("stream-b")).isEqualTo(published);
+  }
+
+  @Test
+  void shouldHandleEventsOfDifferentStreamsConcurrently() throws InterruptedException {
+    this.multicaster = new RealTimeEventMulticaster(config(2, 100));
+    final CountDownLatch streamBHandled = new CountDownLatch(1);
+    final CountDownLatch streamAHandled = new CountDownLatch(1);
+    this.multicaster.addApplicationListener(listener(V4MessageSent.class, event -> {
+      if ("stream-a".equals(event.getSource().getMessage().getStream().getStreamId())) {
+        await(streamBHandled);
+        streamAHandled.countDown();
+      } else {
+        streamBHandled.countDown();
+      }
+    }));
+
+    this.multicaster.multicastEvent(messageSent("stream-a", "1"));
+    this.multicaster.multicastEvent(messageSent("stream-b", "2"));
+
+    assertThat(streamAHandled.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldHandleEventsWithoutStream() throws InterruptedException {
+    this.multicaster = new RealTimeEventMulticaster(config(2, 100));
+    final CountDownLatch latch = new CountDownLatch(1);
+    this.multicaster.addApplicationListener(
+        listener(V4ConnectionAccepted.class, event -> latch.countDown()));
+
+    this.multicaster.multicastEvent(new RealTimeEvent<>(new V4Initiator(), new V4ConnectionAccepted()));
+
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldWaitForPendingEventsWhenQueueIsFull() throws InterruptedException {
+    this.multicaster = new RealTimeEventMulticaster(config(1, 0));
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch handled = new CountDownLatch(2);
+    this.multicaster.addApplicationListener(listener(V4MessageSent.class, event -> {
+      await(release);
+      handled.countDown();
+    }));
+
+    this.multicaster.multicastEvent(messageSent("stream-a", "1"));
+    final Thread publisher = new Thread(() -> this.multicaster.multicastEvent(messageSent("stream-b", "2")));
+    publisher.start();
+    publisher.join(200);
+
+    assertThat(publisher.isAlive()).isTrue();
+    assertThat(this.multicaster.getPendingEvents()).isEqualTo(1);
+
+    release.countDown();
+    publisher.join(5_000);
+    assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldPropagateMdcAndDerivedEventData() throws InterruptedException {
+    this.multicaster = new RealTimeEventMulticaster(config(2, 100));
+    final DerivedEventData data = new DerivedEventData(new V4Event());
+    final AtomicReference<String> traceId = new AtomicReference<>();
+    final AtomicReference<DerivedEventData> currentData = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    this.multicaster.addApplicationListener(listener(V4MessageSent.class, event -> {
+      traceId.set(MDC.get("X-Trace-Id"));
+      currentData.set(DerivedEventData.current());
+      latch.countDown();
+    }));
+
+    MDC.put("X-Trace-Id", "trace-id");
+    DerivedEventData.runWith(data, () -> this.multicaster.multicastEvent(messageSent("stream-a", "1")));
+
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(traceId).hasValue("trace-id");
+    assertThat(currentData).hasValue(data);
+  }
+
+  @Test
+  void shouldInvokeFollowingListenersWhenOneFails() throws InterruptedException {
+    this.multicaster = new RealTimeEventMulticaster(config(2, 100));
+    final CountDownLatch latch = new CountDownLatch(1);
+    this.multicaster.addApplicationListener(listener(V4MessageSent.class, event -> {
+      throw new IllegalStateException("failure");
+    }));
+    this.multicaster.addApplicationListener(
+        listener(V4MessageSent.class, event -> latch.countDown()));
+
+    this.multicaster.multicastEvent(messageSent("stream-a", "1"));
+
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldMulticastOtherEventsInPublishingThread() {
+    this.multicaster = new RealTimeEventMulticaster(config(2, 100));
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    this.multicaster.addApplicationListener(
+        (ApplicationListener<TestEvent>) event -> thread.set(Thread.currentThread()));
+
+    this.multicaster.multicastEvent(new TestEvent());
+
+    assertThat(thread).hasValue(Thread.currentThread());
+  }
+
+  @Test
+  void shouldHandleEventsInPublishingThreadOnceDestroyed() {
+    this.multicaster = new RealTimeEventMulticaster(config(2, 100));
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    this.multicaster.addApplicationListener(
+        listener(V4MessageSent.class, event -> thread.set(Thread.currentThread())));
+
+    this.multicaster.destroy();
+    this.multicaster.multicastEvent(messageSent("stream-a", "1"));
+
+    assertThat(thread).hasValue(Thread.currentThread());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ApplicationListener<?> listener(Class<T> payloadType, Consumer<RealTimeEvent<T>> consumer) {
+    return new GenericApplicationListener() {
+      @Override
+      public boolean supportsEventType(ResolvableType eventType) {
+        return ResolvableType.forClassWithGenerics(RealTimeEvent.class, payloadType).isAssignableFrom(eventType);
+      }
+
+      @Override
+      public void onApplicationEvent(ApplicationEvent event) {
+        consumer.accept((RealTimeEvent<T>) event);
+      }
+    };
+  }
+
+  private static BdkEventDispatchConfig config(int poolSize, int queueSize) {
+    final BdkEventDispatchConfig config = new BdkEventDispatchConfig();
+    config.setPoolSize(poolSize);
+    config.setQueueSize(queueSize);
+    return config;
+  }
+
+  private static RealTimeEvent<V4MessageSent> messageSent(String streamId, String messageId) {
+    return new RealTimeEvent<>(new V4Initiator(), new V4MessageSent().message(
+        new V4Message().messageId(messageId).stream(new V4Stream().streamId(streamId))));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class TestEvent extends ApplicationEvent {
+
+    TestEvent() {
+      super("test");
+    }
+  }
+}
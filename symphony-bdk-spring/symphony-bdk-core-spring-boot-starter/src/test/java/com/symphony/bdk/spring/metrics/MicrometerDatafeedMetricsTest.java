@@ -0,0 +1,114 @@
+package com.symphony.bdk.spring.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.symphony.bdk.core.service.datafeed.RealTimeEventListener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the {@link MicrometerDatafeedMetrics}.
+ */
+class MicrometerDatafeedMetricsTest {
+
+  private SimpleMeterRegistry registry;
+  private MicrometerDatafeedMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    this.registry = new SimpleMeterRegistry();
+    this.metrics = new MicrometerDatafeedMetrics(this.registry);
+  }
+
+  @Test
+  void shouldRecordRead() {
+    this.metrics.recordRead(3, TimeUnit.MILLISECONDS.toNanos(20));
+    this.metrics.recordRead(1, TimeUnit.MILLISECONDS.toNanos(10));
+
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.BATCH_SIZE).summary().totalAmount()).isEqualTo(4);
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.READ).timer().count()).isEqualTo(2);
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.READ).timer().totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(30);
+  }
+
+  @Test
+  void shouldRecordEventLag() {
+    this.metrics.recordEventLag("MESSAGESENT", 150);
+    this.metrics.recordEventLag("MESSAGESENT", -10);
+
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.EVENT_LAG).tag("type", "MESSAGESENT").timer()
+        .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(150);
+  }
+
+  @Test
+  void shouldRecordDispatchPerListener() {
+    final RealTimeEventListener listener = new RealTimeEventListener() {};
+    this.metrics.recordDispatch("MESSAGESENT", listener, 100);
+    this.metrics.recordDispatch("MESSAGESENT", listener, 100);
+    this.metrics.recordDispatch("ROOMCREATED", listener, 100);
+
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.DISPATCH)
+        .tag("type", "MESSAGESENT")
+        .tag("listener", listener.getClass().getName())
+        .timer().count()).isEqualTo(2);
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.DISPATCH).timers()).hasSize(2);
+  }
+
+  @Test
+  void shouldRecordActivityExecution() {
+    this.metrics.recordActivityExecution("/hello", 100);
+
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.ACTIVITY).tag("activity", "/hello").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldCountActivityTimeoutsAndRejections() {
+    this.metrics.incrementActivityTimeouts("/hello");
+    this.metrics.incrementActivityTimeouts("/hello");
+    this.metrics.incrementRejectedActivityExecutions("/hello");
+
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.ACTIVITY_TIMEOUT).tag("activity", "/hello").counter()
+        .count()).isEqualTo(2);
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.ACTIVITY_REJECTED).tag("activity", "/hello").counter()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCountRequeuedBatchesAndUnsupportedEvents() {
+    this.metrics.incrementRequeuedBatches();
+    this.metrics.incrementUnsupportedEvents("FOO");
+    this.metrics.incrementUnsupportedEvents(null);
+
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.REQUEUED).counter().count()).isEqualTo(1);
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.UNSUPPORTED).tag("type", "FOO").counter().count())
+        .isEqualTo(1);
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.UNSUPPORTED).tag("type", "unknown").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldCountDuplicateEvents() {
+    this.metrics.incrementDuplicateEvents("MESSAGESENT");
+    this.metrics.incrementDuplicateEvents("MESSAGESENT");
+
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.DUPLICATE).tag("type", "MESSAGESENT").counter().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldCountCacheGets() {
+    this.metrics.incrementCacheGets("users", true);
+    this.metrics.incrementCacheGets("users", true);
+    this.metrics.incrementCacheGets("users", false);
+
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.CACHE_GETS).tag("cache", "users").tag("result", "hit")
+        .counter().count()).isEqualTo(2);
+    assertThat(this.registry.get(MicrometerDatafeedMetrics.CACHE_GETS).tag("cache", "users").tag("result", "miss")
+        .counter().count()).isEqualTo(1);
+  }
+}